@@ -0,0 +1,106 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 배포 디바이스 집합의 Redis SET 인코딩과 비트맵 인코딩을 비교합니다.
+ * 각 반복마다 deviceCount개의 디바이스를 채운 뒤 조회/판정 지연 시간을 측정하고,
+ * 시도(trial)가 끝날 때 두 인코딩이 차지하는 키 메모리(MEMORY USAGE)를 출력합니다.
+ * <p>
+ * 로컬 Redis가 필요합니다(-Djmh.redis.host, -Djmh.redis.port, 기본 localhost:6379).
+ * 실행: ./gradlew jmh -PjmhIncludes=DeploymentDeviceStoreBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeploymentDeviceStoreBenchmark {
+    private static final String COMMAND_ID = "bench-deployment";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int JUDGE_BATCH_SIZE = 1000;
+
+    @Param({"set", "bitmap"})
+    private String encoding;
+
+    @Param({"10000", "100000"})
+    private int deviceCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate srt;
+    private DeploymentDeviceStore store;
+    private List<Long> deviceIds;
+    private List<Long> judgeBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("jmh.redis.host", "localhost"),
+                Integer.getInteger("jmh.redis.port", 6379)
+        ));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        srt = new StringRedisTemplate(connectionFactory);
+
+        if (encoding.equals("bitmap")) {
+            RedisBitmapDeploymentDeviceStore bitmapStore = new RedisBitmapDeploymentDeviceStore(srt);
+            ReflectionTestUtils.setField(bitmapStore, "readChunkBytes", 65536);
+            ReflectionTestUtils.setField(bitmapStore, "maxDeviceId", 16_777_215L);
+            ReflectionTestUtils.setField(bitmapStore, "scanCount", 1000L);
+            bitmapStore.init();
+            store = bitmapStore;
+        } else {
+            RedisSetDeploymentDeviceStore setStore = new RedisSetDeploymentDeviceStore(srt);
+            ReflectionTestUtils.setField(setStore, "scanCount", 1000L);
+            store = setStore;
+        }
+
+        deviceIds = LongStream.rangeClosed(1, deviceCount).boxed().toList();
+        judgeBatch = deviceIds.subList(deviceCount - JUDGE_BATCH_SIZE, deviceCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        store.delete(COMMAND_ID);
+        store.add(COMMAND_ID, deviceIds, TTL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fill();
+        String key = encoding.equals("bitmap") ? "deploy:devices:" + COMMAND_ID : COMMAND_ID;
+        Long bytes = srt.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                "MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        System.out.printf("%n[MEMORY] encoding=%s, devices=%d, bytes=%d%n", encoding, deviceCount, bytes);
+
+        store.delete(COMMAND_ID);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public List<Long> findMembers() {
+        return store.findMembers(COMMAND_ID, judgeBatch);
+    }
+
+    @Benchmark
+    public long count() {
+        return store.count(COMMAND_ID);
+    }
+
+    @Benchmark
+    public List<Long> members() {
+        return store.members(COMMAND_ID);
+    }
+}
@@ -0,0 +1,166 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.SystemStatus;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+/**
+ * 디바이스 목록 조회 시 디바이스별 최신 system_status를 읽는 방식별 지연 시간을 비교합니다.
+ * perDeviceLookup은 제거된 findLatestByDeviceId처럼 디바이스마다 ORDER BY ... LIMIT 1 쿼리를 한 번씩 실행하고,
+ * batchedLookup은 {@link DeviceStatusJdbcRepository#findLatestByDeviceIds}처럼 1000개 단위 IN 절로 한 번에 조회합니다.
+ * H2는 QuestDB의 LATEST ON 구문을 지원하지 않으므로 디바이스별 MAX("timestamp") 조인으로 같은 결과를 얻습니다.
+ * <p>
+ * 임베디드 H2는 쿼리 한 번의 비용이 수 마이크로초에 불과하고 큰 IN 절은 오히려 느리게 처리하므로,
+ * roundTripMicros가 0이면 쿼리 수를 줄인 효과보다 H2 엔진 비용이 결과를 좌우합니다.
+ * QuestDB는 별도 서버에 네트워크로 접속하므로, roundTripMicros만큼 쿼리마다 대기해 왕복 지연을 흉내 낸 결과를 함께 비교합니다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes=DeviceStatusLatestLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeviceStatusLatestLookupBenchmark {
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    private static final int SAMPLES_PER_DEVICE = 5;
+
+    @Param({"1000", "10000", "50000"})
+    private int deviceCount;
+
+    @Param({"0", "200"})
+    private long roundTripMicros;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbc;
+    private List<Long> deviceIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:system_status;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        jdbcTemplate.execute("""
+                CREATE TABLE system_status (
+                    device_id BIGINT NOT NULL,
+                    cpu_core_0 DOUBLE PRECISION,
+                    cpu_core_1 DOUBLE PRECISION,
+                    memory_usage DOUBLE PRECISION,
+                    storage_usage DOUBLE PRECISION,
+                    uptime BIGINT,
+                    "timestamp" TIMESTAMP WITH TIME ZONE NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX idx_system_status_device_ts ON system_status (device_id, \"timestamp\")");
+
+        OffsetDateTime base = OffsetDateTime.now(ZoneOffset.UTC).minusHours(1);
+        deviceIds = LongStream.rangeClosed(1, deviceCount).boxed().toList();
+        List<Object[]> rows = new ArrayList<>(IN_CLAUSE_CHUNK_SIZE);
+        for (Long deviceId : deviceIds) {
+            for (int sample = 0; sample < SAMPLES_PER_DEVICE; sample++) {
+                rows.add(new Object[]{deviceId, 10.0, 20.0, 30.0, 40.0, (long) sample, base.plusMinutes(sample)});
+            }
+            if (rows.size() >= IN_CLAUSE_CHUNK_SIZE) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE system_status");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Long2ObjectMap<SystemStatus> perDeviceLookup() {
+        String sql = """
+                SELECT *
+                FROM system_status
+                WHERE device_id = ?
+                ORDER BY "timestamp" DESC
+                LIMIT 1
+                """;
+        Long2ObjectMap<SystemStatus> result = new Long2ObjectOpenHashMap<>(deviceIds.size());
+        for (Long deviceId : deviceIds) {
+            roundTrip();
+            List<SystemStatus> latest = jdbcTemplate.query(sql, MAPPER, deviceId);
+            if (!latest.isEmpty()) {
+                result.put(deviceId.longValue(), latest.get(0));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Long2ObjectMap<SystemStatus> batchedLookup() {
+        String sql = """
+                SELECT s.*
+                FROM system_status s
+                JOIN (SELECT device_id, MAX("timestamp") AS latest
+                      FROM system_status
+                      WHERE device_id IN (:ids)
+                      GROUP BY device_id) AS m
+                  ON s.device_id = m.device_id AND s."timestamp" = m.latest
+                """;
+        Long2ObjectMap<SystemStatus> result = new Long2ObjectOpenHashMap<>(deviceIds.size());
+        for (int from = 0; from < deviceIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = deviceIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, deviceIds.size()));
+            roundTrip();
+            namedJdbc.query(sql, Map.of("ids", chunk), rs -> {
+                SystemStatus status = MAPPER.mapRow(rs, rs.getRow());
+                result.put(status.getDeviceId().longValue(), status);
+            });
+        }
+
+        return result;
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO system_status (device_id, cpu_core_0, cpu_core_1, memory_usage, storage_usage, uptime, \"timestamp\") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    private static final RowMapper<SystemStatus> MAPPER = (rs, rowNum) -> {
+        SystemStatus status = new SystemStatus();
+        status.setDeviceId(rs.getLong("device_id"));
+        status.setCpuCore0(rs.getDouble("cpu_core_0"));
+        status.setCpuCore1(rs.getDouble("cpu_core_1"));
+        status.setMemoryUsage(rs.getDouble("memory_usage"));
+        status.setStorageUsage(rs.getDouble("storage_usage"));
+        status.setUptime(rs.getLong("uptime"));
+        status.setTimestamp(rs.getObject("timestamp", OffsetDateTime.class));
+
+        return status;
+    };
+}
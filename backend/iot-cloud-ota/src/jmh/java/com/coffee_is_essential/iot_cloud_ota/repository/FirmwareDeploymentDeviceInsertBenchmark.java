@@ -0,0 +1,87 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * firmware_deployment_device 저장 방식별 처리량을 비교합니다.
+ * multiRowInsert는 {@link FirmwareDeploymentDeviceJdbcRepository#saveAll}의 1000행 단위 다중 행 INSERT이고,
+ * singleRowInsert는 IDENTITY 엔티티를 saveAll 했을 때처럼 행마다 INSERT를 한 번씩 실행합니다.
+ * 임베디드 H2(MySQL 모드)를 사용하므로 네트워크 왕복 비용은 빠져 있으며, 절대값보다 두 방식의 상대 비교로 봐야 합니다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes=FirmwareDeploymentDeviceInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FirmwareDeploymentDeviceInsertBenchmark {
+    private static final Long DEPLOYMENT_ID = 1L;
+
+    @Param({"1000", "10000", "50000"})
+    private int deviceCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private FirmwareDeploymentDeviceJdbcRepository repository;
+    private List<DeviceStatusTransition> transitions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:deployment_device;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS firmware_deployment_device (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    device_id BIGINT NOT NULL,
+                    deployment_id BIGINT NOT NULL,
+                    deployment_status VARCHAR(20) NOT NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    modified_at TIMESTAMP NOT NULL
+                )
+                """);
+        repository = new FirmwareDeploymentDeviceJdbcRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+        transitions = LongStream.rangeClosed(1, deviceCount)
+                .mapToObj(deviceId -> new DeviceStatusTransition(deviceId, DeploymentStatus.IN_PROGRESS))
+                .toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE firmware_deployment_device");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE firmware_deployment_device");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void multiRowInsert() {
+        repository.saveAll(DEPLOYMENT_ID, transitions);
+    }
+
+    @Benchmark
+    public void singleRowInsert() {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (DeviceStatusTransition transition : transitions) {
+            jdbcTemplate.update(
+                    "INSERT INTO firmware_deployment_device (device_id, deployment_id, deployment_status, created_at, modified_at) VALUES (?, ?, ?, ?, ?)",
+                    transition.deviceId(), DEPLOYMENT_ID, transition.deploymentStatus().name(), now, now
+            );
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100만 건의 펌웨어 메타데이터를 색인한 메모리 Lucene 인덱스의 검색 지연 시간을 측정합니다.
+ * 정확 일치, 접두어 일치, 오타 허용 일치, 여러 토큰 검색을 각각 한 페이지(20건) 조회 기준으로 비교합니다.
+ * <p>
+ * 실행: ./gradlew jmh -PjmhIncludes=LuceneMetadataSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LuceneMetadataSearchBenchmark {
+    private static final String[] WORDS = {
+            "bootloader", "display", "sensor", "network", "battery", "security", "patch", "stability",
+            "performance", "camera", "audio", "firmware", "update", "rollback", "memory", "thermal"
+    };
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int documentCount;
+
+    private LuceneMetadataSearchRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new LuceneMetadataSearchRepository();
+        repository.rebuild(sink -> {
+            for (int id = 1; id <= documentCount; id++) {
+                sink.accept(firmware(id));
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public SearchHits exactToken() {
+        return repository.search(SearchDocumentType.FIRMWARE, "thermal", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SearchHits prefixToken() {
+        return repository.search(SearchDocumentType.FIRMWARE, "perf", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SearchHits fuzzyToken() {
+        return repository.search(SearchDocumentType.FIRMWARE, "batery", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SearchHits multipleTokens() {
+        return repository.search(SearchDocumentType.FIRMWARE, "camera stability 7", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SearchHits deepPage() {
+        return repository.search(SearchDocumentType.FIRMWARE, "sensor", 1000, PAGE_SIZE);
+    }
+
+    private static SearchDocument firmware(int id) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("version", (id % 10) + "." + (id % 100) + "." + id);
+        fields.put("fileName", "fw_" + WORDS[id % WORDS.length] + "_" + id + ".bin");
+        fields.put("releaseNote", WORDS[(id * 7) % WORDS.length] + " " + WORDS[(id * 13) % WORDS.length] + " fixes for build " + id);
+
+        return new SearchDocument(SearchDocumentType.FIRMWARE, id, fields);
+    }
+}
@@ -0,0 +1,225 @@
+package com.coffee_is_essential.iot_cloud_ota.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * MQTT Handler 호출 전용 클라이언트입니다.
+ * 경로(route)별로 동시 요청 수를 제한하고, 연속 실패 시 서킷 브레이커로 호출을 즉시 거절합니다.
+ * 일시적인 오류(5xx, 네트워크 오류)는 지터를 포함한 백오프로 몇 차례 재시도하며,
+ * 4xx 응답은 재시도해도 결과가 같으므로 바로 호출자에게 전달합니다.
+ * 스트림 요청은 일부 청크가 이미 처리되었을 수 있으므로 재시도하지 않고, 재전송은 호출자가 이어 보내기로 처리합니다.
+ * 모든 호출은 mqtt.handler.requests 타이머에 route, outcome 태그로 기록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MqttHandlerClient {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final RestClient restClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mqtt.handler.base.url}")
+    private String baseUrl;
+
+    @Value("${mqtt.handler.client.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${mqtt.handler.client.acquire-timeout-ms:1000}")
+    private long acquireTimeoutMs;
+
+    @Value("${mqtt.handler.client.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${mqtt.handler.client.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${mqtt.handler.client.breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${mqtt.handler.client.breaker.open-ms:30000}")
+    private long openMs;
+
+    private final Map<String, RouteGuard> routeGuards = new ConcurrentHashMap<>();
+
+    /**
+     * JSON 본문을 한 번에 전송합니다.
+     *
+     * @param route          MQTT Handler API 경로
+     * @param idempotencyKey 중복 전달 판별용 키 (배포 commandId)
+     * @param body           JSON 본문
+     */
+    public void post(String route, String idempotencyKey, String body) {
+        execute(route, () -> restClient.post()
+                .uri(baseUrl + route)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .toBodilessEntity());
+    }
+
+    /**
+     * 본문을 스트림으로 기록하고 응답을 직접 처리합니다.
+     * 처음부터 다시 보내면 이미 확인된 청크가 중복 전달되므로 실패해도 재시도하지 않습니다.
+     *
+     * @param route          MQTT Handler API 경로
+     * @param idempotencyKey 중복 전달 판별용 키 (배포 commandId)
+     * @param contentType    본문 타입
+     * @param contentEncoding 본문 인코딩 (예: gzip)
+     * @param body           본문 기록 함수
+     * @param exchange       응답 처리 함수
+     * @return 응답 처리 결과
+     */
+    public <T> T stream(
+            String route,
+            String idempotencyKey,
+            MediaType contentType,
+            String contentEncoding,
+            StreamingHttpOutputMessage.Body body,
+            RestClient.RequestHeadersSpec.ExchangeFunction<T> exchange
+    ) {
+        return execute(route, 1, () -> restClient.post()
+                .uri(baseUrl + route)
+                .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .header("Content-Encoding", contentEncoding)
+                .contentType(contentType)
+                .body(body)
+                .exchange(exchange));
+    }
+
+    /**
+     * 경로별 동시성 제한, 서킷 브레이커, 재시도, 타이머 기록을 적용하여 호출을 실행합니다.
+     *
+     * @param route 타이머 태그 및 제한 단위로 사용할 경로
+     * @param call  실제 HTTP 호출
+     * @return 호출 결과
+     */
+    <T> T execute(String route, Supplier<T> call) {
+        return execute(route, maxAttempts, call);
+    }
+
+    /**
+     * 최대 시도 횟수를 지정하여 호출을 실행합니다.
+     *
+     * @param route    타이머 태그 및 제한 단위로 사용할 경로
+     * @param attempts 최대 시도 횟수
+     * @param call     실제 HTTP 호출
+     * @return 호출 결과
+     */
+    private <T> T execute(String route, int attempts, Supplier<T> call) {
+        RouteGuard guard = routeGuards.computeIfAbsent(route, r -> new RouteGuard(
+                new Semaphore(maxConcurrency),
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs))
+        ));
+
+        for (int attempt = 1; ; attempt++) {
+            acquirePermit(route, guard);
+            try {
+                if (!guard.breaker().tryAcquire()) {
+                    meterRegistry.counter("mqtt.handler.rejected", "route", route, "reason", "circuit_open").increment();
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "MQTT Handler 호출 차단 (circuit open): " + route);
+                }
+
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    T result = call.get();
+                    guard.breaker().onSuccess();
+                    sample.stop(timer(route, "success"));
+                    return result;
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode().is4xxClientError()) {
+                        guard.breaker().onSuccess();
+                        sample.stop(timer(route, "client_error"));
+                        throw e;
+                    }
+                    guard.breaker().onFailure();
+                    sample.stop(timer(route, "server_error"));
+                    if (attempt >= attempts) {
+                        throw e;
+                    }
+                    log.warn("[MQTT HANDLER] route={}, attempt={}, err={}", route, attempt, e.getMessage());
+                } catch (RuntimeException e) {
+                    guard.breaker().onFailure();
+                    sample.stop(timer(route, "io_error"));
+                    if (attempt >= attempts) {
+                        throw e;
+                    }
+                    log.warn("[MQTT HANDLER] route={}, attempt={}, err={}", route, attempt, e.getMessage());
+                }
+            } finally {
+                guard.permits().release();
+            }
+
+            sleep(backoffDelay(attempt));
+        }
+    }
+
+    private void acquirePermit(String route, RouteGuard guard) {
+        boolean acquired;
+        try {
+            acquired = guard.permits().tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "MQTT Handler 호출 대기 중 인터럽트", e);
+        }
+
+        if (!acquired) {
+            meterRegistry.counter("mqtt.handler.rejected", "route", route, "reason", "concurrency_limit").increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "MQTT Handler 동시 요청 한도 초과: " + route);
+        }
+    }
+
+    /**
+     * 재시도 대기 시간을 지수적으로 늘리고, 절반 구간에 무작위 지터를 더합니다.
+     */
+    private long backoffDelay(int attempt) {
+        long delay = retryBackoffMs << Math.min(attempt - 1, 10);
+        long half = delay / 2;
+
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "MQTT Handler 재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    private Timer timer(String route, String outcome) {
+        return Timer.builder("mqtt.handler.requests")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    CircuitBreaker.State circuitState(String route) {
+        RouteGuard guard = routeGuards.get(route);
+        return guard == null ? CircuitBreaker.State.CLOSED : guard.breaker().getState();
+    }
+
+    private record RouteGuard(Semaphore permits, CircuitBreaker breaker) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 진행 중인 배포의 미완료 디바이스 ID 집합을 Redis에 보관하는 저장소입니다.
+ * deploy.redis.encoding 설정에 따라 Redis SET(set) 또는 Redis 비트맵(bitmap) 구현이 사용됩니다.
+ */
+public interface DeploymentDeviceStore {
+    /**
+     * 디바이스들을 집합에 추가하고 만료 시간을 갱신합니다.
+     *
+     * @param commandId 배포 식별자
+     * @param deviceIds 추가할 디바이스 ID 목록
+     * @param ttl       키 만료 시간
+     */
+    void add(String commandId, Collection<Long> deviceIds, Duration ttl);
+
+    /**
+     * 디바이스들을 집합에서 제거합니다.
+     *
+     * @param commandId 배포 식별자
+     * @param deviceIds 제거할 디바이스 ID 목록
+     */
+    void remove(String commandId, Collection<Long> deviceIds);
+
+    /**
+     * 집합에 남아있는 모든 디바이스 ID를 조회합니다.
+     *
+     * @param commandId 배포 식별자
+     * @return 디바이스 ID 리스트
+     */
+    List<Long> members(String commandId);
+
+    /**
+     * 주어진 디바이스 중 집합에 남아있는 디바이스 ID만 조회합니다.
+     *
+     * @param commandId 배포 식별자
+     * @param deviceIds 확인할 디바이스 ID 목록
+     * @return 남아있는 디바이스 ID 리스트
+     */
+    List<Long> findMembers(String commandId, Collection<Long> deviceIds);
+
+    /**
+     * 집합에 남아있는 디바이스 수를 조회합니다.
+     *
+     * @param commandId 배포 식별자
+     * @return 남아있는 디바이스 수
+     */
+    long count(String commandId);
+
+    /**
+     * 배포의 디바이스 집합을 삭제합니다.
+     *
+     * @param commandId 배포 식별자
+     */
+    void delete(String commandId);
+}
@@ -0,0 +1,288 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.client.MqttHandlerClient;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeploymentOutboxRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentDeviceJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentRepository;
+import com.coffee_is_essential.iot_cloud_ota.service.DeployJudgeScheduler;
+import com.coffee_is_essential.iot_cloud_ota.service.DeploymentRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * deployment_outbox에 저장된 배포 요청을 MQTT Handler로 전달하는 릴레이 컴포넌트입니다.
+ * 배포 트랜잭션이 커밋되면 즉시 전달을 시도하고, 실패하거나 누락된 항목은 주기적인 폴링으로 다시 전달합니다.
+ * 동시에 전송하는 요청 수는 워커 수로 제한되며, 실패 시 지수 백오프(지터 포함)로 재시도합니다.
+ * 재시도로 같은 요청이 중복 전달될 수 있으므로 commandId를 Idempotency-Key 헤더로 함께 보냅니다.
+ * 대상이 많은 STREAM 모드 항목은 DeploymentStreamDispatcher를 통해 청크 단위로 전송합니다.
+ * 전송 전에 항목의 대상 디바이스를 Redis에 등록하고 판정 스케줄러를 시작하므로, 커밋 직후 인스턴스가 종료되어도
+ * 폴링으로 전달되는 시점에 배포가 판정 대상이 됩니다. 여러 인스턴스가 같은 항목을 전달하지 않도록
+ * 전달 전에 항목을 임대 방식으로 선점합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeploymentOutboxRelay {
+    private static final int TARGET_PAGE_SIZE = 1000;
+
+    private final DeploymentOutboxRepository deploymentOutboxRepository;
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository;
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository;
+    private final DeploymentStreamDispatcher deploymentStreamDispatcher;
+    private final DeploymentRedisService deploymentRedisService;
+    private final DeployJudgeScheduler deployJudgeScheduler;
+    private final MqttHandlerClient mqttHandlerClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${deploy.outbox.workers:4}")
+    private int workerCount;
+
+    @Value("${deploy.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${deploy.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${deploy.outbox.backoff-ms:1000}")
+    private long backoffMs;
+
+    @Value("${deploy.outbox.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${deploy.outbox.claim-lease-ms:300000}")
+    private long claimLeaseMs;
+
+    @Value("${deploy.redis.ttl-grace-seconds:3600}")
+    private long ttlGraceSeconds;
+
+    private final ThreadPoolTaskExecutor relayWorkers = new ThreadPoolTaskExecutor();
+    private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        relayWorkers.setCorePoolSize(workerCount);
+        relayWorkers.setMaxPoolSize(workerCount);
+        relayWorkers.setQueueCapacity(batchSize);
+        relayWorkers.setThreadNamePrefix("deploy-outbox-");
+        relayWorkers.initialize();
+
+        meterRegistry.gauge("deploy.outbox.in_flight", inFlightIds, Set::size);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayWorkers.shutdown();
+    }
+
+    /**
+     * 재시작 전에 전달이 끝난 배포 중 Redis 대상 키가 남아있을 수 있는 배포를 판정 스케줄러에 다시 등록합니다.
+     * 아직 전달되지 않은 항목은 폴링으로 전달되면서 등록되므로 여기서는 SENT 항목만 다룹니다.
+     * 대상이 이미 모두 판정된 배포는 첫 판정에서 스케줄러가 스스로 멈춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJudging() {
+        try {
+            List<String> commandIds = deploymentOutboxRepository.findSentCommandIdsExpiringAfter(
+                    OffsetDateTime.now().minusSeconds(ttlGraceSeconds)
+            );
+            commandIds.forEach(deployJudgeScheduler::startScheduler);
+            log.info("[OUTBOX] Resumed judging for {} deployments", commandIds.size());
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to resume deployment judging, err={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 커밋된 아웃박스 항목의 전달을 즉시 요청합니다.
+     * 워커 큐가 가득 차 있으면 다음 폴링 주기에 전달됩니다.
+     *
+     * @param outboxId 전달할 아웃박스 ID
+     */
+    public void dispatch(Long outboxId) {
+        submit(outboxId);
+    }
+
+    /**
+     * 전달 시각이 도래한 PENDING 항목을 조회해 워커에 전달을 요청합니다.
+     * 이미 전달 중인 항목은 건너뛰며, 남은 워커 수만큼만 새로 요청합니다.
+     */
+    @Scheduled(fixedDelayString = "${deploy.outbox.poll-interval-ms:1000}")
+    public void relayPending() {
+        int capacity = workerCount - inFlightIds.size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        try {
+            List<DeploymentOutbox> dueEntries = deploymentOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    OutboxStatus.PENDING,
+                    OffsetDateTime.now(),
+                    PageRequest.of(0, batchSize)
+            );
+
+            for (DeploymentOutbox outbox : dueEntries) {
+                if (capacity <= 0) {
+                    break;
+                }
+                if (submit(outbox.getId())) {
+                    capacity--;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to poll deployment outbox, err={}", e.getMessage(), e);
+        }
+    }
+
+    private boolean submit(Long outboxId) {
+        if (!inFlightIds.add(outboxId)) {
+            return false;
+        }
+
+        try {
+            relayWorkers.execute(() -> {
+                try {
+                    deliver(outboxId);
+                } finally {
+                    inFlightIds.remove(outboxId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlightIds.remove(outboxId);
+            return false;
+        }
+    }
+
+    /**
+     * 아웃박스 항목 하나를 선점한 뒤 대상 디바이스를 판정 대상으로 등록하고 MQTT Handler로 전송하여 결과를 기록합니다.
+     * 다른 인스턴스가 이미 선점했거나 전달 시각이 아직 도래하지 않은 항목은 건너뜁니다.
+     * 4xx 응답은 재시도해도 결과가 같으므로 즉시 FAILED로 처리하고,
+     * 그 외 오류는 최대 시도 횟수까지 백오프 후 재시도합니다.
+     *
+     * @param outboxId 전달할 아웃박스 ID
+     */
+    private void deliver(Long outboxId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (deploymentOutboxRepository.claim(outboxId, now, now.plusNanos(claimLeaseMs * 1_000_000)) == 0) {
+            return;
+        }
+
+        DeploymentOutbox outbox = deploymentOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            registerTargets(outbox);
+            if (outbox.getDispatchMode() == DispatchMode.STREAM) {
+                deploymentStreamDispatcher.dispatch(outbox);
+            } else {
+                mqttHandlerClient.post(outbox.getRoute(), outbox.getIdempotencyKey(), outbox.getPayload());
+            }
+
+            outbox.markSent();
+            record("sent");
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                outbox.markFailed(e.getMessage());
+                record("failed");
+                log.error("[OUTBOX] Rejected by mqtt handler, commandId={}, err={}", outbox.getCommandId(), e.getMessage());
+            } else {
+                retryOrFail(outbox, e);
+            }
+        } catch (Exception e) {
+            retryOrFail(outbox, e);
+        }
+
+        deploymentOutboxRepository.save(outbox);
+    }
+
+    /**
+     * 아웃박스 항목의 디바이스 ID 범위에 속한 대상 중 최신 상태가 아직 IN_PROGRESS인 디바이스만 Redis에 등록하고 판정 스케줄러를 시작합니다.
+     * 전달을 재시도할 때마다 다시 수행되므로, 이전 시도 이후 판정이 끝난 디바이스는 다시 등록하지 않아 중복 판정되지 않습니다.
+     *
+     * @param outbox 아웃박스 항목
+     */
+    private void registerTargets(DeploymentOutbox outbox) {
+        FirmwareDeployment deployment = firmwareDeploymentRepository.findByIdOrElseThrow(outbox.getDeploymentId());
+
+        long afterDeviceId = outbox.getDeviceIdFrom() - 1;
+        while (true) {
+            List<Long> deviceIds = firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(
+                    outbox.getDeploymentId(),
+                    afterDeviceId,
+                    outbox.getDeviceIdTo(),
+                    TARGET_PAGE_SIZE
+            );
+            if (deviceIds.isEmpty()) {
+                break;
+            }
+
+            Set<Long> inProgress = firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(outbox.getDeploymentId(), deviceIds);
+            List<Long> pending = deviceIds.stream()
+                    .filter(inProgress::contains)
+                    .toList();
+            deploymentRedisService.addDevices(outbox.getCommandId(), pending, deployment.getExpiresAt());
+            afterDeviceId = deviceIds.get(deviceIds.size() - 1);
+            if (deviceIds.size() < TARGET_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        deployJudgeScheduler.startScheduler(outbox.getCommandId());
+    }
+
+    private void retryOrFail(DeploymentOutbox outbox, Exception e) {
+        if (outbox.getAttempts() + 1 >= maxAttempts) {
+            outbox.markFailed(e.getMessage());
+            record("failed");
+            log.error("[OUTBOX] Giving up delivery, commandId={}, attempts={}, err={}", outbox.getCommandId(), outbox.getAttempts(), e.getMessage());
+            return;
+        }
+
+        long delayMs = backoffDelay(outbox.getAttempts());
+        outbox.markRetry(e.getMessage(), OffsetDateTime.now().plusNanos(delayMs * 1_000_000));
+        record("retry");
+        log.warn("[OUTBOX] Delivery failed, commandId={}, attempts={}, retryInMs={}, err={}", outbox.getCommandId(), outbox.getAttempts(), delayMs, e.getMessage());
+    }
+
+    /**
+     * 시도 횟수에 따라 지수적으로 늘어나는 재시도 대기 시간을 계산합니다.
+     * 여러 항목이 같은 시점에 몰리지 않도록 절반 구간에 무작위 지터를 더합니다.
+     *
+     * @param attempts 지금까지의 시도 횟수
+     * @return 다음 시도까지 대기 시간 (ms)
+     */
+    private long backoffDelay(int attempts) {
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempts, 20));
+        long half = delay / 2;
+
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("deploy.outbox.delivery", "result", result).increment();
+    }
+}
@@ -0,0 +1,27 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.service.DeploymentProgressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 모든 배포의 deployment_progress 카운터를 재구성하는 일회성 작업입니다.
+ * 카운터 행이 없는 배포(카운터 도입 이전에 생성된 배포)는 진행률 조회 시 자동으로 재구성되므로,
+ * 이 작업은 모든 배포의 카운터를 강제로 맞출 때만 deployment.progress.rebuild-on-startup=true로 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deployment.progress.rebuild-on-startup", havingValue = "true")
+public class DeploymentProgressRebuildRunner implements CommandLineRunner {
+    private final DeploymentProgressService deploymentProgressService;
+
+    @Override
+    public void run(String... args) {
+        int rebuilt = deploymentProgressService.rebuildAll();
+        log.info("[REBUILT] Deployment progress counters rebuilt, deployments={}", rebuilt);
+    }
+}
@@ -0,0 +1,184 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.client.MqttHandlerClient;
+import com.coffee_is_essential.iot_cloud_ota.domain.DispatchChunkAck;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentDeviceJdbcRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대상 디바이스가 많은 배포 요청을 gzip 압축 NDJSON 스트림으로 MQTT Handler에 전달하는 컴포넌트입니다.
+ * 첫 줄에 대상 목록을 제외한 배포 헤더를 쓰고, 이후 아웃박스 항목의 디바이스 ID 범위에 속한 대상을 청크 단위로 DB에서 읽어
+ * 한 줄씩 바로 요청 본문에 기록합니다.
+ * 전체 대상 목록을 문자열로 만들지 않으므로 전송 중 메모리 사용량은 대상 수와 관계없이 청크 크기에 비례합니다.
+ * MQTT Handler는 청크마다 확인 응답을 한 줄씩 돌려주며, 보낸 청크 수만큼 확인되지 않으면 전송 실패로 처리합니다.
+ * 확인된 청크까지의 진행 상황은 아웃박스 항목에 기록되므로, 재시도 시에는 헤더와 함께 확인되지 않은 청크부터 이어 보냅니다.
+ * 청크 번호는 재시도 간에도 이어지므로 MQTT Handler는 (Idempotency-Key, 청크 번호)로 중복 청크를 걸러낼 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeploymentStreamDispatcher {
+    private static final String STREAM_ROUTE_SUFFIX = "/stream";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final MqttHandlerClient mqttHandlerClient;
+    private final ObjectMapper objectMapper;
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${deploy.dispatch.stream-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 아웃박스 항목을 스트리밍 방식으로 전송하고, 모든 청크가 확인되었는지 검증합니다.
+     * 이전 시도에서 확인된 청크는 다시 보내지 않으며, 이번 시도에서 확인된 청크까지의 진행 상황은
+     * 전송이 실패하더라도 아웃박스 항목에 기록합니다.
+     *
+     * @param outbox STREAM 모드 아웃박스 항목
+     * @throws IllegalStateException 보낸 청크 중 확인 응답을 받지 못한 청크가 있는 경우
+     */
+    public void dispatch(DeploymentOutbox outbox) {
+        int firstChunk = outbox.getStreamedChunks();
+        long afterDeviceId = outbox.getStreamedDeviceId() != null ? outbox.getStreamedDeviceId() : outbox.getDeviceIdFrom() - 1;
+        List<Long> chunkLastDeviceIds = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger ackedChunks = new AtomicInteger();
+
+        try {
+            mqttHandlerClient.stream(
+                    outbox.getRoute() + STREAM_ROUTE_SUFFIX,
+                    outbox.getIdempotencyKey(),
+                    NDJSON,
+                    "gzip",
+                    out -> writeStream(outbox, out, firstChunk, afterDeviceId, chunkLastDeviceIds),
+                    (request, response) -> {
+                        if (response.getStatusCode().is4xxClientError()) {
+                            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청이 잘못되었습니다.");
+                        }
+                        if (response.getStatusCode().is5xxServerError()) {
+                            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "MQTT Handler 오류 발생");
+                        }
+                        readAcks(outbox.getCommandId(), response.getBody(), firstChunk, ackedChunks);
+                        return null;
+                    }
+            );
+        } finally {
+            int acked = ackedChunks.get();
+            if (acked > 0) {
+                outbox.markStreamed(firstChunk + acked, chunkLastDeviceIds.get(acked - 1));
+            }
+            meterRegistry.counter("deploy.dispatch.stream.chunks", "result", "acked").increment(acked);
+        }
+
+        int sentChunks = chunkLastDeviceIds.size();
+        if (ackedChunks.get() < sentChunks) {
+            meterRegistry.counter("deploy.dispatch.stream.chunks", "result", "missing").increment(sentChunks - ackedChunks.get());
+            throw new IllegalStateException("acknowledged " + ackedChunks.get() + " of " + sentChunks + " chunks");
+        }
+
+        log.info("[STREAM] Dispatched commandId={}, chunks={}, resumedFromChunk={}", outbox.getCommandId(), sentChunks, firstChunk);
+    }
+
+    /**
+     * 배포 헤더와 대상 디바이스 청크를 gzip NDJSON으로 요청 본문에 기록합니다.
+     * 청크를 하나 쓸 때마다 flush 하여 MQTT Handler가 본문 전체를 기다리지 않고 처리할 수 있게 합니다.
+     *
+     * @param outbox             아웃박스 항목
+     * @param out                요청 본문 스트림
+     * @param firstChunk         이번에 보낼 첫 청크 번호
+     * @param afterDeviceId      이미 확인된 마지막 디바이스 ID (이 값 이후부터 전송)
+     * @param chunkLastDeviceIds 보낸 청크마다 마지막 디바이스 ID를 순서대로 담을 목록
+     */
+    private void writeStream(
+            DeploymentOutbox outbox,
+            OutputStream out,
+            int firstChunk,
+            long afterDeviceId,
+            List<Long> chunkLastDeviceIds
+    ) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeRaw(outbox.getPayload());
+        generator.writeRaw('\n');
+        generator.flush();
+
+        int chunk = firstChunk;
+        while (true) {
+            List<Long> deviceIds = firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(
+                    outbox.getDeploymentId(),
+                    afterDeviceId,
+                    outbox.getDeviceIdTo(),
+                    chunkSize
+            );
+            if (deviceIds.isEmpty()) {
+                break;
+            }
+
+            generator.writeStartObject();
+            generator.writeNumberField("chunk", chunk);
+            generator.writeArrayFieldStart("devices");
+            for (Long deviceId : deviceIds) {
+                generator.writeStartObject();
+                generator.writeNumberField("deviceId", deviceId);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+
+            chunk++;
+            afterDeviceId = deviceIds.get(deviceIds.size() - 1);
+            chunkLastDeviceIds.add(afterDeviceId);
+            if (deviceIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        generator.close();
+        gzip.finish();
+    }
+
+    /**
+     * MQTT Handler가 돌려준 청크별 확인 응답을 한 줄씩 읽어, 보낸 순서대로 연속해서 확인된 청크 수를 셉니다.
+     * 응답을 읽는 도중 연결이 끊겨도 그때까지 확인된 청크 수가 ackedChunks에 남습니다.
+     *
+     * @param commandId   배포 식별자
+     * @param body        응답 본문 스트림
+     * @param firstChunk  이번에 보낸 첫 청크 번호
+     * @param ackedChunks 이번 시도에서 연속으로 확인된 청크 수
+     */
+    private void readAcks(String commandId, InputStream body, int firstChunk, AtomicInteger ackedChunks) throws IOException {
+        try (MappingIterator<DispatchChunkAck> acks = objectMapper.readerFor(DispatchChunkAck.class).readValues(body)) {
+            while (acks.hasNext()) {
+                DispatchChunkAck ack = acks.next();
+                if (ack.chunk() == firstChunk + ackedChunks.get()) {
+                    ackedChunks.incrementAndGet();
+                }
+                log.debug("[STREAM] Ack commandId={}, chunk={}, accepted={}", commandId, ack.chunk(), ack.accepted());
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceTargetJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 배포 요청의 디바이스/그룹/리전 조건을 배포 대상 디바이스 ID 배열로 변환하는 컴포넌트입니다.
+ * 세 조건은 OR로 결합되므로 조건별로 ID만 스트리밍 조회해 long 배열에 모은 뒤,
+ * 정렬 후 인접 중복을 제거하는 방식으로 메모리에서 중복을 제거합니다.
+ * 결과는 오름차순으로 정렬되어 있어 웨이브 분할 시 디바이스 ID 범위를 그대로 사용할 수 있습니다.
+ * FleetTopologyIndex가 구성되어 있으면 DB 조회 없이 인덱스의 비트맵 합집합으로 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeploymentTargetResolver {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final DeviceTargetJdbcRepository deviceTargetJdbcRepository;
+    private final FleetTopologyIndex fleetTopologyIndex;
+
+    /**
+     * 조건 중 하나라도 일치하는 디바이스 ID를 중복 없이 오름차순으로 반환합니다.
+     * 비어 있는 조건은 무시됩니다.
+     *
+     * @param deviceIds 디바이스 ID 목록
+     * @param groupIds  그룹 ID 목록
+     * @param regionIds 리전 ID 목록
+     * @return 정렬된 배포 대상 디바이스 ID 배열
+     */
+    public long[] resolve(List<Long> deviceIds, List<Long> groupIds, List<Long> regionIds) {
+        if (fleetTopologyIndex.isReady()) {
+            return fleetTopologyIndex.resolve(deviceIds, groupIds, regionIds);
+        }
+
+        LongCollector collector = new LongCollector();
+        deviceTargetJdbcRepository.streamIdsByDeviceIds(deviceIds, collector::add);
+        deviceTargetJdbcRepository.streamIdsByDivisionIds(groupIds, collector::add);
+        deviceTargetJdbcRepository.streamIdsByRegionIds(regionIds, collector::add);
+
+        return collector.toSortedDistinctArray();
+    }
+
+    /**
+     * 박싱 없이 long 값을 모으는 가변 크기 배열입니다.
+     */
+    private static final class LongCollector {
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedDistinctArray() {
+            Arrays.sort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[distinct - 1] != values[i]) {
+                    values[distinct++] = values[i];
+                }
+            }
+
+            return Arrays.copyOf(values, distinct);
+        }
+    }
+}
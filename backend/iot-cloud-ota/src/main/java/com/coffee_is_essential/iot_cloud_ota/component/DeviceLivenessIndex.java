@@ -0,0 +1,191 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceLivenessChangedEvent;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceStatusJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 디바이스별 마지막 상태 보고 시각을 메모리에 보관하는 인덱스입니다.
+ * QuestDB system_status 테이블에서 high-water mark 이후에 적재된 행만 주기적으로 읽어와 갱신하며,
+ * 디바이스 목록/상세 조회 시 활성 여부를 QuestDB 조회 없이 O(1)로 판단할 수 있게 합니다.
+ * 갱신할 때마다 활성/비활성으로 바뀐 디바이스를 DeviceLivenessChangedEvent로 발행하여
+ * 리전/그룹별 활성 디바이스 카운터가 따라갈 수 있게 합니다.
+ * 인덱스 크기와 마지막 갱신 이후 경과 시간은 Actuator 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceLivenessIndex {
+    private static final Duration ACTIVE_WINDOW = Duration.ofMinutes(5);
+    private static final Duration LATE_ARRIVAL_OVERLAP = Duration.ofSeconds(10);
+    private static final long NOT_SEEN = Long.MIN_VALUE;
+
+    private final DeviceStatusJdbcRepository deviceStatusJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Long2LongOpenHashMap lastSeenMillis = new Long2LongOpenHashMap();
+    private final Roaring64Bitmap activeDevices = new Roaring64Bitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long highWaterMark = NOT_SEEN;
+    private volatile long lastRefreshedAt = NOT_SEEN;
+
+    @PostConstruct
+    public void init() {
+        lastSeenMillis.defaultReturnValue(NOT_SEEN);
+
+        Gauge.builder("device.liveness.size", this, DeviceLivenessIndex::size)
+                .description("Number of devices tracked by the liveness index")
+                .register(meterRegistry);
+        Gauge.builder("device.liveness.staleness", this, DeviceLivenessIndex::stalenessSeconds)
+                .description("Seconds since the liveness index was last refreshed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * QuestDB에서 high-water mark 이후의 상태 보고를 읽어와 인덱스를 갱신합니다.
+     * 최초 실행 시에는 전체 디바이스의 최신 보고 시각으로 인덱스를 채웁니다.
+     * 늦게 적재되는 행을 놓치지 않도록 high-water mark보다 조금 앞선 시점부터 다시 조회합니다.
+     */
+    @Scheduled(fixedDelayString = "${device.liveness.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            OffsetDateTime since = highWaterMark == NOT_SEEN
+                    ? null
+                    : Instant.ofEpochMilli(highWaterMark).minus(LATE_ARRIVAL_OVERLAP).atOffset(ZoneOffset.UTC);
+            Long2LongMap updates = deviceStatusJdbcRepository.findLastSeenSince(since);
+            long maxSeen = highWaterMark;
+            long activeCutoff = Instant.now().minus(ACTIVE_WINDOW).toEpochMilli();
+            LongArrayList activated = new LongArrayList();
+            LongArrayList deactivated = new LongArrayList();
+
+            lock.writeLock().lock();
+            try {
+                for (Long2LongMap.Entry entry : updates.long2LongEntrySet()) {
+                    long seenAt = entry.getLongValue();
+                    if (seenAt > lastSeenMillis.get(entry.getLongKey())) {
+                        lastSeenMillis.put(entry.getLongKey(), seenAt);
+                    }
+                    maxSeen = Math.max(maxSeen, seenAt);
+                }
+                sweepActive(updates, activeCutoff, activated, deactivated);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (!activated.isEmpty() || !deactivated.isEmpty()) {
+                eventPublisher.publishEvent(new DeviceLivenessChangedEvent(activated.toLongArray(), deactivated.toLongArray()));
+            }
+
+            highWaterMark = maxSeen == NOT_SEEN ? Instant.now().toEpochMilli() : maxSeen;
+            lastRefreshedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to refresh device liveness index, err={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 인덱스가 최소 한 번 이상 갱신되어 조회에 사용할 수 있는 상태인지 여부를 반환합니다.
+     *
+     * @return 사용 가능하면 true
+     */
+    public boolean isReady() {
+        return lastRefreshedAt != NOT_SEEN;
+    }
+
+    /**
+     * 디바이스의 마지막 상태 보고 시각을 반환합니다.
+     *
+     * @param deviceId 디바이스 ID
+     * @return 마지막 보고 시각 (보고 이력이 없으면 null)
+     */
+    public OffsetDateTime getLastSeen(long deviceId) {
+        long seenAt = lastSeenMillisOf(deviceId);
+
+        return seenAt == NOT_SEEN ? null : Instant.ofEpochMilli(seenAt).atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * 마지막 상태 보고 시각이 기준 시각으로부터 5분 이내인지 여부를 반환합니다.
+     * 인덱스와 QuestDB 중 어디에서 조회한 보고 시각이든 같은 기준으로 활성 여부를 판단하도록 이 메서드를 사용합니다.
+     *
+     * @param lastSeenAt 마지막 상태 보고 시각 (보고 이력이 없으면 null)
+     * @param now        기준 시각
+     * @return 활성 상태이면 true
+     */
+    public boolean isActive(OffsetDateTime lastSeenAt, Instant now) {
+        return lastSeenAt != null && lastSeenAt.toInstant().isAfter(now.minus(ACTIVE_WINDOW));
+    }
+
+    /**
+     * 활성 디바이스 집합을 갱신하고 상태가 바뀐 디바이스를 수집합니다.
+     * 새로 보고한 디바이스만 활성화 후보로 확인하고, 비활성화는 현재 활성 디바이스만 확인하므로
+     * 전체 디바이스를 매번 순회하지 않습니다. 호출 측에서 쓰기 잠금을 보유해야 합니다.
+     *
+     * @param updates      이번 주기에 읽어온 보고 시각
+     * @param activeCutoff 활성 판단 기준 시각 (epoch millis)
+     * @param activated    새로 활성화된 디바이스를 담을 리스트
+     * @param deactivated  비활성화된 디바이스를 담을 리스트
+     */
+    private void sweepActive(Long2LongMap updates, long activeCutoff, LongArrayList activated, LongArrayList deactivated) {
+        for (long deviceId : updates.keySet()) {
+            if (lastSeenMillis.get(deviceId) > activeCutoff && !activeDevices.contains(deviceId)) {
+                activeDevices.addLong(deviceId);
+                activated.add(deviceId);
+            }
+        }
+
+        activeDevices.forEach(deviceId -> {
+            if (lastSeenMillis.get(deviceId) <= activeCutoff) {
+                deactivated.add(deviceId);
+            }
+        });
+        for (long deviceId : deactivated) {
+            activeDevices.removeLong(deviceId);
+        }
+    }
+
+    private long lastSeenMillisOf(long deviceId) {
+        lock.readLock().lock();
+        try {
+            return lastSeenMillis.get(deviceId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double size() {
+        lock.readLock().lock();
+        try {
+            return lastSeenMillis.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double stalenessSeconds() {
+        long refreshedAt = lastRefreshedAt;
+
+        return refreshedAt == NOT_SEEN ? Double.NaN : (System.currentTimeMillis() - refreshedAt) / 1000.0;
+    }
+}
@@ -0,0 +1,141 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.TimeoutEvent;
+import com.coffee_is_essential.iot_cloud_ota.repository.DownloadEventsJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * QuestDB download_events 테이블에 타임아웃 이벤트를 모아서 쓰는 배치 writer입니다.
+ * 이벤트는 메모리 큐에 쌓인 뒤 호출한 스레드에서 batch-size 단위의 JDBC 배치로 저장되므로,
+ * 2만 대 배포가 만료되어도 왕복 횟수는 배치 수로 제한되고, 동시에 만료된 배포들의 이벤트는 같은 배치로 묶입니다.
+ * 호출자는 이벤트가 저장된 뒤에야 반환받으므로, 저장 전에 Redis 키가 삭제되어 타임아웃이 유실되지 않습니다.
+ * 저장에 실패한 배치는 큐에 다시 넣고 flush-interval-ms 주기의 플러시에서 재시도하며,
+ * 큐 깊이와 플러시 지연 시간은 Actuator 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DownloadEventBatchWriter {
+    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${questdb.write.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${questdb.write.queue-capacity:200000}")
+    private int queueCapacity;
+
+    private BlockingQueue<TimeoutEvent> queue;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        meterRegistry.gauge("questdb.write.queue.depth", queue, BlockingQueue::size);
+        flushTimer = Timer.builder("questdb.write.flush")
+                .description("Latency of one batched download_events write")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 디바이스들의 타임아웃 이벤트를 큐에 넣고, 큐에 쌓인 이벤트를 모두 저장할 때까지 기다립니다.
+     * 플러시는 한 번에 하나만 실행되므로, 플러시가 실패 없이 큐를 비웠다면 그 전에 넣은 이벤트는 모두 저장된 것입니다.
+     *
+     * @param commandId 배포 식별자
+     * @param deviceIds 타임아웃 처리할 디바이스 ID 목록
+     * @throws IllegalStateException 큐가 가득 차 이벤트를 넣지 못했거나 저장에 실패한 경우
+     */
+    public void writeTimeouts(String commandId, List<Long> deviceIds) {
+        Timestamp occurredAt = Timestamp.from(Instant.now());
+        int dropped = 0;
+        for (Long deviceId : deviceIds) {
+            if (!queue.offer(new TimeoutEvent(commandId, deviceId, occurredAt))) {
+                dropped++;
+            }
+        }
+
+        if (dropped > 0) {
+            log.warn("[DROPPED] QuestDB write queue is full, commandId={}, dropped={}", commandId, dropped);
+            countEvents("dropped", dropped);
+            throw new IllegalStateException("QuestDB write queue is full, commandId=" + commandId + ", dropped=" + dropped);
+        }
+        if (!drain()) {
+            throw new IllegalStateException("Failed to write timeout events, commandId=" + commandId);
+        }
+    }
+
+    /**
+     * 저장에 실패해 큐에 남은 이벤트를 주기적으로 다시 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${questdb.write.flush-interval-ms:1000}")
+    public void flush() {
+        drain();
+    }
+
+    /**
+     * 큐에 쌓인 이벤트를 batch-size 단위로 모두 저장합니다.
+     * 배치 저장에 실패하면 해당 배치를 큐에 되돌리고 이번 플러시를 중단합니다.
+     *
+     * @return 실패 없이 큐를 비웠으면 true
+     */
+    private synchronized boolean drain() {
+        List<TimeoutEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                flushTimer.record(() -> downloadEventsJdbcRepository.saveTimeoutEvents(batch));
+                countEvents("written", batch.size());
+            } catch (Exception e) {
+                log.error("[ERROR] Failed to write download events, size={}, err={}", batch.size(), e.getMessage(), e);
+                countEvents("failed", batch.size());
+                requeue(batch);
+                return false;
+            }
+            batch.clear();
+        }
+
+        return true;
+    }
+
+    private void requeue(List<TimeoutEvent> batch) {
+        int dropped = 0;
+        for (TimeoutEvent event : batch) {
+            if (!queue.offer(event)) {
+                dropped++;
+            }
+        }
+
+        if (dropped > 0) {
+            log.warn("[DROPPED] QuestDB write queue is full while requeueing, dropped={}", dropped);
+            countEvents("dropped", dropped);
+        }
+    }
+
+    private void countEvents(String result, int count) {
+        Counter.builder("questdb.write.events")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,84 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDownloadEvents;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.DownloadEventsJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.service.DeployJudgeScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * QuestDB download_events 테이블에 새로 적재된 종료 상태 이벤트를 타임스탬프 커서로 따라가며
+ * 배포 판정 스케줄러에 즉시 전달하는 컴포넌트입니다.
+ * 디바이스가 다운로드를 마치면 다음 판정 주기를 기다리지 않고 약 1초 안에 배포 결과가 반영됩니다.
+ * 이벤트 타임스탬프는 디바이스 시각 기준이라 늦게 적재될 수 있으므로 커서보다 조금 앞선 시점부터 다시 조회하며,
+ * 중복 전달된 이벤트는 판정 시 Redis 멤버십 확인으로 걸러집니다.
+ * 커서는 리포지토리가 UTC 기준으로 읽은 이벤트 시각을 그대로 사용하므로 JVM 시간대와 무관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DownloadEventTailer {
+    private static final Duration LATE_ARRIVAL_OVERLAP = Duration.ofSeconds(10);
+    private static final List<String> TERMINAL_STATUSES = Stream.of(
+                    DeploymentStatus.SUCCESS,
+                    DeploymentStatus.FAILED,
+                    DeploymentStatus.CANCELLED,
+                    DeploymentStatus.TIMEOUT,
+                    DeploymentStatus.ERROR
+            )
+            .map(Enum::name)
+            .toList();
+
+    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
+    private final DeployJudgeScheduler deployJudgeScheduler;
+
+    private volatile Instant cursor = Instant.now();
+
+    /**
+     * 진행 중인 배포의 종료 이벤트 중 커서 이후에 적재된 이벤트를 읽어 배포별로 판정을 요청합니다.
+     * 진행 중인 배포가 없으면 QuestDB를 조회하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${deploy.judge.tail-interval-ms:1000}")
+    public void poll() {
+        Set<String> commandIds = deployJudgeScheduler.getActiveCommandIds();
+        if (commandIds.isEmpty()) {
+            cursor = Instant.now();
+            return;
+        }
+
+        try {
+            List<FirmwareDownloadEvents> events = downloadEventsJdbcRepository.findTerminalEventsSince(
+                    commandIds,
+                    TERMINAL_STATUSES,
+                    cursor.minus(LATE_ARRIVAL_OVERLAP).atOffset(ZoneOffset.UTC)
+            );
+            if (events.isEmpty()) {
+                return;
+            }
+
+            Map<String, List<FirmwareDownloadEvents>> eventsByCommandId = events.stream()
+                    .collect(Collectors.groupingBy(FirmwareDownloadEvents::getCommand_id, LinkedHashMap::new, Collectors.toList()));
+            eventsByCommandId.forEach(deployJudgeScheduler::judgeEvents);
+
+            Instant latest = events.get(events.size() - 1).getTimestamp().toInstant();
+            if (latest.isAfter(cursor)) {
+                cursor = latest;
+            }
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to tail download events, err={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceMembership;
+import com.coffee_is_essential.iot_cloud_ota.enums.FleetHealthMetric;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceStatusJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceTargetJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.NetworkStatusJdbcRepository;
+import com.datadoghq.sketch.ddsketch.DDSketch;
+import com.datadoghq.sketch.ddsketch.DDSketches;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 리전/그룹별 플릿 상태 지표의 분포를 시간 버킷 단위 DDSketch로 보관하는 컴포넌트입니다.
+ * 버킷이 닫히면(종료 시각 + settle-ms 경과) 해당 구간의 system_status, network_status를 디바이스별 평균으로 한 번만 읽어
+ * 디바이스 소속 리전/그룹의 스케치에 넣고, 이후에는 원본 행을 다시 읽지 않습니다.
+ * 조회 구간의 분위수는 구간에 속한 버킷 스케치를 병합해 계산하므로, 대시보드가 같은 구간을 반복 조회해도 QuestDB를 스캔하지 않습니다.
+ * 버킷 스케치와 병합 결과는 모두 값이 있는 구간만 저장하는 sparse 저장소를 사용합니다.
+ * 저장소 종류가 다른 스케치끼리 병합하면 bin이 옮겨지지 않으므로, 스케치는 항상 {@link #newSketch()}로 만듭니다.
+ * 분위수는 relative-accuracy 이내의 상대 오차를 가지며, 버킷이 닫힌 뒤 늦게 도착한 행은 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FleetHealthSketchStore {
+    private static final int METRIC_COUNT = FleetHealthMetric.values().length;
+    private static final long NONE = 0L;
+
+    private final DeviceStatusJdbcRepository deviceStatusJdbcRepository;
+    private final NetworkStatusJdbcRepository networkStatusJdbcRepository;
+    private final DeviceTargetJdbcRepository deviceTargetJdbcRepository;
+    private final FleetTopologyIndex fleetTopologyIndex;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fleet.health.bucket-ms:300000}")
+    private long bucketMs;
+
+    @Value("${fleet.health.settle-ms:30000}")
+    private long settleMs;
+
+    @Value("${fleet.health.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${fleet.health.relative-accuracy:0.01}")
+    private double relativeAccuracy;
+
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private final Object refreshLock = new Object();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("fleet.health.buckets", buckets, ConcurrentSkipListMap::size)
+                .description("Number of time buckets held by the fleet health sketch store")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 보관 기간만큼의 버킷을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 보관 기간이 지난 버킷을 버리고, 마지막으로 만든 버킷 이후 새로 닫힌 버킷을 만듭니다.
+     * 버킷을 만드는 도중 실패하면 그 버킷부터 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${fleet.health.refresh-interval-ms:60000}",
+            fixedDelayString = "${fleet.health.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        synchronized (refreshLock) {
+            long closedUntil = floor(System.currentTimeMillis() - settleMs);
+            long oldest = closedUntil - floor(Duration.ofHours(retentionHours).toMillis());
+            buckets.headMap(oldest).clear();
+
+            long start = buckets.isEmpty() ? oldest : Math.max(oldest, buckets.lastKey() + bucketMs);
+            if (start >= closedUntil) {
+                return;
+            }
+
+            try {
+                long startedAt = System.nanoTime();
+                DeviceMembership membership = membership();
+                int built = 0;
+                for (long bucketStart = start; bucketStart < closedUntil; bucketStart += bucketMs) {
+                    buckets.put(bucketStart, build(bucketStart, membership));
+                    built++;
+                }
+
+                log.info("[REFRESHED] Fleet health sketches, buckets={}, tookMs={}", built, (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (Exception e) {
+                log.error("[ERROR] Failed to build fleet health sketches, err={}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 마지막 닫힌 버킷부터 windowMs(버킷 크기 단위로 올림) 구간에 속한 버킷들의 스케치를 리전/그룹별로 병합합니다.
+     *
+     * @param windowMs 조회 구간 길이 (ms)
+     * @return 실제로 병합한 구간과 리전/그룹별 지표 스케치
+     */
+    public Window window(long windowMs) {
+        Long2ObjectOpenHashMap<DDSketch[]> byRegion = new Long2ObjectOpenHashMap<>();
+        Long2ObjectOpenHashMap<DDSketch[]> byDivision = new Long2ObjectOpenHashMap<>();
+        if (buckets.isEmpty()) {
+            long now = floor(System.currentTimeMillis());
+            return new Window(toOffsetDateTime(now), toOffsetDateTime(now), byRegion, byDivision);
+        }
+
+        long to = buckets.lastKey() + bucketMs;
+        long span = Math.max(bucketMs, floor(windowMs + bucketMs - 1));
+        long from = Math.max(buckets.firstKey(), to - span);
+        for (Bucket bucket : buckets.subMap(from, to).values()) {
+            mergeInto(byRegion, bucket.byRegion);
+            mergeInto(byDivision, bucket.byDivision);
+        }
+
+        return new Window(toOffsetDateTime(from), toOffsetDateTime(to), byRegion, byDivision);
+    }
+
+    /**
+     * 버킷 구간의 디바이스별 평균 지표를 읽어 리전/그룹별 스케치로 만듭니다.
+     */
+    private Bucket build(long bucketStart, DeviceMembership membership) {
+        Bucket bucket = new Bucket();
+        OffsetDateTime from = toOffsetDateTime(bucketStart);
+        OffsetDateTime to = toOffsetDateTime(bucketStart + bucketMs);
+
+        deviceStatusJdbcRepository.streamDeviceAverages(from, to, (deviceId, cpuCore0, cpuCore1, memoryUsage, storageUsage) -> {
+            long regionId = membership.regionOf(deviceId);
+            long divisionId = membership.divisionOf(deviceId);
+            bucket.accept(regionId, divisionId, FleetHealthMetric.CPU_CORE_0, cpuCore0);
+            bucket.accept(regionId, divisionId, FleetHealthMetric.CPU_CORE_1, cpuCore1);
+            bucket.accept(regionId, divisionId, FleetHealthMetric.MEMORY_USAGE, memoryUsage);
+            bucket.accept(regionId, divisionId, FleetHealthMetric.STORAGE_USAGE, storageUsage);
+        });
+        networkStatusJdbcRepository.streamDeviceAverages(from, to, (deviceId, signalStrength) -> {
+            bucket.accept(membership.regionOf(deviceId), membership.divisionOf(deviceId), FleetHealthMetric.SIGNAL_STRENGTH, signalStrength);
+        });
+
+        return bucket;
+    }
+
+    /**
+     * FleetTopologyIndex가 구성되어 있으면 인덱스의 디바이스 소속을, 아니면 device 테이블을 직접 읽은 소속을 반환합니다.
+     */
+    private DeviceMembership membership() {
+        if (fleetTopologyIndex.isReady()) {
+            return fleetTopologyIndex.membership();
+        }
+
+        Long2LongOpenHashMap regions = new Long2LongOpenHashMap();
+        Long2LongOpenHashMap divisions = new Long2LongOpenHashMap();
+        deviceTargetJdbcRepository.streamTopology((deviceId, regionId, divisionId) -> {
+            regions.put(deviceId, regionId);
+            divisions.put(deviceId, divisionId);
+        });
+
+        return new DeviceMembership(regions, divisions);
+    }
+
+    private void mergeInto(Long2ObjectOpenHashMap<DDSketch[]> target, Long2ObjectOpenHashMap<DDSketch[]> source) {
+        for (Long2ObjectMap.Entry<DDSketch[]> entry : source.long2ObjectEntrySet()) {
+            DDSketch[] merged = target.computeIfAbsent(entry.getLongKey(), key -> new DDSketch[METRIC_COUNT]);
+            DDSketch[] sketches = entry.getValue();
+            for (int i = 0; i < METRIC_COUNT; i++) {
+                if (sketches[i] == null) {
+                    continue;
+                }
+                if (merged[i] == null) {
+                    merged[i] = newSketch();
+                }
+                merged[i].mergeWith(sketches[i]);
+            }
+        }
+    }
+
+    private DDSketch newSketch() {
+        return DDSketches.sparse(relativeAccuracy);
+    }
+
+    private long floor(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMs) * bucketMs;
+    }
+
+    private OffsetDateTime toOffsetDateTime(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * 병합한 구간과 리전/그룹별 지표 스케치입니다.
+     * 스케치 배열은 {@link FleetHealthMetric#ordinal()} 순서이며, 값이 없는 지표는 null입니다.
+     *
+     * @param from       병합한 구간의 시작 시각
+     * @param to         병합한 구간의 종료 시각
+     * @param byRegion   리전 ID를 키로 하는 지표 스케치
+     * @param byDivision 그룹 ID를 키로 하는 지표 스케치
+     */
+    public record Window(
+            OffsetDateTime from,
+            OffsetDateTime to,
+            Long2ObjectMap<DDSketch[]> byRegion,
+            Long2ObjectMap<DDSketch[]> byDivision
+    ) {
+    }
+
+    /**
+     * 시간 버킷 하나의 리전/그룹별 지표 스케치입니다. 만들어진 뒤에는 변경되지 않습니다.
+     */
+    private final class Bucket {
+        private final Long2ObjectOpenHashMap<DDSketch[]> byRegion = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<DDSketch[]> byDivision = new Long2ObjectOpenHashMap<>();
+
+        void accept(long regionId, long divisionId, FleetHealthMetric metric, double value) {
+            add(byRegion, regionId, metric, value);
+            add(byDivision, divisionId, metric, value);
+        }
+
+        private void add(Long2ObjectOpenHashMap<DDSketch[]> sketches, long key, FleetHealthMetric metric, double value) {
+            if (key == NONE || Double.isNaN(value)) {
+                return;
+            }
+
+            DDSketch[] metrics = sketches.computeIfAbsent(key, id -> new DDSketch[METRIC_COUNT]);
+            if (metrics[metric.ordinal()] == null) {
+                metrics[metric.ordinal()] = newSketch();
+            }
+            metrics[metric.ordinal()].accept(value);
+        }
+    }
+}
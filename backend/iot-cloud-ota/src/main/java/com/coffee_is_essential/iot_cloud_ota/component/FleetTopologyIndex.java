@@ -0,0 +1,401 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceLivenessChangedEvent;
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceMembership;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceTargetJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 리전/그룹별 소속 디바이스 집합을 압축 비트맵(Roaring64Bitmap)으로 메모리에 보관하는 인덱스입니다.
+ * 애플리케이션 시작 시 device 테이블 전체로 구성하고, 디바이스 저장/등록 시 해당 디바이스만 갱신하며,
+ * 다른 경로로 변경된 행을 반영하기 위해 주기적으로 전체를 다시 구성합니다.
+ * 배포 대상 선정은 비트맵 합집합으로 계산하여 MySQL 조회 없이 처리합니다.
+ * 리전/그룹별 디바이스 수와 활성 디바이스 수는 등록/이동과 DeviceLivenessChangedEvent에 맞춰 카운터로 유지하므로,
+ * 요약 조회는 전체 디바이스 수와 관계없이 상수 시간에 응답합니다.
+ * 인덱스가 아직 구성되지 않았으면 {@link #isReady()}가 false를 반환하며, 호출 측은 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FleetTopologyIndex {
+    private static final long NONE = 0L;
+
+    private final DeviceTargetJdbcRepository deviceTargetJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Roaring64Bitmap activeDevices = new Roaring64Bitmap();
+    private final List<SavedDevice> savedDuringRebuild = new ArrayList<>();
+    private Topology topology = new Topology();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    /**
+     * 재구성 중에 저장되어 새 인덱스에 다시 반영해야 하는 디바이스 소속
+     *
+     * @param deviceId   디바이스 ID
+     * @param regionId   리전 ID
+     * @param divisionId 그룹 ID
+     */
+    private record SavedDevice(long deviceId, long regionId, long divisionId) {
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("fleet.topology.devices", this, FleetTopologyIndex::deviceCount)
+                .description("Number of devices held by the fleet topology index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 device 테이블 전체로 인덱스를 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * device 테이블 전체를 읽어 새 인덱스를 구성한 뒤 교체합니다.
+     * 구성 중에도 기존 인덱스로 조회할 수 있습니다.
+     * 테이블을 읽는 동안 저장된 디바이스는 읽기 결과에 빠졌거나 이전 값일 수 있으므로,
+     * 따로 모아 두었다가 교체 직전에 새 인덱스에 다시 반영합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${fleet.topology.rebuild-interval-ms:600000}",
+            fixedDelayString = "${fleet.topology.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            savedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+            Topology rebuilt = new Topology();
+            deviceTargetJdbcRepository.streamTopology(rebuilt::put);
+            rebuilt.runOptimize();
+
+            lock.writeLock().lock();
+            try {
+                for (SavedDevice saved : savedDuringRebuild) {
+                    rebuilt.put(saved.deviceId(), saved.regionId(), saved.divisionId());
+                }
+                activeDevices.forEach(deviceId -> rebuilt.setActive(deviceId, true));
+                topology = rebuilt;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info(
+                    "[REBUILT] Fleet topology index, devices={}, regions={}, divisions={}, tookMs={}",
+                    rebuilt.devices.getLongCardinality(),
+                    rebuilt.byRegion.size(),
+                    rebuilt.byDivision.size(),
+                    (System.nanoTime() - startedAt) / 1_000_000
+            );
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to rebuild fleet topology index, err={}", e.getMessage(), e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                savedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 저장된 디바이스의 소속을 인덱스에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 인덱스에 남지 않도록 합니다.
+     *
+     * @param deviceId   디바이스 ID
+     * @param regionId   리전 ID
+     * @param divisionId 그룹 ID
+     */
+    public void onDeviceSaved(Long deviceId, Long regionId, Long divisionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(deviceId, regionId, divisionId);
+                }
+            });
+            return;
+        }
+
+        put(deviceId, regionId, divisionId);
+    }
+
+    /**
+     * 디바이스 활성 상태 변경을 리전/그룹별 활성 디바이스 카운터에 반영합니다.
+     * 활성 디바이스 집합은 인덱스 재구성과 무관하게 유지되어 새 인덱스에도 다시 적용됩니다.
+     *
+     * @param event 활성/비활성으로 바뀐 디바이스 목록
+     */
+    @EventListener
+    public void onLivenessChanged(DeviceLivenessChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (long deviceId : event.activated()) {
+                activeDevices.addLong(deviceId);
+                topology.setActive(deviceId, true);
+            }
+            for (long deviceId : event.deactivated()) {
+                activeDevices.removeLong(deviceId);
+                topology.setActive(deviceId, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 구성이 끝나 조회에 사용할 수 있는지 여부를 반환합니다.
+     *
+     * @return 사용 가능하면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 디바이스/그룹/리전 조건 중 하나라도 일치하는 디바이스 ID를 오름차순으로 반환합니다.
+     * 디바이스 ID 조건은 인덱스에 존재하는 디바이스만 포함합니다.
+     *
+     * @param deviceIds 디바이스 ID 목록
+     * @param groupIds  그룹 ID 목록
+     * @param regionIds 리전 ID 목록
+     * @return 정렬된 배포 대상 디바이스 ID 배열
+     */
+    public long[] resolve(Collection<Long> deviceIds, Collection<Long> groupIds, Collection<Long> regionIds) {
+        Roaring64Bitmap result = new Roaring64Bitmap();
+
+        lock.readLock().lock();
+        try {
+            for (Long deviceId : deviceIds) {
+                if (topology.devices.contains(deviceId)) {
+                    result.addLong(deviceId);
+                }
+            }
+            for (Long groupId : groupIds) {
+                Roaring64Bitmap members = topology.byDivision.get(groupId.longValue());
+                if (members != null) {
+                    result.or(members);
+                }
+            }
+            for (Long regionId : regionIds) {
+                Roaring64Bitmap members = topology.byRegion.get(regionId.longValue());
+                if (members != null) {
+                    result.or(members);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result.toArray();
+    }
+
+    /**
+     * 리전에 속한 디바이스 수를 반환합니다.
+     *
+     * @param regionId 리전 ID
+     * @return 디바이스 수
+     */
+    public long countByRegion(Long regionId) {
+        lock.readLock().lock();
+        try {
+            return topology.regionCounts.get(regionId.longValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그룹에 속한 디바이스 수를 반환합니다.
+     *
+     * @param divisionId 그룹 ID
+     * @return 디바이스 수
+     */
+    public long countByDivision(Long divisionId) {
+        lock.readLock().lock();
+        try {
+            return topology.divisionCounts.get(divisionId.longValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 리전에 속한 활성 디바이스 수를 반환합니다.
+     *
+     * @param regionId 리전 ID
+     * @return 활성 디바이스 수
+     */
+    public long activeCountByRegion(Long regionId) {
+        lock.readLock().lock();
+        try {
+            return topology.regionActiveCounts.get(regionId.longValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 그룹에 속한 활성 디바이스 수를 반환합니다.
+     *
+     * @param divisionId 그룹 ID
+     * @return 활성 디바이스 수
+     */
+    public long activeCountByDivision(Long divisionId) {
+        lock.readLock().lock();
+        try {
+            return topology.divisionActiveCounts.get(divisionId.longValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 인덱스의 디바이스별 소속 리전/그룹을 복사해 반환합니다.
+     *
+     * @return 디바이스 소속 스냅샷
+     */
+    public DeviceMembership membership() {
+        lock.readLock().lock();
+        try {
+            return new DeviceMembership(new Long2LongOpenHashMap(topology.regionOf), new Long2LongOpenHashMap(topology.divisionOf));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long deviceId, Long regionId, Long divisionId) {
+        long region = regionId == null ? NONE : regionId;
+        long division = divisionId == null ? NONE : divisionId;
+
+        lock.writeLock().lock();
+        try {
+            topology.put(deviceId, region, division);
+            topology.setActive(deviceId, activeDevices.contains(deviceId));
+            if (rebuilding) {
+                savedDuringRebuild.add(new SavedDevice(deviceId, region, division));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long deviceCount() {
+        lock.readLock().lock();
+        try {
+            return topology.devices.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 디바이스 집합과 리전/그룹별 디바이스 비트맵, 디바이스별 현재 소속, 리전/그룹별 (활성) 디바이스 카운터를 묶은 스냅샷입니다.
+     * 디바이스의 소속이 바뀌면 이전 리전/그룹 비트맵과 카운터에서 제거합니다.
+     */
+    private static final class Topology {
+        private final Roaring64Bitmap devices = new Roaring64Bitmap();
+        private final Roaring64Bitmap active = new Roaring64Bitmap();
+        private final Long2ObjectOpenHashMap<Roaring64Bitmap> byRegion = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<Roaring64Bitmap> byDivision = new Long2ObjectOpenHashMap<>();
+        private final Long2LongOpenHashMap regionOf = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap divisionOf = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap regionCounts = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap divisionCounts = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap regionActiveCounts = new Long2LongOpenHashMap();
+        private final Long2LongOpenHashMap divisionActiveCounts = new Long2LongOpenHashMap();
+
+        void put(long deviceId, long regionId, long divisionId) {
+            boolean wasActive = active.contains(deviceId);
+            if (devices.contains(deviceId)) {
+                setActive(deviceId, false);
+                detach(byRegion, regionCounts, regionOf.get(deviceId), deviceId);
+                detach(byDivision, divisionCounts, divisionOf.get(deviceId), deviceId);
+            }
+            regionOf.put(deviceId, regionId);
+            divisionOf.put(deviceId, divisionId);
+
+            devices.addLong(deviceId);
+            attach(byRegion, regionCounts, regionId, deviceId);
+            attach(byDivision, divisionCounts, divisionId, deviceId);
+            setActive(deviceId, wasActive);
+        }
+
+        void setActive(long deviceId, boolean isActive) {
+            if (!devices.contains(deviceId) || active.contains(deviceId) == isActive) {
+                return;
+            }
+
+            long delta = isActive ? 1L : -1L;
+            if (isActive) {
+                active.addLong(deviceId);
+            } else {
+                active.removeLong(deviceId);
+            }
+            adjust(regionActiveCounts, regionOf.get(deviceId), delta);
+            adjust(divisionActiveCounts, divisionOf.get(deviceId), delta);
+        }
+
+        void runOptimize() {
+            devices.runOptimize();
+            byRegion.values().forEach(Roaring64Bitmap::runOptimize);
+            byDivision.values().forEach(Roaring64Bitmap::runOptimize);
+        }
+
+        private static void attach(Long2ObjectOpenHashMap<Roaring64Bitmap> index, Long2LongOpenHashMap counts, long key, long deviceId) {
+            if (key == NONE) {
+                return;
+            }
+
+            index.computeIfAbsent(key, id -> new Roaring64Bitmap()).addLong(deviceId);
+            adjust(counts, key, 1L);
+        }
+
+        private static void detach(Long2ObjectOpenHashMap<Roaring64Bitmap> index, Long2LongOpenHashMap counts, long key, long deviceId) {
+            Roaring64Bitmap members = index.get(key);
+            if (members != null && members.contains(deviceId)) {
+                members.removeLong(deviceId);
+                adjust(counts, key, -1L);
+            }
+        }
+
+        private static void adjust(Long2LongOpenHashMap counts, long key, long delta) {
+            if (key != NONE) {
+                counts.addTo(key, delta);
+            }
+        }
+    }
+}
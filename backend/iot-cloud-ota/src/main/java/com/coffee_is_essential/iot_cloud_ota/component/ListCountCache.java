@@ -0,0 +1,53 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회의 전체 개수를 일정 시간 동안 캐시하는 컴포넌트입니다.
+ * 커서 기반 목록은 페이지마다 COUNT(*)를 실행하지 않고, 클라이언트가 요청할 때만 이 캐시의 추정치를 반환합니다.
+ * 캐시된 값은 ttl-ms 동안 재사용되므로 실제 개수와 약간 다를 수 있습니다.
+ */
+@Component
+public class ListCountCache {
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Value("${listing.count-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${listing.count-cache.max-size:1000}")
+    private int maxSize;
+
+    /**
+     * 키에 해당하는 전체 개수 추정치를 반환합니다.
+     * 캐시가 없거나 만료되었으면 counter로 다시 집계합니다.
+     *
+     * @param key     목록 종류와 필터 조건을 나타내는 키
+     * @param counter 실제 개수를 집계하는 함수
+     * @return 전체 개수 추정치
+     */
+    public long estimate(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        if (counts.size() >= maxSize) {
+            counts.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        if (counts.size() < maxSize) {
+            counts.put(key, new CachedCount(count, now + ttlMs));
+        }
+
+        return count;
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.repository.AdsMetadataJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.DivisionJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareMetadataJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.MetadataSearchRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.RegionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 펌웨어/광고 메타데이터와 리전/그룹을 MetadataSearchRepository에 색인하는 컴포넌트입니다.
+ * 애플리케이션 시작 시 네 테이블 전체를 페이지 단위로 읽어 색인하고, 메타데이터 저장 시 해당 문서만 갱신하며,
+ * 다른 경로로 변경된 행을 반영하기 위해 주기적으로 전체를 다시 색인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetadataSearchIndexer {
+    private final MetadataSearchRepository metadataSearchRepository;
+    private final FirmwareMetadataJpaRepository firmwareMetadataJpaRepository;
+    private final AdsMetadataJpaRepository adsMetadataJpaRepository;
+    private final RegionJpaRepository regionJpaRepository;
+    private final DivisionJpaRepository divisionJpaRepository;
+
+    @Value("${search.index.page-size:1000}")
+    private int pageSize;
+
+    /**
+     * 애플리케이션 시작 후 전체 문서를 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 네 테이블 전체를 읽어 새 인덱스를 구성한 뒤 교체합니다.
+     * 구성 중에도 기존 인덱스로 검색할 수 있습니다.
+     */
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:3600000}"
+    )
+    public void rebuild() {
+        try {
+            long startedAt = System.nanoTime();
+            AtomicLong documents = new AtomicLong();
+            metadataSearchRepository.rebuild(sink -> {
+                Consumer<SearchDocument> counting = document -> {
+                    sink.accept(document);
+                    documents.incrementAndGet();
+                };
+                feed(firmwareMetadataJpaRepository, SearchDocument::from, counting);
+                feed(adsMetadataJpaRepository, SearchDocument::from, counting);
+                feed(regionJpaRepository, SearchDocument::from, counting);
+                feed(divisionJpaRepository, SearchDocument::from, counting);
+            });
+
+            log.info("[REBUILT] Metadata search index, documents={}, tookMs={}", documents.get(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to rebuild metadata search index, err={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장된 엔티티를 색인에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 색인에 남지 않도록 합니다.
+     *
+     * @param document 색인할 문서
+     */
+    public void onSaved(SearchDocument document) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    save(document);
+                }
+            });
+            return;
+        }
+
+        save(document);
+    }
+
+    private void save(SearchDocument document) {
+        try {
+            metadataSearchRepository.save(document);
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to index metadata, type={}, id={}, err={}", document.type(), document.id(), e.getMessage(), e);
+        }
+    }
+
+    private <E> void feed(JpaRepository<E, Long> repository, Function<E, SearchDocument> mapper, Consumer<SearchDocument> sink) {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("id").ascending());
+        Page<E> page;
+        do {
+            page = repository.findAll(pageable);
+            page.getContent().forEach(entity -> sink.accept(mapper.apply(entity)));
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+}
@@ -0,0 +1,228 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배포별 미완료 디바이스를 Redis 비트맵으로 보관하는 구현입니다.
+ * 디바이스 ID를 비트 오프셋으로 사용하므로 메모리 사용량은 최대 디바이스 ID / 8 바이트로 고정되며,
+ * 멤버마다 문자열을 저장하는 SET보다 훨씬 작습니다.
+ * 키는 deploy:devices:{commandId}로 네임스페이스를 분리하고, 추가/제거는 파이프라인으로 한 번에 전송하며,
+ * 전체 조회는 GETRANGE로 일정 크기씩 나누어 읽습니다.
+ * <p>
+ * 비트맵 크기가 가장 큰 오프셋에 비례하므로 deploy.redis.bitmap-max-device-id를 넘거나 음수인 디바이스 ID는
+ * 비트맵 대신 deploy:devices:{commandId}:overflow SET에 보관합니다. 이 상한은 SETBIT 오프셋 제한(2^32 - 1)을 넘을 수 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deploy.redis.encoding", havingValue = "bitmap")
+public class RedisBitmapDeploymentDeviceStore implements DeploymentDeviceStore {
+    private static final String KEY_PREFIX = "deploy:devices:";
+    private static final String OVERFLOW_SUFFIX = ":overflow";
+    private static final long MAX_BIT_OFFSET = (1L << 32) - 1;
+
+    private final StringRedisTemplate srt;
+
+    @Value("${deploy.redis.bitmap-read-chunk-bytes:65536}")
+    private int readChunkBytes;
+
+    @Value("${deploy.redis.bitmap-max-device-id:16777215}")
+    private long maxDeviceId;
+
+    @Value("${deploy.redis.scan-count:1000}")
+    private long scanCount;
+
+    @PostConstruct
+    public void init() {
+        if (maxDeviceId < 0 || maxDeviceId > MAX_BIT_OFFSET) {
+            throw new IllegalStateException("deploy.redis.bitmap-max-device-id는 0 이상 " + MAX_BIT_OFFSET + " 이하여야 합니다: " + maxDeviceId);
+        }
+    }
+
+    @Override
+    public void add(String commandId, Collection<Long> deviceIds, Duration ttl) {
+        if (deviceIds.isEmpty()) {
+            return;
+        }
+
+        byte[] key = key(commandId);
+        byte[] overflowKey = overflowKey(commandId);
+        srt.executePipelined((RedisCallback<Object>) connection -> {
+            boolean overflowed = false;
+            for (Long deviceId : deviceIds) {
+                if (isBitmapOffset(deviceId)) {
+                    connection.stringCommands().setBit(key, deviceId, true);
+                } else {
+                    connection.setCommands().sAdd(overflowKey, member(deviceId));
+                    overflowed = true;
+                }
+            }
+            connection.keyCommands().expire(key, ttl.toSeconds());
+            if (overflowed) {
+                connection.keyCommands().expire(overflowKey, ttl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void remove(String commandId, Collection<Long> deviceIds) {
+        if (deviceIds.isEmpty()) {
+            return;
+        }
+
+        byte[] key = key(commandId);
+        byte[] overflowKey = overflowKey(commandId);
+        srt.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long deviceId : deviceIds) {
+                if (isBitmapOffset(deviceId)) {
+                    connection.stringCommands().setBit(key, deviceId, false);
+                } else {
+                    connection.setCommands().sRem(overflowKey, member(deviceId));
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Long> members(String commandId) {
+        byte[] key = key(commandId);
+        Long length = srt.execute((RedisCallback<Long>) connection -> connection.stringCommands().strLen(key));
+        List<Long> deviceIds = new ArrayList<>();
+
+        if (length != null) {
+            for (long start = 0; start < length; start += readChunkBytes) {
+                long from = start;
+                long to = Math.min(start + readChunkBytes, length) - 1;
+                byte[] chunk = srt.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().getRange(key, from, to));
+                if (chunk == null) {
+                    break;
+                }
+                collectSetBits(chunk, from, deviceIds);
+            }
+        }
+
+        try (Cursor<String> cursor = srt.opsForSet().scan(KEY_PREFIX + commandId + OVERFLOW_SUFFIX, ScanOptions.scanOptions().count(scanCount).build())) {
+            while (cursor.hasNext()) {
+                deviceIds.add(Long.parseLong(cursor.next()));
+            }
+        }
+
+        return deviceIds;
+    }
+
+    @Override
+    public List<Long> findMembers(String commandId, Collection<Long> deviceIds) {
+        if (deviceIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> inBitmap = new ArrayList<>(deviceIds.size());
+        List<Long> overflowed = new ArrayList<>();
+        for (Long deviceId : deviceIds) {
+            (isBitmapOffset(deviceId) ? inBitmap : overflowed).add(deviceId);
+        }
+
+        List<Long> members = new ArrayList<>();
+        if (!inBitmap.isEmpty()) {
+            byte[] key = key(commandId);
+            List<Object> bits = srt.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long deviceId : inBitmap) {
+                    connection.stringCommands().getBit(key, deviceId);
+                }
+                return null;
+            });
+
+            for (int i = 0; i < inBitmap.size(); i++) {
+                if (Boolean.TRUE.equals(bits.get(i))) {
+                    members.add(inBitmap.get(i));
+                }
+            }
+        }
+
+        if (!overflowed.isEmpty()) {
+            Map<Object, Boolean> membership = srt.opsForSet().isMember(
+                    KEY_PREFIX + commandId + OVERFLOW_SUFFIX,
+                    overflowed.stream().map(String::valueOf).toArray()
+            );
+            if (membership != null) {
+                membership.entrySet().stream()
+                        .filter(e -> Boolean.TRUE.equals(e.getValue()))
+                        .map(e -> Long.parseLong((String) e.getKey()))
+                        .forEach(members::add);
+            }
+        }
+
+        return members;
+    }
+
+    @Override
+    public long count(String commandId) {
+        byte[] key = key(commandId);
+        Long count = srt.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key));
+        Long overflowCount = srt.opsForSet().size(KEY_PREFIX + commandId + OVERFLOW_SUFFIX);
+
+        return (count == null ? 0L : count) + (overflowCount == null ? 0L : overflowCount);
+    }
+
+    @Override
+    public void delete(String commandId) {
+        srt.delete(List.of(KEY_PREFIX + commandId, KEY_PREFIX + commandId + OVERFLOW_SUFFIX));
+    }
+
+    /**
+     * 비트맵 조각에서 1로 설정된 비트를 디바이스 ID로 변환합니다.
+     * Redis 비트맵은 각 바이트의 최상위 비트가 가장 작은 오프셋입니다.
+     *
+     * @param chunk      비트맵 조각
+     * @param byteOffset 조각의 시작 바이트 위치
+     * @param deviceIds  결과를 담을 리스트
+     */
+    private void collectSetBits(byte[] chunk, long byteOffset, List<Long> deviceIds) {
+        for (int i = 0; i < chunk.length; i++) {
+            int b = chunk[i] & 0xFF;
+            while (b != 0) {
+                int highest = Integer.numberOfLeadingZeros(b) - 24;
+                deviceIds.add((byteOffset + i) * 8 + highest);
+                b &= ~(0x80 >>> highest);
+            }
+        }
+    }
+
+    /**
+     * 디바이스 ID를 비트맵 오프셋으로 쓸 수 있는지 확인합니다.
+     *
+     * @param deviceId 디바이스 ID
+     * @return 0 이상 maxDeviceId 이하이면 true, 그 외에는 overflow SET에 보관해야 하므로 false
+     */
+    private boolean isBitmapOffset(long deviceId) {
+        return deviceId >= 0 && deviceId <= maxDeviceId;
+    }
+
+    private byte[] key(String commandId) {
+        return (KEY_PREFIX + commandId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] overflowKey(String commandId) {
+        return (KEY_PREFIX + commandId + OVERFLOW_SUFFIX).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] member(long deviceId) {
+        return Long.toString(deviceId).getBytes(StandardCharsets.UTF_8);
+    }
+}
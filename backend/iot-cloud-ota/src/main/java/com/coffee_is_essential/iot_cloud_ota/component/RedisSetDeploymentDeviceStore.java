@@ -0,0 +1,91 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배포별 미완료 디바이스를 commandId 키의 Redis SET(10진수 문자열 멤버)으로 보관하는 기본 구현입니다.
+ * 전체 조회는 SMEMBERS 대신 SSCAN 커서로 나누어 읽어 한 번에 큰 응답을 받지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deploy.redis.encoding", havingValue = "set", matchIfMissing = true)
+public class RedisSetDeploymentDeviceStore implements DeploymentDeviceStore {
+    private final StringRedisTemplate srt;
+
+    @Value("${deploy.redis.scan-count:1000}")
+    private long scanCount;
+
+    @Override
+    public void add(String commandId, Collection<Long> deviceIds, Duration ttl) {
+        if (deviceIds.isEmpty()) {
+            return;
+        }
+
+        srt.opsForSet().add(commandId, deviceIds.stream().map(String::valueOf).toArray(String[]::new));
+        srt.expire(commandId, ttl);
+    }
+
+    @Override
+    public void remove(String commandId, Collection<Long> deviceIds) {
+        if (deviceIds.isEmpty()) {
+            return;
+        }
+
+        srt.opsForSet().remove(commandId, deviceIds.stream().map(String::valueOf).toArray());
+    }
+
+    @Override
+    public List<Long> members(String commandId) {
+        List<Long> deviceIds = new ArrayList<>();
+        try (Cursor<String> cursor = srt.opsForSet().scan(commandId, ScanOptions.scanOptions().count(scanCount).build())) {
+            while (cursor.hasNext()) {
+                deviceIds.add(Long.parseLong(cursor.next()));
+            }
+        }
+
+        return deviceIds;
+    }
+
+    @Override
+    public List<Long> findMembers(String commandId, Collection<Long> deviceIds) {
+        if (deviceIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Object, Boolean> membership = srt.opsForSet().isMember(
+                commandId,
+                deviceIds.stream().map(String::valueOf).toArray()
+        );
+        if (membership == null) {
+            return List.of();
+        }
+
+        return membership.entrySet().stream()
+                .filter(e -> Boolean.TRUE.equals(e.getValue()))
+                .map(e -> Long.parseLong((String) e.getKey()))
+                .toList();
+    }
+
+    @Override
+    public long count(String commandId) {
+        Long size = srt.opsForSet().size(commandId);
+        return size == null ? 0L : size;
+    }
+
+    @Override
+    public void delete(String commandId) {
+        srt.delete(commandId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 리소스 경로와 만료 버킷을 키로 CloudFront Signed URL을 보관하는 LRU 캐시입니다.
+ * 같은 버킷 안에서는 같은 리소스에 대해 같은 URL이 반환되므로 RSA 서명을 반복하지 않으며,
+ * 브라우저와 CDN에서도 URL 단위 캐싱이 가능해집니다.
+ * 적중/미적중 횟수, 제거 횟수, 캐시 크기는 Actuator 메트릭으로 노출됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SignedUrlCache {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cloudfront.signed-url.cache-size:10000}")
+    private int maxSize;
+
+    private Map<String, String> cache;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    public void init() {
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        hits = Counter.builder("cloudfront.signed.url.cache.requests")
+                .tag("result", "hit")
+                .description("Signed URL cache lookups")
+                .register(meterRegistry);
+        misses = Counter.builder("cloudfront.signed.url.cache.requests")
+                .tag("result", "miss")
+                .description("Signed URL cache lookups")
+                .register(meterRegistry);
+        evictions = Counter.builder("cloudfront.signed.url.cache.evictions")
+                .description("Signed URLs evicted from the cache")
+                .register(meterRegistry);
+        Gauge.builder("cloudfront.signed.url.cache.size", this, SignedUrlCache::size)
+                .description("Number of signed URLs held in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 Signed URL을 반환하고, 없으면 서명하여 캐시에 저장합니다.
+     * 서명은 락 밖에서 수행되므로 동시에 같은 키를 요청하면 중복 서명될 수 있지만 결과는 동일합니다.
+     *
+     * @param resourcePath    CloudFront 리소스 경로
+     * @param expiresAtMillis 만료 버킷의 종료 시각 (epoch millis)
+     * @param signer          캐시 미적중 시 URL을 서명하는 함수
+     * @return 서명된 CloudFront URL
+     */
+    public String get(String resourcePath, long expiresAtMillis, Supplier<String> signer) {
+        String key = resourcePath + "@" + expiresAtMillis;
+        synchronized (cache) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        String signedUrl = signer.get();
+        synchronized (cache) {
+            cache.put(key, signedUrl);
+        }
+
+        return signedUrl;
+    }
+
+    private double size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.TelemetryPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 텔레메트리 이력의 닫힌 버킷을 시리즈(조회 대상 + 버킷 크기)별로 캐시하는 컴포넌트입니다.
+ * 닫힌 버킷의 값은 더 이상 바뀌지 않으므로, 같은 시리즈를 주기적으로 다시 조회하는 대시보드는
+ * 캐시된 구간 이후의 버킷만 QuestDB에서 읽습니다.
+ * 시리즈마다 연속으로 알고 있는 구간(coveredFrom ~ coveredTo)을 함께 보관하여, 행이 없어 생략된 버킷도 조회 완료로 취급합니다.
+ * 그룹 시리즈는 캐시 시점의 소속 디바이스 기준이며, ttl-ms가 지나면 다시 조회합니다.
+ */
+@Component
+public class TelemetryHistoryCache {
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    @Value("${telemetry.history.cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    @Value("${telemetry.history.cache.max-series:1000}")
+    private int maxSeries;
+
+    @Value("${telemetry.history.cache.max-points-per-series:1000}")
+    private int maxPointsPerSeries;
+
+    /**
+     * 조회 구간의 앞부분 중 캐시된 버킷을 반환합니다.
+     *
+     * @param key    시리즈 키
+     * @param fromMs 조회 시작 시각 (버킷 경계, epoch millis)
+     * @param toMs   조회 종료 시각 (epoch millis)
+     * @return 캐시된 버킷과 이어서 조회할 시작 시각
+     */
+    public CachedRange find(String key, long fromMs, long toMs) {
+        Series cached = series.get(key);
+        if (cached == null) {
+            return new CachedRange(List.of(), fromMs);
+        }
+
+        synchronized (cached) {
+            if (cached.expiresAt <= System.currentTimeMillis() || fromMs < cached.coveredFrom || fromMs >= cached.coveredTo) {
+                return new CachedRange(List.of(), fromMs);
+            }
+
+            long resumeAt = Math.min(cached.coveredTo, toMs);
+            return new CachedRange(new ArrayList<>(cached.points.subMap(fromMs, resumeAt).values()), resumeAt);
+        }
+    }
+
+    /**
+     * 조회한 닫힌 버킷을 시리즈에 반영합니다.
+     * 기존 구간과 겹치거나 맞닿으면 이어 붙이고, 그렇지 않으면 새 구간으로 교체합니다.
+     * 시리즈당 버킷 수가 max-points-per-series를 넘으면 오래된 버킷부터 버립니다.
+     *
+     * @param key           시리즈 키
+     * @param fromMs        조회한 구간의 시작 시각 (버킷 경계, epoch millis)
+     * @param closedUntilMs 닫힌 버킷 구간의 끝 시각 (버킷 경계, epoch millis)
+     * @param points        [fromMs, closedUntilMs) 구간의 버킷 목록
+     */
+    public void store(String key, long fromMs, long closedUntilMs, List<TelemetryPoint> points) {
+        if (closedUntilMs <= fromMs) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!series.containsKey(key) && series.size() >= maxSeries) {
+            series.values().removeIf(entry -> entry.expiresAt <= now);
+            if (series.size() >= maxSeries) {
+                return;
+            }
+        }
+
+        Series target = series.computeIfAbsent(key, ignored -> new Series());
+        synchronized (target) {
+            boolean contiguous = target.expiresAt > now && fromMs <= target.coveredTo && closedUntilMs >= target.coveredFrom;
+            if (!contiguous) {
+                target.points.clear();
+                target.coveredFrom = fromMs;
+                target.coveredTo = fromMs;
+            }
+
+            for (TelemetryPoint point : points) {
+                target.points.put(point.epochMillis(), point);
+            }
+            target.coveredFrom = Math.min(target.coveredFrom, fromMs);
+            target.coveredTo = Math.max(target.coveredTo, closedUntilMs);
+
+            while (target.points.size() > maxPointsPerSeries) {
+                target.coveredFrom = target.points.pollFirstEntry().getKey() + 1;
+            }
+            target.expiresAt = now + ttlMs;
+        }
+    }
+
+    /**
+     * 캐시 조회 결과입니다.
+     *
+     * @param points   캐시된 버킷 목록
+     * @param resumeAt 이어서 조회할 시작 시각 (epoch millis)
+     */
+    public record CachedRange(List<TelemetryPoint> points, long resumeAt) {
+    }
+
+    private static final class Series {
+        private final TreeMap<Long, TelemetryPoint> points = new TreeMap<>();
+        private long coveredFrom;
+        private long coveredTo;
+        private long expiresAt;
+    }
+}
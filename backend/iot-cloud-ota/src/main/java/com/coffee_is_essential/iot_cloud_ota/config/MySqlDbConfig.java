@@ -1,10 +1,13 @@
 package com.coffee_is_essential.iot_cloud_ota.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import javax.sql.DataSource;
 
@@ -13,6 +16,9 @@ import javax.sql.DataSource;
  * Spring Boot의 spring.datasource.* 설정을 읽어와
  * HikariCP 기반의 DataSource Bean을 생성합니다.
  * 이 Bean은 JPA/Hibernate가 사용할 기본 DataSource로 등록됩니다.
+ * 대량 insert/update처럼 JPA로 처리하기 비효율적인 작업을 위해
+ * 같은 DataSource를 사용하는 {@link JdbcTemplate}, {@link NamedParameterJdbcTemplate}도 Bean으로 등록하며,
+ * JPA 트랜잭션 안에서 호출되면 같은 커넥션과 트랜잭션에 참여합니다.
  */
 @Configuration
 public class MySqlDbConfig {
@@ -24,4 +30,14 @@ public class MySqlDbConfig {
                 .type(com.zaxxer.hikari.HikariDataSource.class)
                 .build();
     }
+
+    @Bean(name = "mySqlJdbcTemplate")
+    public JdbcTemplate mySqlJdbcTemplate(@Qualifier("mySqlDbDataSource") DataSource ds) {
+        return new JdbcTemplate(ds);
+    }
+
+    @Bean(name = "mySqlNamedJdbc")
+    public NamedParameterJdbcTemplate mySqlNamedJdbc(@Qualifier("mySqlDbDataSource") DataSource ds) {
+        return new NamedParameterJdbcTemplate(ds);
+    }
 }
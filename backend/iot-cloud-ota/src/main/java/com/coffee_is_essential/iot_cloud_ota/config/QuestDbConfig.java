@@ -16,6 +16,8 @@ import javax.sql.DataSource;
  * 이를 활용한 {@link JdbcTemplate}, {@link NamedParameterJdbcTemplate}를 Bean으로 등록합니다.
  * QuestDB는 주로 시계열 데이터 저장 및 조회에 사용되며,
  * JPA가 아닌 JDBC 접근 방식을 통해 활용합니다.
+ * 조회용 풀과 분리된 쓰기 전용 풀(questdb.write-datasource.*)도 등록하여,
+ * 배치 쓰기가 조회 커넥션을 점유하지 않도록 합니다.
  */
 @Configuration
 public class QuestDbConfig {
@@ -36,4 +38,17 @@ public class QuestDbConfig {
     public NamedParameterJdbcTemplate questDbNamedJdbc(@Qualifier("questDbDataSource") DataSource ds) {
         return new NamedParameterJdbcTemplate(ds);
     }
+
+    @Bean(name = "questDbWriteDataSource")
+    @ConfigurationProperties(prefix = "questdb.write-datasource")
+    public DataSource questDbWriteDataSource() {
+        return DataSourceBuilder.create()
+                .type(com.zaxxer.hikari.HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(name = "questDbWriteJdbcTemplate")
+    public JdbcTemplate questDbWriteJdbcTemplate(@Qualifier("questDbWriteDataSource") DataSource ds) {
+        return new JdbcTemplate(ds);
+    }
 }
@@ -1,24 +1,41 @@
 package com.coffee_is_essential.iot_cloud_ota.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
+/**
+ * MQTT Handler 호출에 사용하는 RestClient 설정입니다.
+ * JDK HttpClient를 공유하여 keep-alive 연결을 재사용하며,
+ * MQTT Handler가 평문 HTTP/1.1만 제공하므로 h2c 업그레이드 시도 없이 HTTP/1.1로 고정합니다.
+ */
 @Configuration
 public class RestClientConfig {
-    private static final int CONNECTION_TIMEOUT = 60;
-    private static final int READ_TIMEOUT = 60;
+    @Value("${mqtt.handler.client.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${mqtt.handler.client.read-timeout-ms:30000}")
+    private long readTimeoutMs;
+
+    @Bean
+    public HttpClient mqttHandlerHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
 
     @Bean
-    public RestClient restClient(RestClient.Builder builder) {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT));
-        requestFactory.setReadTimeout(Duration.ofSeconds(READ_TIMEOUT));
+    public RestClient restClient(HttpClient mqttHandlerHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(mqttHandlerHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
 
         return RestClient.builder()
                 .requestFactory(requestFactory)
@@ -1,8 +1,11 @@
 package com.coffee_is_essential.iot_cloud_ota.controller;
 
 
+import com.coffee_is_essential.iot_cloud_ota.domain.AdsDeploymentMetadata;
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
+import com.coffee_is_essential.iot_cloud_ota.service.AdsMetadataJobService;
 import com.coffee_is_essential.iot_cloud_ota.service.AdsService;
 import com.coffee_is_essential.iot_cloud_ota.service.DeploymentService;
 import jakarta.validation.Valid;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/ads")
 public class AdsController {
     private final AdsService adsService;
+    private final AdsMetadataJobService adsMetadataJobService;
     private final DeploymentService deploymentService;
 
     /**
@@ -31,6 +35,33 @@ public class AdsController {
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
+    /**
+     * 광고 메타데이터를 비동기로 저장합니다.
+     * 바이너리 파일의 해시 계산이 끝날 때까지 기다리지 않고 작업 식별자를 바로 반환합니다.
+     *
+     * @param requestDto 광고 제목, 설명, 원본/바이너리 S3 경로 정보를 담은 요청 DTO
+     * @return 생성된 작업의 상태 응답 DTO
+     */
+    @PostMapping("/metadata/async")
+    public ResponseEntity<AdsMetadataJobResponseDto> saveAdvertisementMetadataAsync(@Valid @RequestBody AdsMetadataRequestDto requestDto) {
+        AdsMetadataJobResponseDto responseDto = adsMetadataJobService.submit(requestDto);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 광고 메타데이터 비동기 저장 작업의 상태를 조회합니다.
+     *
+     * @param jobId 작업 식별자
+     * @return 작업 상태 응답 DTO
+     */
+    @GetMapping("/metadata/jobs/{jobId}")
+    public ResponseEntity<AdsMetadataJobResponseDto> findMetadataJob(@PathVariable String jobId) {
+        AdsMetadataJobResponseDto responseDto = adsMetadataJobService.findJob(jobId);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     /**
      * 광고 메타데이터 목록을 페이지네이션 방식으로 조회합니다.
      * 검색어가 주어지면 해당 제목 또는 설명에 대해 부분 일치 검색을 수행합니다.
@@ -94,6 +125,26 @@ public class AdsController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    /**
+     * 광고 배포 목록을 커서 기반으로 조회합니다. 최신 배포부터 반환됩니다.
+     *
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        한 번에 조회할 데이터 개수 (기본값: 10)
+     * @param includeTotal 캐시된 전체 개수 추정치 포함 여부 (기본값: false)
+     * @return 광고 배포 목록과 다음 페이지 커서를 담은 응답 DTO
+     */
+    @GetMapping("/deployment/list/cursor")
+    public ResponseEntity<CursorListResponseDto<AdsDeploymentMetadata>> findAllDeploymentListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = CursorInfo.of(cursor, limit, includeTotal);
+        CursorListResponseDto<AdsDeploymentMetadata> responseDto = deploymentService.getAdsDeploymentListByCursor(cursorInfo);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     /**
      * ID로 광고 배포 상세 정보를 조회합니다.
      *
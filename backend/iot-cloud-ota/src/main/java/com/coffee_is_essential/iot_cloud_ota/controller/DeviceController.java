@@ -1,14 +1,20 @@
 package com.coffee_is_essential.iot_cloud_ota.controller;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.service.DeviceService;
+import com.coffee_is_essential.iot_cloud_ota.service.TelemetryHistoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DeviceController {
     private final DeviceService deviceService;
+    private final TelemetryHistoryService telemetryHistoryService;
 
     /**
      * 모든 디바이스의 요약 정보를 조회합니다.
@@ -56,6 +63,31 @@ public class DeviceController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    /**
+     * 디바이스 목록을 커서 기반으로 조회합니다.
+     * OFFSET과 COUNT 쿼리 없이 (생성 시각, ID) 순서로 이어서 조회하므로 디바이스 수가 많아도 깊은 페이지의 비용이 일정합니다.
+     *
+     * @param regionId     (선택 사항) 필터링할 리전 ID
+     * @param groupId      (선택 사항) 필터링할 그룹 ID
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        (기본값: 10) 조회할 디바이스 수
+     * @param includeTotal (기본값: false) 캐시된 전체 개수 추정치 포함 여부
+     * @return 디바이스 목록과 다음 페이지 커서, HTTP 200 응답
+     */
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorListResponseDto<DeviceResponseDto>> findAllDevicesByCursor(
+            @RequestParam(required = false) Long regionId,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = CursorInfo.of(cursor, limit, includeTotal);
+        CursorListResponseDto<DeviceResponseDto> responseDto = deviceService.findAllDevicesByCursor(regionId, groupId, cursorInfo);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     /**
      * 특정 디바이스의 상세 정보를 조회합니다.
      * 디바이스의 상세 정보에는 디바이스 아이디, 디바이스 이름, 리전 이름, 그룹 이름, 활성화 상태 여부,
@@ -71,6 +103,29 @@ public class DeviceController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    /**
+     * 디바이스의 CPU 코어, 메모리, 저장소 사용률 이력을 차트용으로 다운샘플링하여 조회합니다.
+     * 조회 구간 길이에 맞춰 버킷 크기를 정하므로 구간과 관계없이 약 500개의 버킷이 반환되며,
+     * 응답은 조회되는 대로 스트리밍됩니다.
+     *
+     * @param id   조회할 디바이스의 ID
+     * @param from (선택 사항) 조회 시작 시각 (ISO-8601), 없으면 종료 시각 1시간 전
+     * @param to   (선택 사항) 조회 종료 시각 (ISO-8601), 없으면 현재 시각
+     * @return scope, id, from, to, bucket, deviceCount와 버킷별 평균(points)을 담은 JSON 스트림과 HTTP 200 응답
+     */
+    @GetMapping("{id}/telemetry")
+    public ResponseEntity<StreamingResponseBody> findTelemetryHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        StreamingResponseBody responseBody = telemetryHistoryService.streamDeviceHistory(id, from, to);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBody);
+    }
+
     /**
      * 새로운 디바이스를 등록합니다.
      *
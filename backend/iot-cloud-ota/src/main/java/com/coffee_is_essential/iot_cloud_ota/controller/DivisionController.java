@@ -1,16 +1,26 @@
 package com.coffee_is_essential.iot_cloud_ota.controller;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
+import com.coffee_is_essential.iot_cloud_ota.dto.CursorListResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.DivisionListResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.DivisionResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.DivisionSummaryResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.service.DivisionService;
+import com.coffee_is_essential.iot_cloud_ota.service.TelemetryHistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.OffsetDateTime;
 
 import java.util.List;
 
@@ -22,6 +32,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DivisionController {
     private final DivisionService divisionService;
+    private final TelemetryHistoryService telemetryHistoryService;
 
     /**
      * 전체 그룹의 요약 정보를 조회합니다.
@@ -57,4 +68,49 @@ public class DivisionController {
 
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
+
+    /**
+     * 전체 그룹 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        페이지당 항목 수 (기본값: 10)
+     * @param search       검색어 (선택 사항) - 그룹 코드 또는 그룹 이름을 기준으로 검색
+     * @param includeTotal 캐시된 전체 개수 추정치 포함 여부 (기본값: false)
+     * @return 그룹 목록과 다음 페이지 커서가 포함된 응답 DTO와 HTTP 200 OK 응답
+     */
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorListResponseDto<DivisionResponseDto>> findAllDivisionsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = new CursorInfo(cursor, limit, search, includeTotal);
+        CursorListResponseDto<DivisionResponseDto> responseDto = divisionService.findAllDivisionsByCursor(cursorInfo);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * 그룹에 속한 디바이스들의 CPU 코어, 메모리, 저장소 사용률 이력을 버킷별 평균으로 합쳐 조회합니다.
+     * 조회 구간 길이에 맞춰 버킷 크기를 정하므로 구간과 관계없이 약 500개의 버킷이 반환되며,
+     * 응답은 조회되는 대로 스트리밍됩니다.
+     *
+     * @param id   조회할 그룹의 ID
+     * @param from (선택 사항) 조회 시작 시각 (ISO-8601), 없으면 종료 시각 1시간 전
+     * @param to   (선택 사항) 조회 종료 시각 (ISO-8601), 없으면 현재 시각
+     * @return scope, id, from, to, bucket, deviceCount와 버킷별 평균(points)을 담은 JSON 스트림과 HTTP 200 OK 응답
+     */
+    @GetMapping("/{id}/telemetry")
+    public ResponseEntity<StreamingResponseBody> findTelemetryHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        StreamingResponseBody responseBody = telemetryHistoryService.streamDivisionHistory(id, from, to);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBody);
+    }
 }
@@ -1,5 +1,7 @@
 package com.coffee_is_essential.iot_cloud_ota.controller;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
+import com.coffee_is_essential.iot_cloud_ota.domain.FirmwareDeploymentMetadata;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.service.DeploymentService;
@@ -53,6 +55,28 @@ public class FirmwareController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    /**
+     * 펌웨어 메타데이터 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        페이지당 항목 수 (기본값: 10)
+     * @param search       검색어 (선택 사항) - 펌웨어 버전 또는 릴리즈 노트 내용을 기준으로 검색
+     * @param includeTotal 캐시된 전체 개수 추정치 포함 여부 (기본값: false)
+     * @return 펌웨어 메타데이터 목록과 다음 페이지 커서가 포함된 응답 DTO
+     */
+    @GetMapping("/metadata/cursor")
+    public ResponseEntity<CursorListResponseDto<FirmwareMetadataResponseDto>> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = new CursorInfo(cursor, limit, search, includeTotal);
+        CursorListResponseDto<FirmwareMetadataResponseDto> responseDto = firmwareMetadataService.findAllByCursor(cursorInfo);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     /**
      * 지정한 펌웨어 ID에 해당하는 펌웨어 메타데이터를 조회합니다.
      *
@@ -97,6 +121,25 @@ public class FirmwareController {
         return new ResponseEntity<>(list, HttpStatus.OK);
     }
 
+    /**
+     * 펌웨어 배포 목록을 커서 기반으로 조회합니다. 최신 배포부터 반환됩니다.
+     *
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        페이지당 항목 수 (기본값: 10)
+     * @param includeTotal 캐시된 전체 개수 추정치 포함 여부 (기본값: false)
+     * @return 펌웨어 배포 목록과 다음 페이지 커서가 포함된 응답 DTO
+     */
+    @GetMapping("/deployment/list/cursor")
+    public ResponseEntity<CursorListResponseDto<FirmwareDeploymentMetadata>> findAllDeploymentListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = CursorInfo.of(cursor, limit, includeTotal);
+        CursorListResponseDto<FirmwareDeploymentMetadata> list = deploymentService.getFirmwareDeploymentListByCursor(cursorInfo);
+        return new ResponseEntity<>(list, HttpStatus.OK);
+    }
+
     /**
      * 특정 ID에 해당하는 펌웨어 배포 상세 정보를 조회합니다.
      * 배포 식별자 ID를 Path Variable로 받아서,
@@ -0,0 +1,34 @@
+package com.coffee_is_essential.iot_cloud_ota.controller;
+
+import com.coffee_is_essential.iot_cloud_ota.dto.FleetHealthResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.service.FleetHealthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 플릿 전체 상태 집계 요청을 처리하는 REST 컨트롤러 입니다.
+ */
+@RestController
+@RequestMapping("/api/fleet")
+@RequiredArgsConstructor
+public class FleetHealthController {
+    private final FleetHealthService fleetHealthService;
+
+    /**
+     * 리전/그룹별 CPU 코어, 메모리, 저장소 사용률과 신호 세기의 p50/p95/p99를 조회합니다.
+     *
+     * @param windowMinutes 집계 구간 길이 (분, 기본값: 60)
+     * @return 집계 구간과 리전/그룹별 분위수를 담은 응답 DTO와 HTTP 200 OK 응답
+     */
+    @GetMapping("/health")
+    public ResponseEntity<FleetHealthResponseDto> findFleetHealth(@RequestParam(defaultValue = "60") int windowMinutes) {
+        FleetHealthResponseDto responseDto = fleetHealthService.findFleetHealth(windowMinutes);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+}
@@ -1,7 +1,10 @@
 package com.coffee_is_essential.iot_cloud_ota.controller;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
+import com.coffee_is_essential.iot_cloud_ota.dto.CursorListResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.RegionListResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.RegionResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.RegionSummaryResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.service.RegionService;
 import lombok.RequiredArgsConstructor;
@@ -56,4 +59,26 @@ public class RegionController {
 
         return new ResponseEntity(responseDto, HttpStatus.OK);
     }
+
+    /**
+     * 전체 리전 목록을 커서 기반으로 조회합니다.
+     *
+     * @param cursor       (선택 사항) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param limit        페이지당 항목 수 (기본값: 10)
+     * @param search       검색어 (선택 사항) - 리전 코드 또는 리전 이름을 기준으로 검색
+     * @param includeTotal 캐시된 전체 개수 추정치 포함 여부 (기본값: false)
+     * @return 리전 목록과 다음 페이지 커서가 포함된 응답 DTO와 HTTP 200 OK 응답
+     */
+    @GetMapping("/list/cursor")
+    public ResponseEntity<CursorListResponseDto<RegionResponseDto>> findAllRegionsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorInfo cursorInfo = new CursorInfo(cursor, limit, search, includeTotal);
+        CursorListResponseDto<RegionResponseDto> responseDto = regionService.findAllRegionsByCursor(cursorInfo);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
 }
@@ -2,6 +2,7 @@ package com.coffee_is_essential.iot_cloud_ota.controller;
 
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.service.CloudFrontSignedUrlService;
+import com.coffee_is_essential.iot_cloud_ota.service.MultipartUploadService;
 import com.coffee_is_essential.iot_cloud_ota.service.S3Service;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * AWS S3 관련 요청을 처리하는 REST 컨트롤러 입니다.
  */
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class S3Controller {
     private final S3Service s3Service;
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
+    private final MultipartUploadService multipartUploadService;
 
     /**
      * Presigned URL을 발급하여 클라이언트가 인증 없이 S3에 펌웨어 파일을 업로드할 수 있도록 합니다.
@@ -45,6 +49,79 @@ public class S3Controller {
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
+    /**
+     * 대용량 파일 업로드를 위한 S3 멀티파트 업로드를 시작하고 파트별 Presigned URL을 발급합니다.
+     *
+     * @param requestDto 파일 크기와 파트 크기를 담은 요청 DTO
+     * @return 업로드 ID, 저장 경로, 파트별 Presigned URL을 담은 응답 DTO
+     */
+    @PostMapping("/multipart")
+    public ResponseEntity<MultipartUploadInitiateResponseDto> initiateMultipartUpload(@Valid @RequestBody MultipartUploadInitiateRequestDto requestDto) {
+        MultipartUploadInitiateResponseDto responseDto = multipartUploadService.initiate(requestDto);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * 멀티파트 업로드의 진행 상태(이미 업로드된 파트 목록)를 조회합니다.
+     *
+     * @param uploadId S3 멀티파트 업로드 ID
+     * @return 업로드 진행 상태 응답 DTO
+     */
+    @GetMapping("/multipart/{uploadId}")
+    public ResponseEntity<MultipartUploadStatusResponseDto> getMultipartUploadStatus(@PathVariable String uploadId) {
+        MultipartUploadStatusResponseDto responseDto = multipartUploadService.getStatus(uploadId);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * 지정한 파트들의 업로드용 Presigned URL을 다시 발급합니다.
+     *
+     * @param uploadId    S3 멀티파트 업로드 ID
+     * @param partNumbers 다시 발급할 파트 번호 목록
+     * @return 파트별 Presigned URL 목록
+     */
+    @GetMapping("/multipart/{uploadId}/parts")
+    public ResponseEntity<List<PartUploadUrlDto>> presignMultipartUploadParts(
+            @PathVariable String uploadId,
+            @RequestParam List<Integer> partNumbers
+    ) {
+        List<PartUploadUrlDto> responseDto = multipartUploadService.presignParts(uploadId, partNumbers);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * 업로드된 파트들을 하나의 객체로 합쳐 멀티파트 업로드를 완료합니다.
+     *
+     * @param uploadId   S3 멀티파트 업로드 ID
+     * @param requestDto 전체 파일 해시와 파트별 ETag를 담은 요청 DTO
+     * @return 저장 경로, 파일 크기, 해시를 담은 응답 DTO
+     */
+    @PostMapping("/multipart/{uploadId}/complete")
+    public ResponseEntity<MultipartUploadCompleteResponseDto> completeMultipartUpload(
+            @PathVariable String uploadId,
+            @Valid @RequestBody MultipartUploadCompleteRequestDto requestDto
+    ) {
+        MultipartUploadCompleteResponseDto responseDto = multipartUploadService.complete(uploadId, requestDto);
+
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    /**
+     * 진행 중인 멀티파트 업로드를 취소합니다.
+     *
+     * @param uploadId S3 멀티파트 업로드 ID
+     * @return 응답 본문 없음
+     */
+    @DeleteMapping("/multipart/{uploadId}")
+    public ResponseEntity<Void> abortMultipartUpload(@PathVariable String uploadId) {
+        multipartUploadService.abort(uploadId);
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     /**
      * 광고 파일 다운로드를 위한 CloudFront 서명된 URL을 반환합니다.
      *
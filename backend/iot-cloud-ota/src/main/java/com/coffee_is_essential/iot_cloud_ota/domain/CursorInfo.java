@@ -0,0 +1,54 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 커서 기반 목록 조회 요청 정보를 담는 도메인 모델.
+ * 클라이언트가 전달하는 커서 토큰, 페이지 크기, 검색 키워드, 전체 개수 포함 여부를 담고 있습니다.
+ *
+ * @param cursor       이전 응답의 nextCursor 토큰 (첫 페이지는 null)
+ * @param limit        한 번에 조회할 항목 수
+ * @param search       검색어 (nullable 또는 빈 문자열일 수 있음)
+ * @param includeTotal 캐시된 전체 개수 추정치를 응답에 포함할지 여부
+ */
+public record CursorInfo(
+        String cursor,
+        int limit,
+        String search,
+        boolean includeTotal
+) {
+    private static final int MAX_LIMIT = 100;
+
+    public CursorInfo {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+    }
+
+    public static CursorInfo of(String cursor, int limit, boolean includeTotal) {
+        return new CursorInfo(cursor, limit, null, includeTotal);
+    }
+
+    /**
+     * 요청 커서를 디코딩합니다. 커서가 없으면 오름차순 시작 커서를 반환합니다.
+     *
+     * @return 조회 시작 커서
+     */
+    public SeekCursor ascendingAfter() {
+        return hasCursor() ? SeekCursor.decode(cursor) : SeekCursor.ascendingStart();
+    }
+
+    /**
+     * 요청 커서를 디코딩합니다. 커서가 없으면 내림차순 시작 커서를 반환합니다.
+     *
+     * @return 조회 시작 커서
+     */
+    public SeekCursor descendingAfter() {
+        return hasCursor() ? SeekCursor.decode(cursor) : SeekCursor.descendingStart();
+    }
+
+    private boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
@@ -3,6 +3,9 @@ package com.coffee_is_essential.iot_cloud_ota.domain;
 
 import com.coffee_is_essential.iot_cloud_ota.entity.Device;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * OTA 배포 대상 디바이스의 정보를 담은 도메인 클래스 입니다.
  */
@@ -12,4 +15,13 @@ public record DeployTargetDeviceInfo(Long deviceId) {
 
         return new DeployTargetDeviceInfo(device.getDeviceId());
     }
+
+    public static List<DeployTargetDeviceInfo> fromIds(long[] deviceIds) {
+        List<DeployTargetDeviceInfo> deviceInfos = new ArrayList<>(deviceIds.length);
+        for (long deviceId : deviceIds) {
+            deviceInfos.add(new DeployTargetDeviceInfo(deviceId));
+        }
+
+        return deviceInfos;
+    }
 }
@@ -0,0 +1,13 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+/**
+ * 배포별 최신 전체 배포 상태를 나타내는 도메인 모델.
+ *
+ * @param deploymentId  배포 ID
+ * @param overallStatus 전체 배포 상태 (예: IN_PROGRESS, COMPLETED)
+ */
+public record DeploymentOverallStatus(
+        Long deploymentId,
+        String overallStatus
+) {
+}
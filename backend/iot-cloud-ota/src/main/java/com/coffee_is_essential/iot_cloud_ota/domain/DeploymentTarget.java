@@ -0,0 +1,19 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+/**
+ * 여러 배포의 대상 정보를 한 번에 조회할 때 사용하는 도메인 모델.
+ * 어떤 배포에 속한 대상인지 구분하기 위해 배포 ID를 함께 담습니다.
+ *
+ * @param deploymentId 배포 ID
+ * @param id           대상의 고유 ID (Device/Division/Region)
+ * @param name         대상 이름
+ */
+public record DeploymentTarget(
+        Long deploymentId,
+        Long id,
+        String name
+) {
+    public Target toTarget() {
+        return new Target(id, name);
+    }
+}
@@ -0,0 +1,14 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+/**
+ * 디바이스 활성 상태가 바뀌었음을 알리는 이벤트입니다.
+ * DeviceLivenessIndex가 갱신 주기마다 새로 활성화되었거나 비활성화된 디바이스를 모아 발행합니다.
+ *
+ * @param activated   비활성에서 활성으로 바뀐 디바이스 ID 목록
+ * @param deactivated 활성에서 비활성으로 바뀐 디바이스 ID 목록
+ */
+public record DeviceLivenessChangedEvent(
+        long[] activated,
+        long[] deactivated
+) {
+}
@@ -0,0 +1,23 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+
+/**
+ * 디바이스별 소속 리전/그룹 ID 스냅샷을 나타내는 도메인 모델.
+ * 소속이 없는 디바이스와 스냅샷에 없는 디바이스는 0을 반환합니다.
+ *
+ * @param regions   디바이스 ID를 키로 하는 리전 ID 맵
+ * @param divisions 디바이스 ID를 키로 하는 그룹 ID 맵
+ */
+public record DeviceMembership(
+        Long2LongMap regions,
+        Long2LongMap divisions
+) {
+    public long regionOf(long deviceId) {
+        return regions.get(deviceId);
+    }
+
+    public long divisionOf(long deviceId) {
+        return divisions.get(deviceId);
+    }
+}
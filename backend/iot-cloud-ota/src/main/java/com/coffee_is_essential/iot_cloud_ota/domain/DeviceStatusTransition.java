@@ -0,0 +1,16 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+
+/**
+ * 배포 대상 디바이스의 상태 전이를 나타내는 도메인 모델.
+ * firmware_deployment_device 테이블에 일괄 저장할 때 사용됩니다.
+ *
+ * @param deviceId         디바이스 고유 식별자
+ * @param deploymentStatus 전이된 배포 상태 (예: IN_PROGRESS, SUCCESS, FAILED, TIMEOUT)
+ */
+public record DeviceStatusTransition(
+        Long deviceId,
+        DeploymentStatus deploymentStatus
+) {
+}
@@ -0,0 +1,13 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+/**
+ * 스트리밍 배포 요청에서 MQTT Handler가 청크 처리 후 돌려주는 확인 응답입니다.
+ *
+ * @param chunk    처리한 청크 번호 (0부터 시작)
+ * @param accepted 해당 청크에서 처리된 디바이스 수
+ */
+public record DispatchChunkAck(
+        int chunk,
+        int accepted
+) {
+}
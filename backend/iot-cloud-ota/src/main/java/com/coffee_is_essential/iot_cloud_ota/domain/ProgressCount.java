@@ -13,9 +13,10 @@ public class ProgressCount {
     private long successCount;
     private long inProgressCount;
     private long failedCount;
+    private long cancelledCount;
 
     public static ProgressCount from(List<DeploymentStatusCount> countList) {
-        long total = 0, success = 0, inProgress = 0, failed = 0;
+        long total = 0, success = 0, inProgress = 0, failed = 0, cancelled = 0;
 
         for (DeploymentStatusCount statusCount : countList) {
             if (statusCount.deploymentStatus().equals(DeploymentStatus.IN_PROGRESS.name())) {
@@ -26,11 +27,13 @@ public class ProgressCount {
                 success += statusCount.count();
             } else if (statusCount.deploymentStatus().equals(DeploymentStatus.FAILED.name())) {
                 failed += statusCount.count();
+            } else if (statusCount.deploymentStatus().equals(DeploymentStatus.CANCELLED.name())) {
+                cancelled += statusCount.count();
             }
 
             total += statusCount.count();
         }
 
-        return new ProgressCount(total, success, inProgress, failed);
+        return new ProgressCount(total, success, inProgress, failed, cancelled);
     }
 }
@@ -0,0 +1,69 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.AdsMetadata;
+import com.coffee_is_essential.iot_cloud_ota.entity.Division;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareMetadata;
+import com.coffee_is_essential.iot_cloud_ota.entity.Region;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메타데이터 검색 인덱스에 저장할 문서를 나타내는 도메인 모델.
+ *
+ * @param type   문서 종류
+ * @param id     원본 엔티티 ID
+ * @param fields 검색 대상 필드 이름과 값
+ */
+public record SearchDocument(
+        SearchDocumentType type,
+        long id,
+        Map<String, String> fields
+) {
+    public static SearchDocument from(FirmwareMetadata firmware) {
+        return new SearchDocument(SearchDocumentType.FIRMWARE, firmware.getId(), fields(
+                "version", firmware.getVersion(),
+                "fileName", firmware.getFileName(),
+                "releaseNote", firmware.getReleaseNote()
+        ));
+    }
+
+    public static SearchDocument from(AdsMetadata ads) {
+        return new SearchDocument(SearchDocumentType.ADS, ads.getId(), fields(
+                "title", ads.getTitle(),
+                "description", ads.getDescription()
+        ));
+    }
+
+    public static SearchDocument from(Region region) {
+        return new SearchDocument(SearchDocumentType.REGION, region.getId(), fields(
+                "regionCode", region.getRegionCode(),
+                "regionName", region.getRegionName()
+        ));
+    }
+
+    public static SearchDocument from(Division division) {
+        return new SearchDocument(SearchDocumentType.DIVISION, division.getId(), fields(
+                "divisionCode", division.getDivisionCode(),
+                "divisionName", division.getDivisionName()
+        ));
+    }
+
+    /**
+     * 필드 이름과 값을 번갈아 받아 값이 있는 필드만 담은 맵을 만듭니다.
+     *
+     * @param namesAndValues 필드 이름, 값, 필드 이름, 값, ... 순서의 배열
+     * @return 필드 이름과 값의 맵
+     */
+    private static Map<String, String> fields(String... namesAndValues) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            if (namesAndValues[i + 1] != null) {
+                fields.put(namesAndValues[i], namesAndValues[i + 1]);
+            }
+        }
+
+        return fields;
+    }
+}
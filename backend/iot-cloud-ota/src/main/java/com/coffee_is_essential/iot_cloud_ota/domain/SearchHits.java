@@ -0,0 +1,39 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 메타데이터 검색 결과를 나타내는 도메인 모델.
+ *
+ * @param ids       관련도 순으로 정렬된 현재 페이지의 엔티티 ID 목록
+ * @param totalHits 검색어와 일치하는 전체 문서 수
+ */
+public record SearchHits(
+        List<Long> ids,
+        long totalHits
+) {
+    /**
+     * ID로 조회한 엔티티들을 검색 결과의 관련도 순서대로 정렬합니다.
+     * 검색 이후 삭제되어 조회되지 않은 엔티티는 제외됩니다.
+     *
+     * @param rows ID로 조회한 엔티티 목록 (순서 무관)
+     * @param idOf 엔티티에서 ID를 꺼내는 함수
+     * @return 관련도 순으로 정렬된 엔티티 목록
+     */
+    public <E> List<E> orderByRank(Collection<E> rows, Function<E, Long> idOf) {
+        Map<Long, E> byId = new HashMap<>();
+        for (E row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션에서 마지막으로 반환한 행의 정렬 키 (created_at, id)를 나타내는 도메인 모델.
+ * 클라이언트에는 내부 구조를 알 수 없는 base64url 토큰으로 전달됩니다.
+ * created_at이 없는 테이블(region, division)은 id만으로 정렬하며 createdAt은 null입니다.
+ *
+ * @param createdAt 마지막 행의 생성 시각 (id만으로 정렬하는 경우 null)
+ * @param id        마지막 행의 ID
+ */
+public record SeekCursor(
+        OffsetDateTime createdAt,
+        long id
+) {
+    private static final String SEPARATOR = "|";
+    private static final OffsetDateTime MIN_CREATED_AT = OffsetDateTime.of(1970, 1, 1, 0, 0, 1, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime MAX_CREATED_AT = OffsetDateTime.of(2999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    /**
+     * 오름차순 목록의 첫 페이지를 조회하기 위한 시작 커서를 반환합니다.
+     *
+     * @return 모든 행보다 앞서는 커서
+     */
+    public static SeekCursor ascendingStart() {
+        return new SeekCursor(MIN_CREATED_AT, 0L);
+    }
+
+    /**
+     * 내림차순 목록의 첫 페이지를 조회하기 위한 시작 커서를 반환합니다.
+     *
+     * @return 모든 행보다 뒤에 오는 커서
+     */
+    public static SeekCursor descendingStart() {
+        return new SeekCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 토큰으로 인코딩합니다.
+     *
+     * @return base64url 토큰
+     */
+    public String encode() {
+        String createdAtPart = createdAt == null ? "" : createdAt.toInstant().toString();
+        String raw = createdAtPart + SEPARATOR + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰을 커서로 디코딩합니다.
+     *
+     * @param token base64url 토큰
+     * @return 디코딩된 커서
+     * @throws ResponseStatusException 토큰 형식이 올바르지 않은 경우 400 BAD_REQUEST
+     */
+    public static SeekCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            String createdAtPart = raw.substring(0, separator);
+            long id = Long.parseLong(raw.substring(separator + 1));
+            OffsetDateTime createdAt = createdAtPart.isEmpty()
+                    ? null
+                    : Instant.parse(createdAtPart).atOffset(ZoneOffset.UTC);
+
+            return new SeekCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
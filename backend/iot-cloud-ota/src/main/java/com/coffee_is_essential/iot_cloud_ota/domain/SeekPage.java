@@ -0,0 +1,33 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션으로 조회한 한 페이지의 행과 다음 페이지 커서를 담는 도메인 모델.
+ * 다음 페이지 존재 여부는 limit보다 한 행 더 조회하여 판단하므로 COUNT 쿼리가 필요 없습니다.
+ *
+ * @param content 현재 페이지의 행 목록
+ * @param next    다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record SeekPage<E>(
+        List<E> content,
+        SeekCursor next
+) {
+    /**
+     * limit + 1개까지 조회한 결과로 페이지를 구성합니다.
+     *
+     * @param fetched  limit + 1개까지 조회한 행 목록
+     * @param limit    페이지 크기
+     * @param cursorOf 행에서 커서를 만드는 함수
+     * @return 현재 페이지와 다음 페이지 커서
+     */
+    public static <E> SeekPage<E> of(List<E> fetched, int limit, Function<E, SeekCursor> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new SeekPage<>(fetched, null);
+        }
+
+        List<E> content = fetched.subList(0, limit);
+        return new SeekPage<>(content, cursorOf.apply(content.get(limit - 1)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 텔레메트리 이력의 버킷 하나를 나타내는 도메인 모델.
+ * 각 값은 버킷에 속한 system_status 행의 평균입니다.
+ *
+ * @param timestamp    버킷 시작 시각
+ * @param samples      버킷에 속한 행 수
+ * @param cpuCore0     CPU 코어 0 사용률 평균
+ * @param cpuCore1     CPU 코어 1 사용률 평균
+ * @param memoryUsage  메모리 사용률 평균
+ * @param storageUsage 저장소 사용률 평균
+ */
+public record TelemetryPoint(
+        OffsetDateTime timestamp,
+        long samples,
+        double cpuCore0,
+        double cpuCore1,
+        double memoryUsage,
+        double storageUsage
+) {
+    public long epochMillis() {
+        return timestamp.toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,18 @@
+package com.coffee_is_essential.iot_cloud_ota.domain;
+
+import java.sql.Timestamp;
+
+/**
+ * QuestDB download_events 테이블에 기록할 타임아웃 이벤트를 나타내는 도메인 모델.
+ * 배치 쓰기 큐에 쌓였다가 한 번의 JDBC 배치로 저장됩니다.
+ *
+ * @param commandId  타임아웃이 발생한 command_id
+ * @param deviceId   타임아웃이 발생한 디바이스 ID
+ * @param occurredAt 타임아웃 판정 시각
+ */
+public record TimeoutEvent(
+        String commandId,
+        long deviceId,
+        Timestamp occurredAt
+) {
+}
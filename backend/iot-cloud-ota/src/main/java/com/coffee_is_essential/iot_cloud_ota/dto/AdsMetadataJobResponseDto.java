@@ -0,0 +1,42 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.JobStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 광고 메타데이터 비동기 등록 작업의 상태 응답 DTO입니다.
+ *
+ * @param jobId     작업 식별자
+ * @param status    작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)
+ * @param result    작업 완료 시 저장된 광고 메타데이터 (완료 전에는 null)
+ * @param error     작업 실패 시 실패 사유 (실패가 아니면 null)
+ * @param createdAt 작업 생성 시각
+ */
+public record AdsMetadataJobResponseDto(
+        String jobId,
+        JobStatus status,
+        SaveAdvertisementMetadataResponseDto result,
+        String error,
+        OffsetDateTime createdAt
+) {
+    public static AdsMetadataJobResponseDto pending(String jobId) {
+        return new AdsMetadataJobResponseDto(jobId, JobStatus.PENDING, null, null, OffsetDateTime.now());
+    }
+
+    public AdsMetadataJobResponseDto running() {
+        return new AdsMetadataJobResponseDto(jobId, JobStatus.RUNNING, null, null, createdAt);
+    }
+
+    public AdsMetadataJobResponseDto completed(SaveAdvertisementMetadataResponseDto result) {
+        return new AdsMetadataJobResponseDto(jobId, JobStatus.COMPLETED, result, null, createdAt);
+    }
+
+    public AdsMetadataJobResponseDto failed(String error) {
+        return new AdsMetadataJobResponseDto(jobId, JobStatus.FAILED, null, error, createdAt);
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekPage;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회된 목록과 커서 페이지 정보가 포함된 응답 DTO 입니다.
+ *
+ * @param items      조회된 항목 목록
+ * @param cursorMeta 페이지 크기, 다음 커서, 다음 페이지 존재 여부, 전체 개수 추정치를 포함한 DTO
+ */
+public record CursorListResponseDto<T>(
+        List<T> items,
+        CursorPageMetadataDto cursorMeta
+) {
+    public static <T> CursorListResponseDto<T> of(List<T> items, SeekPage<?> page, int limit, Long estimatedTotalCount) {
+        CursorPageMetadataDto metadataDto = new CursorPageMetadataDto(
+                limit,
+                page.next() == null ? null : page.next().encode(),
+                page.next() != null,
+                estimatedTotalCount
+        );
+
+        return new CursorListResponseDto<>(items, metadataDto);
+    }
+}
@@ -0,0 +1,17 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+/**
+ * 커서 기반 페이지네이션에 대한 메타데이터 정보를 포함한 DTO 입니다.
+ *
+ * @param limit               페이지당 항목 수
+ * @param nextCursor          다음 페이지를 조회할 때 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext             다음 페이지 존재 여부
+ * @param estimatedTotalCount 캐시된 전체 항목 수 추정치 (includeTotal=false면 null)
+ */
+public record CursorPageMetadataDto(
+        int limit,
+        String nextCursor,
+        boolean hasNext,
+        Long estimatedTotalCount
+) {
+}
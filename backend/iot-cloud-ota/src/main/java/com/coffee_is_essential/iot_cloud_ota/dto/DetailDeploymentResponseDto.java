@@ -23,6 +23,7 @@ import java.util.List;
  * @param successCount    성공적으로 배포 완료된 디바이스 개수
  * @param inProgressCount 현재 배포 진행 중인 디바이스 개수
  * @param failedCount     실패(TIMEOUT 포함)한 디바이스 개수
+ * @param cancelledCount  단계적 배포 중단으로 취소된 디바이스 개수
  * @param status          전체 배포 상태
  * @param deployedAt      배포 시작 시각
  * @param expiresAt       배포 만료 시각
@@ -38,6 +39,7 @@ public record DetailDeploymentResponseDto(
         Long successCount,
         Long inProgressCount,
         Long failedCount,
+        Long cancelledCount,
         OverallStatus status,
         OffsetDateTime deployedAt,
         OffsetDateTime expiresAt,
@@ -54,6 +56,7 @@ public record DetailDeploymentResponseDto(
                 progressCount.getSuccessCount(),
                 progressCount.getInProgressCount(),
                 progressCount.getFailedCount(),
+                progressCount.getCancelledCount(),
                 status.getOverallStatus(),
                 firmwareDeployment.getDeployedAt(),
                 firmwareDeployment.getExpiresAt(),
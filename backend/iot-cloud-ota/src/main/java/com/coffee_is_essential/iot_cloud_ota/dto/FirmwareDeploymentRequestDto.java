@@ -11,11 +11,13 @@ import java.util.List;
  * @param deviceIds 개별 디바이스 ID 목록
  * @param groupIds  디바이스 그룹 ID 목록
  * @param regionIds 디바이스 지역 ID 목록
+ * @param rollout   단계적 배포 계획 (미지정 시 모든 대상에게 즉시 배포)
  */
 public record FirmwareDeploymentRequestDto(
         DeploymentType deploymentType,
         List<Long> deviceIds,
         List<Long> groupIds,
-        List<Long> regionIds
+        List<Long> regionIds,
+        RolloutPlanRequestDto rollout
 ) {
 }
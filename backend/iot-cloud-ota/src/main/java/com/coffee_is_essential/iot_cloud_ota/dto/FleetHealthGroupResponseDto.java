@@ -0,0 +1,42 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.FleetHealthMetric;
+import com.datadoghq.sketch.ddsketch.DDSketch;
+
+/**
+ * 리전 또는 그룹 하나의 플릿 상태 분위수를 클라이언트에 응답하기 위한 DTO 입니다.
+ *
+ * @param id             리전 ID 또는 그룹 ID
+ * @param code           리전 코드 또는 그룹 코드
+ * @param name           리전 이름 또는 그룹 이름
+ * @param cpuCore0       CPU 코어 0 사용률 분위수
+ * @param cpuCore1       CPU 코어 1 사용률 분위수
+ * @param memoryUsage    메모리 사용률 분위수
+ * @param storageUsage   저장소 사용률 분위수
+ * @param signalStrength 신호 세기 분위수
+ */
+public record FleetHealthGroupResponseDto(
+        Long id,
+        String code,
+        String name,
+        QuantileSummaryDto cpuCore0,
+        QuantileSummaryDto cpuCore1,
+        QuantileSummaryDto memoryUsage,
+        QuantileSummaryDto storageUsage,
+        QuantileSummaryDto signalStrength
+) {
+    public static FleetHealthGroupResponseDto of(Long id, String code, String name, DDSketch[] sketches) {
+        DDSketch[] metrics = sketches == null ? new DDSketch[FleetHealthMetric.values().length] : sketches;
+
+        return new FleetHealthGroupResponseDto(
+                id,
+                code,
+                name,
+                QuantileSummaryDto.from(metrics[FleetHealthMetric.CPU_CORE_0.ordinal()]),
+                QuantileSummaryDto.from(metrics[FleetHealthMetric.CPU_CORE_1.ordinal()]),
+                QuantileSummaryDto.from(metrics[FleetHealthMetric.MEMORY_USAGE.ordinal()]),
+                QuantileSummaryDto.from(metrics[FleetHealthMetric.STORAGE_USAGE.ordinal()]),
+                QuantileSummaryDto.from(metrics[FleetHealthMetric.SIGNAL_STRENGTH.ordinal()])
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 리전/그룹별 플릿 상태 분위수를 클라이언트에 응답하기 위한 DTO 입니다.
+ *
+ * @param from      집계 구간 시작 시각
+ * @param to        집계 구간 종료 시각 (마지막으로 닫힌 시간 버킷의 끝)
+ * @param regions   리전별 분위수 목록
+ * @param divisions 그룹별 분위수 목록
+ */
+public record FleetHealthResponseDto(
+        OffsetDateTime from,
+        OffsetDateTime to,
+        List<FleetHealthGroupResponseDto> regions,
+        List<FleetHealthGroupResponseDto> divisions
+) {
+}
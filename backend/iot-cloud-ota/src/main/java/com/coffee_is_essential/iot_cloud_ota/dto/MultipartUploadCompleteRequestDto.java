@@ -0,0 +1,38 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+
+/**
+ * S3 멀티파트 업로드 완료 요청 DTO 입니다.
+ * 클라이언트는 파일을 파트로 나누면서 계산한 전체 파일의 SHA-256 해시를 함께 전달합니다.
+ *
+ * @param fileHash 전체 파일의 SHA-256 해시 값 (16진수 문자열)
+ * @param parts    업로드된 파트 번호와 ETag 목록
+ */
+public record MultipartUploadCompleteRequestDto(
+        @NotBlank(message = "파일 해시는 비어있을 수 없습니다.")
+        @Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "파일 해시는 SHA-256 16진수 문자열이어야 합니다.")
+        String fileHash,
+        @NotEmpty(message = "파트 목록은 비어있을 수 없습니다.")
+        List<@Valid CompletedPart> parts
+) {
+    /**
+     * 업로드 완료된 파트 정보
+     *
+     * @param partNumber 파트 번호
+     * @param eTag       파트 업로드 시 S3가 반환한 ETag
+     */
+    public record CompletedPart(
+            @NotNull(message = "파트 번호는 비어있을 수 없습니다.")
+            Integer partNumber,
+            @NotBlank(message = "ETag는 비어있을 수 없습니다.")
+            String eTag
+    ) {
+    }
+}
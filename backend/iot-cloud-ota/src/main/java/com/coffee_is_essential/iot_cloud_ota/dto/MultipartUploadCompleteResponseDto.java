@@ -0,0 +1,16 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+/**
+ * S3 멀티파트 업로드 완료 응답 DTO 입니다.
+ * 반환된 s3Path로 펌웨어/광고 메타데이터를 등록하면 저장된 해시가 그대로 사용됩니다.
+ *
+ * @param s3Path   S3에 저장된 Key
+ * @param fileSize 저장된 파일 크기 (바이트 단위)
+ * @param fileHash 전체 파일의 SHA-256 해시 값
+ */
+public record MultipartUploadCompleteResponseDto(
+        String s3Path,
+        long fileSize,
+        String fileHash
+) {
+}
@@ -0,0 +1,18 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * S3 멀티파트 업로드 시작 요청 DTO 입니다.
+ *
+ * @param fileSize 업로드할 파일의 전체 크기 (바이트 단위)
+ * @param partSize 파트 하나의 크기 (바이트 단위, 생략 시 서버 기본값 사용)
+ */
+public record MultipartUploadInitiateRequestDto(
+        @NotNull(message = "파일 크기는 비어있을 수 없습니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long fileSize,
+        Long partSize
+) {
+}
@@ -0,0 +1,22 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import java.util.List;
+
+/**
+ * S3 멀티파트 업로드 시작 응답 DTO 입니다.
+ * 클라이언트는 각 파트를 해당 Presigned URL로 병렬 업로드한 뒤 완료 요청을 보냅니다.
+ *
+ * @param uploadId  S3 멀티파트 업로드 ID
+ * @param s3Path    S3에 실제 저장될 Key
+ * @param partSize  파트 하나의 크기 (마지막 파트는 더 작을 수 있음)
+ * @param partCount 전체 파트 수
+ * @param parts     파트별 업로드용 Presigned URL 목록
+ */
+public record MultipartUploadInitiateResponseDto(
+        String uploadId,
+        String s3Path,
+        long partSize,
+        int partCount,
+        List<PartUploadUrlDto> parts
+) {
+}
@@ -0,0 +1,19 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import java.util.List;
+
+/**
+ * S3 멀티파트 업로드 진행 상태 응답 DTO 입니다.
+ *
+ * @param uploadId      S3 멀티파트 업로드 ID
+ * @param s3Path        S3에 실제 저장될 Key
+ * @param partCount     전체 파트 수
+ * @param uploadedParts 이미 업로드된 파트 목록
+ */
+public record MultipartUploadStatusResponseDto(
+        String uploadId,
+        String s3Path,
+        int partCount,
+        List<UploadedPartDto> uploadedParts
+) {
+}
@@ -0,0 +1,13 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+/**
+ * 멀티파트 업로드의 파트별 Presigned URL DTO 입니다.
+ *
+ * @param partNumber 파트 번호 (1부터 시작)
+ * @param url        해당 파트를 PUT으로 업로드할 수 있는 Presigned URL
+ */
+public record PartUploadUrlDto(
+        int partNumber,
+        String url
+) {
+}
@@ -0,0 +1,27 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+import com.datadoghq.sketch.ddsketch.DDSketch;
+
+/**
+ * 지표 하나의 분위수 요약을 클라이언트에 응답하기 위한 DTO 입니다.
+ *
+ * @param count 집계에 사용된 (디바이스, 시간 버킷) 평균값 수
+ * @param p50   50번째 백분위수 (값이 없으면 null)
+ * @param p95   95번째 백분위수 (값이 없으면 null)
+ * @param p99   99번째 백분위수 (값이 없으면 null)
+ */
+public record QuantileSummaryDto(
+        long count,
+        Double p50,
+        Double p95,
+        Double p99
+) {
+    public static QuantileSummaryDto from(DDSketch sketch) {
+        if (sketch == null || sketch.isEmpty()) {
+            return new QuantileSummaryDto(0L, null, null, null);
+        }
+
+        double[] values = sketch.getValuesAtQuantiles(new double[]{0.5, 0.95, 0.99});
+        return new QuantileSummaryDto((long) sketch.getCount(), values[0], values[1], values[2]);
+    }
+}
@@ -5,23 +5,26 @@ import com.coffee_is_essential.iot_cloud_ota.domain.RegionSummary;
 /**
  * 리전 요약 정보를 클라이언트에 응답하기 위한 DTO 입니다.
  *
- * @param regionId   리전 ID
- * @param regionCode 리전 코드 (예: ap-northeast-2)
- * @param regionName 리전 이름 (예: 서울)
- * @param count      해당 리전에 등록된 디바이스 수
+ * @param regionId    리전 ID
+ * @param regionCode  리전 코드 (예: ap-northeast-2)
+ * @param regionName  리전 이름 (예: 서울)
+ * @param count       해당 리전에 등록된 디바이스 수
+ * @param activeCount 해당 리전에서 최근 5분 이내에 상태를 보고한 디바이스 수 (카운터를 사용할 수 없으면 null)
  */
 public record RegionSummaryResponseDto(
         Long regionId,
         String regionCode,
         String regionName,
-        Long count
+        Long count,
+        Long activeCount
 ) {
     public static RegionSummaryResponseDto from(RegionSummary regionSummary) {
         return new RegionSummaryResponseDto(
                 regionSummary.getRegionId(),
                 regionSummary.getRegionCode(),
                 regionSummary.getRegionName(),
-                regionSummary.getCount()
+                regionSummary.getCount(),
+                null
         );
     }
 }
@@ -0,0 +1,20 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+/**
+ * 펌웨어 단계적 배포(rollout) 계획을 지정하는 요청 DTO입니다.
+ * 첫 웨이브(카나리)는 전체 대상 중 canaryPercent 비율만큼 즉시 배포되고,
+ * 이후 웨이브는 waveIntervalSeconds가 지난 뒤 직전 웨이브 하나에 배포된 디바이스의 성공률이 successRate 이상일 때 waveSize씩 배포됩니다.
+ * 앞선 웨이브의 성공은 게이트 계산에 포함되지 않습니다.
+ *
+ * @param canaryPercent       카나리 웨이브 비율 (1~100, %)
+ * @param waveSize            카나리 이후 웨이브당 디바이스 수 (미지정 시 남은 대상을 한 번에 배포)
+ * @param waveIntervalSeconds 웨이브 사이 최소 대기 시간 (초)
+ * @param successRate         다음 웨이브를 배포하기 위한 직전 웨이브의 최소 성공률 (0~1)
+ */
+public record RolloutPlanRequestDto(
+        int canaryPercent,
+        Integer waveSize,
+        long waveIntervalSeconds,
+        double successRate
+) {
+}
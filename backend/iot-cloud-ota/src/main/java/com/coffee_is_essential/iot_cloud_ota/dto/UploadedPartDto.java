@@ -0,0 +1,16 @@
+package com.coffee_is_essential.iot_cloud_ota.dto;
+
+/**
+ * 멀티파트 업로드에서 이미 업로드된 파트 정보 DTO 입니다.
+ * 업로드를 재개할 때 다시 올릴 필요가 없는 파트를 판단하는 데 사용합니다.
+ *
+ * @param partNumber 파트 번호
+ * @param eTag       S3가 반환한 파트의 ETag
+ * @param size       파트 크기 (바이트 단위)
+ */
+public record UploadedPartDto(
+        int partNumber,
+        String eTag,
+        long size
+) {
+}
@@ -0,0 +1,138 @@
+package com.coffee_is_essential.iot_cloud_ota.entity;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * MQTT Handler로 전달할 배포 요청을 보관하는 아웃박스 엔티티입니다.
+ * 배포 엔티티와 같은 트랜잭션에서 저장되므로, 커밋된 배포는 반드시 전달 대상이 되며
+ * 실제 전송은 DeploymentOutboxRelay가 트랜잭션 밖에서 수행합니다.
+ * STREAM 모드에서는 payload에 대상 목록을 제외한 헤더만 저장하고, 대상 디바이스는 전송 시점에 배포 ID와 디바이스 ID 범위로 다시 읽습니다.
+ * 스트림 전송이 중간에 실패하면 확인된 청크 수와 마지막으로 확인된 디바이스 ID를 기록해 두고, 재시도 시 그 다음 청크부터 이어 보냅니다.
+ * 단계적 배포(rollout)는 웨이브마다 별도의 항목을 가지며, 웨이브 0은 즉시 배포 또는 카나리 웨이브입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "deployment_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_deployment_outbox_command_id_wave", columnNames = {"command_id", "wave"}),
+        indexes = @Index(name = "idx_deployment_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+public class DeploymentOutbox extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "command_id", nullable = false)
+    private String commandId;
+
+    @Column(name = "deployment_id", nullable = false)
+    private Long deploymentId;
+
+    @Column(nullable = false)
+    private int wave;
+
+    @Column(name = "device_id_from", nullable = false)
+    private Long deviceIdFrom;
+
+    @Column(name = "device_id_to", nullable = false)
+    private Long deviceIdTo;
+
+    @Column(nullable = false)
+    private String route;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dispatch_mode", nullable = false)
+    private DispatchMode dispatchMode;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "TIMESTAMP")
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "streamed_chunks", nullable = false)
+    private int streamedChunks;
+
+    @Column(name = "streamed_device_id")
+    private Long streamedDeviceId;
+
+    public DeploymentOutbox(String commandId, Long deploymentId, int wave, Long deviceIdFrom, Long deviceIdTo, String route, DispatchMode dispatchMode, String payload) {
+        this.commandId = commandId;
+        this.deploymentId = deploymentId;
+        this.wave = wave;
+        this.deviceIdFrom = deviceIdFrom;
+        this.deviceIdTo = deviceIdTo;
+        this.route = route;
+        this.dispatchMode = dispatchMode;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = OffsetDateTime.now();
+        this.streamedChunks = 0;
+    }
+
+    /**
+     * MQTT Handler가 중복 전달을 판별할 때 사용하는 키입니다.
+     * 웨이브 0은 기존과 같이 commandId를, 이후 웨이브는 commandId에 웨이브 번호를 붙여 사용합니다.
+     */
+    public String getIdempotencyKey() {
+        return wave == 0 ? commandId : commandId + ":" + wave;
+    }
+
+    /**
+     * STREAM 모드에서 MQTT Handler가 확인한 청크까지의 진행 상황을 기록합니다.
+     *
+     * @param streamedChunks   지금까지 확인된 청크 수
+     * @param streamedDeviceId 마지막으로 확인된 청크의 마지막 디바이스 ID
+     */
+    public void markStreamed(int streamedChunks, long streamedDeviceId) {
+        this.streamedChunks = streamedChunks;
+        this.streamedDeviceId = streamedDeviceId;
+    }
+
+    public void markSent() {
+        this.attempts++;
+        this.status = OutboxStatus.SENT;
+        this.lastError = null;
+    }
+
+    public void markRetry(String error, OffsetDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.attempts++;
+        this.status = OutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,35 @@
+package com.coffee_is_essential.iot_cloud_ota.entity;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배포별, 상태별 디바이스 수를 미리 집계해 두는 카운터 엔티티입니다.
+ * firmware_deployment_device에 상태 전이가 기록될 때 같은 트랜잭션에서 함께 갱신되며,
+ * (deployment_id, deployment_status) 조합마다 하나의 행만 존재합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "deployment_progress",
+        uniqueConstraints = @UniqueConstraint(name = "uk_deployment_progress", columnNames = {"deployment_id", "deployment_status"})
+)
+public class DeploymentProgress {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deployment_id", nullable = false)
+    private FirmwareDeployment firmwareDeployment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "deployment_status", nullable = false)
+    private DeploymentStatus deploymentStatus;
+
+    @Column(nullable = false)
+    private long count;
+}
@@ -0,0 +1,139 @@
+package com.coffee_is_essential.iot_cloud_ota.entity;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.RolloutStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 펌웨어 배포의 단계적 배포(rollout) 진행 상태를 저장하는 엔티티입니다.
+ * 대상 디바이스는 디바이스 ID 오름차순으로 웨이브에 배정되며,
+ * 마지막으로 배포한 디바이스 ID를 커서로 보관하여 다음 웨이브의 시작 지점을 결정합니다.
+ * 커서는 Long.MIN_VALUE에서 시작하므로 디바이스 ID의 부호와 관계없이 모든 대상이 웨이브에 배정됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "deployment_rollout",
+        uniqueConstraints = @UniqueConstraint(name = "uk_deployment_rollout_deployment_id", columnNames = "deployment_id"),
+        indexes = @Index(name = "idx_deployment_rollout_status_next_wave", columnList = "status, next_wave_at")
+)
+public class DeploymentRollout extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "deployment_id", nullable = false)
+    private FirmwareDeployment firmwareDeployment;
+
+    @Column(nullable = false)
+    private int canaryPercent;
+
+    private Integer waveSize;
+
+    @Column(nullable = false)
+    private long waveIntervalSeconds;
+
+    @Column(nullable = false)
+    private double successRate;
+
+    @Column(nullable = false)
+    private int totalDevices;
+
+    @Column(nullable = false)
+    private int releasedDevices;
+
+    @Column(nullable = false)
+    private int releasedWaves;
+
+    @Column(nullable = false)
+    private long lastReleasedDeviceId;
+
+    @Column(nullable = false)
+    private int lastWaveDevices;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RolloutStatus status;
+
+    @Column(name = "next_wave_at", columnDefinition = "TIMESTAMP")
+    private OffsetDateTime nextWaveAt;
+
+    public DeploymentRollout(FirmwareDeployment firmwareDeployment, int canaryPercent, Integer waveSize, long waveIntervalSeconds, double successRate, int totalDevices) {
+        this.firmwareDeployment = firmwareDeployment;
+        this.canaryPercent = canaryPercent;
+        this.waveSize = waveSize;
+        this.waveIntervalSeconds = waveIntervalSeconds;
+        this.successRate = successRate;
+        this.totalDevices = totalDevices;
+        this.releasedDevices = 0;
+        this.releasedWaves = 0;
+        this.lastReleasedDeviceId = Long.MIN_VALUE;
+        this.lastWaveDevices = 0;
+        this.status = RolloutStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 다음 웨이브에 배정할 디바이스 수를 계산합니다.
+     * 첫 웨이브는 카나리 비율(최소 1대), 이후 웨이브는 waveSize(미지정 시 남은 전체)입니다.
+     *
+     * @return 다음 웨이브 디바이스 수
+     */
+    public int nextWaveSize() {
+        int remaining = totalDevices - releasedDevices;
+        if (releasedWaves == 0) {
+            int canary = (int) Math.ceil(totalDevices * canaryPercent / 100.0);
+            return Math.min(remaining, Math.max(1, canary));
+        }
+        if (waveSize == null) {
+            return remaining;
+        }
+
+        return Math.min(remaining, waveSize);
+    }
+
+    /**
+     * 웨이브 배포 결과를 반영합니다.
+     * 모든 대상이 배포되면 다음 웨이브 시각을 비우지만 상태는 IN_PROGRESS로 유지합니다.
+     * 마지막 웨이브의 아웃박스 항목이 전송되어 대상이 Redis에 등록되기 전에 판정 스케줄러가
+     * 배포를 완료 처리하지 않도록, COMPLETED 전환은 전송이 끝난 뒤 {@link #complete()}로 수행합니다.
+     *
+     * @param deviceCount  이번 웨이브에 배포한 디바이스 수
+     * @param lastDeviceId 이번 웨이브의 마지막 디바이스 ID
+     * @param releasedAt   웨이브 배포 시각
+     */
+    public void recordWave(int deviceCount, long lastDeviceId, OffsetDateTime releasedAt) {
+        this.releasedDevices += deviceCount;
+        this.lastWaveDevices = deviceCount;
+        this.releasedWaves++;
+        this.lastReleasedDeviceId = lastDeviceId;
+        if (deviceCount == 0 || releasedDevices >= totalDevices) {
+            this.nextWaveAt = null;
+            return;
+        }
+        this.nextWaveAt = releasedAt.plusSeconds(waveIntervalSeconds);
+    }
+
+    /**
+     * 모든 웨이브를 배포했고 마지막 웨이브의 전송을 기다리는 중인지 여부를 반환합니다.
+     *
+     * @return 배포할 웨이브가 남아있지 않은 진행 중 rollout이면 true
+     */
+    public boolean isFullyReleased() {
+        return status == RolloutStatus.IN_PROGRESS && nextWaveAt == null;
+    }
+
+    public void complete() {
+        this.status = RolloutStatus.COMPLETED;
+        this.nextWaveAt = null;
+    }
+
+    public void halt() {
+        this.status = RolloutStatus.HALTED;
+        this.nextWaveAt = null;
+    }
+}
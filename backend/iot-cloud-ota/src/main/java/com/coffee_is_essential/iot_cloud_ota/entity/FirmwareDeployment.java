@@ -47,4 +47,15 @@ public class FirmwareDeployment extends BaseEntity {
         this.deployedAt = deployedAt;
         this.expiresAt = expiresAt;
     }
+
+    /**
+     * 단계적 배포에서 새 웨이브를 배포할 때 만료 시각을 웨이브 기준으로 늘립니다.
+     *
+     * @param expiresAt 새 만료 시각
+     */
+    public void extendExpiresAt(OffsetDateTime expiresAt) {
+        if (expiresAt.isAfter(this.expiresAt)) {
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -0,0 +1,5 @@
+package com.coffee_is_essential.iot_cloud_ota.enums;
+
+public enum DispatchMode {
+    INLINE, STREAM
+}
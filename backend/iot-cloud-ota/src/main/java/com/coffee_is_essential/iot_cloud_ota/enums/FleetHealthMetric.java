@@ -0,0 +1,9 @@
+package com.coffee_is_essential.iot_cloud_ota.enums;
+
+/**
+ * 플릿 상태 분위수를 집계하는 지표입니다.
+ * CPU/메모리/저장소 사용률은 system_status, 신호 세기는 network_status에서 읽습니다.
+ */
+public enum FleetHealthMetric {
+    CPU_CORE_0, CPU_CORE_1, MEMORY_USAGE, STORAGE_USAGE, SIGNAL_STRENGTH
+}
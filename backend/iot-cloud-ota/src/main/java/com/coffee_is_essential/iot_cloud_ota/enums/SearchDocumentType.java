@@ -0,0 +1,23 @@
+package com.coffee_is_essential.iot_cloud_ota.enums;
+
+import java.util.List;
+
+/**
+ * 메타데이터 검색 인덱스에 저장되는 문서 종류와 각 종류의 검색 대상 필드를 나타냅니다.
+ */
+public enum SearchDocumentType {
+    FIRMWARE(List.of("version", "fileName", "releaseNote")),
+    ADS(List.of("title", "description")),
+    REGION(List.of("regionCode", "regionName")),
+    DIVISION(List.of("divisionCode", "divisionName"));
+
+    private final List<String> fields;
+
+    SearchDocumentType(List<String> fields) {
+        this.fields = fields;
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+}
@@ -0,0 +1,69 @@
+package com.coffee_is_essential.iot_cloud_ota.enums;
+
+/**
+ * 텔레메트리 이력 조회에 사용하는 SAMPLE BY 버킷 크기입니다.
+ * 모든 크기는 상위 단위(분/시/일)를 나누어 떨어지므로, epoch 기준으로 내림한 시각이 QuestDB의 ALIGN TO CALENDAR(UTC) 경계와 일치합니다.
+ */
+public enum TelemetryBucket {
+    SECOND_1("1s", 1_000L),
+    SECOND_5("5s", 5_000L),
+    SECOND_10("10s", 10_000L),
+    SECOND_15("15s", 15_000L),
+    SECOND_30("30s", 30_000L),
+    MINUTE_1("1m", 60_000L),
+    MINUTE_2("2m", 120_000L),
+    MINUTE_5("5m", 300_000L),
+    MINUTE_10("10m", 600_000L),
+    MINUTE_15("15m", 900_000L),
+    MINUTE_30("30m", 1_800_000L),
+    HOUR_1("1h", 3_600_000L),
+    HOUR_2("2h", 7_200_000L),
+    HOUR_3("3h", 10_800_000L),
+    HOUR_6("6h", 21_600_000L),
+    HOUR_12("12h", 43_200_000L),
+    DAY_1("1d", 86_400_000L);
+
+    private final String sampleBy;
+    private final long millis;
+
+    TelemetryBucket(String sampleBy, long millis) {
+        this.sampleBy = sampleBy;
+        this.millis = millis;
+    }
+
+    /**
+     * 조회 구간을 targetPoints개 이하의 버킷으로 나눌 수 있는 가장 작은 버킷 크기를 반환합니다.
+     * 가장 큰 버킷으로도 부족하면 1일 버킷을 반환합니다.
+     *
+     * @param rangeMs      조회 구간 길이 (ms)
+     * @param targetPoints 응답에 포함할 최대 버킷 수
+     * @return 버킷 크기
+     */
+    public static TelemetryBucket fit(long rangeMs, int targetPoints) {
+        for (TelemetryBucket bucket : values()) {
+            if (bucket.millis * targetPoints >= rangeMs) {
+                return bucket;
+            }
+        }
+
+        return DAY_1;
+    }
+
+    /**
+     * 시각을 버킷 시작 시각으로 내림합니다.
+     *
+     * @param epochMillis 시각 (epoch millis)
+     * @return 시각이 속한 버킷의 시작 시각 (epoch millis)
+     */
+    public long floor(long epochMillis) {
+        return Math.floorDiv(epochMillis, millis) * millis;
+    }
+
+    public String sampleBy() {
+        return sampleBy;
+    }
+
+    public long millis() {
+        return millis;
+    }
+}
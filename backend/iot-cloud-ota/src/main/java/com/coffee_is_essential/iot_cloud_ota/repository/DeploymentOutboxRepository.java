@@ -0,0 +1,59 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DeploymentOutboxRepository extends JpaRepository<DeploymentOutbox, Long> {
+    List<DeploymentOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(OutboxStatus status, OffsetDateTime now, Pageable pageable);
+
+    Optional<DeploymentOutbox> findByCommandIdAndWave(String commandId, int wave);
+
+    boolean existsByCommandIdAndStatus(String commandId, OutboxStatus status);
+
+    /**
+     * 전달 시각이 도래한 PENDING 항목의 다음 시도 시각을 임대 만료 시각으로 미루어 전달 권한을 선점합니다.
+     * 조건부 UPDATE이므로 여러 인스턴스가 같은 항목을 동시에 선점해도 한 곳만 성공하며,
+     * 전달 중 인스턴스가 종료되면 임대가 만료된 뒤 다른 인스턴스가 다시 선점할 수 있습니다.
+     *
+     * @param id         아웃박스 ID
+     * @param now        기준 시각
+     * @param leaseUntil 임대 만료 시각
+     * @return 선점에 성공하면 1, 아니면 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE DeploymentOutbox o
+            SET o.nextAttemptAt = :leaseUntil
+            WHERE o.id = :id
+              AND o.status = com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus.PENDING
+              AND o.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id, @Param("now") OffsetDateTime now, @Param("leaseUntil") OffsetDateTime leaseUntil);
+
+    /**
+     * 전달이 끝난 항목 중 배포의 Redis 대상 키가 아직 남아있을 수 있는 배포의 commandId를 조회합니다.
+     * 애플리케이션 재시작 후 판정 스케줄러를 다시 등록할 때 사용합니다.
+     *
+     * @param since 이 시각 이후에 만료되는 배포만 조회
+     * @return commandId 목록
+     */
+    @Query("""
+            SELECT DISTINCT o.commandId
+            FROM DeploymentOutbox o, FirmwareDeployment d
+            WHERE d.id = o.deploymentId
+              AND o.status = com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus.SENT
+              AND d.expiresAt > :since
+            """)
+    List<String> findSentCommandIdsExpiringAfter(@Param("since") OffsetDateTime since);
+}
@@ -0,0 +1,77 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * deployment_progress 카운터를 갱신하는 JDBC 레포지토리입니다.
+ * INSERT ... ON DUPLICATE KEY UPDATE로 카운터 행이 없으면 만들고 있으면 더하므로,
+ * 동시에 갱신되더라도 행 단위로 원자적으로 반영됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeploymentProgressJdbcRepository {
+    private final @Qualifier("mySqlJdbcTemplate") JdbcTemplate jdbcTemplate;
+
+    /**
+     * 배포의 상태별 카운터에 증감분을 더합니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param deltas       상태별 증감분 (음수 가능)
+     */
+    public void increment(Long deploymentId, Map<DeploymentStatus, Long> deltas) {
+        upsert(deploymentId, deltas, "count = count + VALUES(count)");
+    }
+
+    /**
+     * 배포 행을 트랜잭션이 끝날 때까지 잠가, 같은 배포의 상태 전이 기록이 동시에 실행되지 않도록 합니다.
+     * 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param deploymentId 배포 ID
+     */
+    public void lockDeployment(Long deploymentId) {
+        jdbcTemplate.queryForList("SELECT id FROM firmware_deployment WHERE id = ? FOR UPDATE", Long.class, deploymentId);
+    }
+
+    /**
+     * 배포의 상태별 카운터를 주어진 값으로 덮어씁니다.
+     * 주어지지 않은 상태의 카운터는 0으로 초기화하며, 초기화와 덮어쓰기는 하나의 트랜잭션에서 수행됩니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param counts       상태별 디바이스 수
+     */
+    @Transactional
+    public void replace(Long deploymentId, Map<DeploymentStatus, Long> counts) {
+        jdbcTemplate.update("UPDATE deployment_progress SET count = 0 WHERE deployment_id = ?", deploymentId);
+        upsert(deploymentId, counts, "count = VALUES(count)");
+    }
+
+    private void upsert(Long deploymentId, Map<DeploymentStatus, Long> counts, String onDuplicate) {
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO deployment_progress (deployment_id, deployment_status, count) VALUES ");
+        List<Object> args = new ArrayList<>(counts.size() * 3);
+        for (Map.Entry<DeploymentStatus, Long> entry : counts.entrySet()) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?)");
+            args.add(deploymentId);
+            args.add(entry.getKey().name());
+            args.add(entry.getValue());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE ").append(onDuplicate);
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
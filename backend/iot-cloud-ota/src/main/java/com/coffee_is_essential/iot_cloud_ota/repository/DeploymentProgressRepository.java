@@ -0,0 +1,13 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DeploymentProgressRepository extends JpaRepository<DeploymentProgress, Long> {
+    List<DeploymentProgress> findAllByFirmwareDeploymentId(Long deploymentId);
+
+    List<DeploymentProgress> findAllByFirmwareDeploymentIdIn(Collection<Long> deploymentIds);
+}
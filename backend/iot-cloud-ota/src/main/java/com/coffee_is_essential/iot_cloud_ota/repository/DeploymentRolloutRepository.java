@@ -0,0 +1,16 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentRollout;
+import com.coffee_is_essential.iot_cloud_ota.enums.RolloutStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface DeploymentRolloutRepository extends JpaRepository<DeploymentRollout, Long> {
+    List<DeploymentRollout> findAllByStatusAndNextWaveAtLessThanEqual(RolloutStatus status, OffsetDateTime now);
+
+    List<DeploymentRollout> findAllByStatusAndNextWaveAtIsNull(RolloutStatus status);
+
+    boolean existsByFirmwareDeploymentIdAndStatus(Long deploymentId, RolloutStatus status);
+}
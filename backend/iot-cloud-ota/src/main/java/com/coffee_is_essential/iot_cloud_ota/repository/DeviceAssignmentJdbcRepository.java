@@ -0,0 +1,106 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 디바이스에 할당된 펌웨어(device_firmware)와 광고(device_ads) 이력을
+ * 디바이스 묶음 단위로 전이시키는 JDBC 레포지토리입니다.
+ * 열린 이력 종료는 청크마다 하나의 UPDATE ... WHERE device_id IN (...)으로,
+ * 새 이력 생성은 청크마다 하나의 다중 행 INSERT로 처리하여
+ * 처리할 디바이스 수와 관계없이 왕복 횟수를 청크 수로 제한합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeviceAssignmentJdbcRepository {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final @Qualifier("mySqlJdbcTemplate") JdbcTemplate jdbcTemplate;
+    private final @Qualifier("mySqlNamedJdbc") NamedParameterJdbcTemplate namedJdbc;
+
+    /**
+     * 주어진 디바이스들의 현재 펌웨어 이력을 종료 처리합니다.
+     *
+     * @param deviceIds 대상 디바이스 ID 목록
+     * @param endedAt   종료 시각
+     */
+    public void closeOpenFirmware(List<Long> deviceIds, Timestamp endedAt) {
+        closeOpen("device_firmware", deviceIds, endedAt);
+    }
+
+    /**
+     * 주어진 디바이스들의 현재 광고 이력을 종료 처리합니다.
+     *
+     * @param deviceIds 대상 디바이스 ID 목록
+     * @param endedAt   종료 시각
+     */
+    public void closeOpenAds(List<Long> deviceIds, Timestamp endedAt) {
+        closeOpen("device_ads", deviceIds, endedAt);
+    }
+
+    /**
+     * 주어진 디바이스들에 새 펌웨어 이력을 일괄 생성합니다.
+     *
+     * @param deviceIds  대상 디바이스 ID 목록
+     * @param firmwareId 적용된 펌웨어 메타데이터 ID
+     * @param startedAt  시작 시각
+     */
+    public void insertFirmware(List<Long> deviceIds, Long firmwareId, Timestamp startedAt) {
+        List<Object[]> rows = new ArrayList<>(deviceIds.size());
+        for (Long deviceId : deviceIds) {
+            rows.add(new Object[]{deviceId, firmwareId, startedAt});
+        }
+        insertRows("INSERT INTO device_firmware (device_id, firmware_id, started_at) VALUES ", rows);
+    }
+
+    /**
+     * 주어진 디바이스들에 광고별 새 이력을 일괄 생성합니다.
+     *
+     * @param deviceIds 대상 디바이스 ID 목록
+     * @param adsIds    적용된 광고 메타데이터 ID 목록
+     * @param startedAt 시작 시각
+     */
+    public void insertAds(List<Long> deviceIds, List<Long> adsIds, Timestamp startedAt) {
+        List<Object[]> rows = new ArrayList<>(deviceIds.size() * adsIds.size());
+        for (Long deviceId : deviceIds) {
+            for (Long adsId : adsIds) {
+                rows.add(new Object[]{deviceId, adsId, startedAt});
+            }
+        }
+        insertRows("INSERT INTO device_ads (device_id, ads_id, started_at) VALUES ", rows);
+    }
+
+    private void closeOpen(String table, List<Long> deviceIds, Timestamp endedAt) {
+        String sql = "UPDATE " + table + " SET ended_at = :endedAt WHERE ended_at IS NULL AND device_id IN (:ids)";
+        for (int from = 0; from < deviceIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = deviceIds.subList(from, Math.min(from + CHUNK_SIZE, deviceIds.size()));
+            namedJdbc.update(sql, Map.of("endedAt", endedAt, "ids", chunk));
+        }
+    }
+
+    private void insertRows(String insertPrefix, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder(insertPrefix);
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("(?, ?, ?)");
+                args.addAll(List.of(chunk.get(i)));
+            }
+
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
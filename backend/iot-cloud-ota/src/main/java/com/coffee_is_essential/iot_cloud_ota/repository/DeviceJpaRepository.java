@@ -10,9 +10,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
-public interface DeviceJpaRepository extends JpaRepository<Device, Long>, DeviceJpaRepositoryCustom {
+public interface DeviceJpaRepository extends JpaRepository<Device, Long> {
 
     /**
      * 디바이스의 요약 정보를 조회합니다.
@@ -53,4 +54,42 @@ public interface DeviceJpaRepository extends JpaRepository<Device, Long>, Device
     default Device findByIdOrElseThrow(Long id) {
         return findById(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "[ID: " + id + "] 기기를 찾을 수 없습니다."));
     }
+
+    /**
+     * 리전 ID와 그룹 ID로 필터링한 디바이스를 (created_at, id) 오름차순으로 커서 이후부터 조회합니다.
+     * OFFSET 없이 정렬 키로 시작 위치를 찾으므로 깊은 페이지도 앞선 행을 읽고 버리지 않습니다.
+     *
+     * @param regionId  리전 ID (null 가능)
+     * @param groupId   그룹 ID (null 가능)
+     * @param createdAt 커서의 생성 시각
+     * @param id        커서의 디바이스 ID
+     * @param pageable  조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 디바이스 목록
+     */
+    @Query("""
+            SELECT d FROM Device d
+            WHERE (:regionId IS NULL OR d.region.id = :regionId)
+              AND (:groupId IS NULL OR d.division.id = :groupId)
+              AND (d.createdAt > :createdAt OR (d.createdAt = :createdAt AND d.id > :id))
+            ORDER BY d.createdAt ASC, d.id ASC
+            """)
+    List<Device> findByRegionAndGroupAfter(@Param("regionId") Long regionId,
+                                           @Param("groupId") Long groupId,
+                                           @Param("createdAt") OffsetDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 리전 ID와 그룹 ID로 필터링한 디바이스 수를 조회합니다.
+     *
+     * @param regionId 리전 ID (null 가능)
+     * @param groupId  그룹 ID (null 가능)
+     * @return 디바이스 수
+     */
+    @Query("""
+            SELECT COUNT(d) FROM Device d
+            WHERE (:regionId IS NULL OR d.region.id = :regionId)
+              AND (:groupId IS NULL OR d.division.id = :groupId)
+            """)
+    long countByRegionAndGroup(@Param("regionId") Long regionId, @Param("groupId") Long groupId);
 }
@@ -1,6 +1,12 @@
 package com.coffee_is_essential.iot_cloud_ota.repository;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.TelemetryPoint;
 import com.coffee_is_essential.iot_cloud_ota.entity.SystemStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.TelemetryBucket;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -11,40 +17,173 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class DeviceStatusJdbcRepository {
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final @Qualifier("questDbJdbcTemplate") JdbcTemplate jdbcTemplate;
     private final @Qualifier("questDbNamedJdbc") NamedParameterJdbcTemplate namedJdbc;
 
     /**
-     * 주어진 deviceId에 해당하는 시스템 상태 정보 중
-     * 가장 최신의 상태 정보를 조회합니다.
+     * 주어진 deviceId 목록에 해당하는 시스템 상태 정보 중
+     * 디바이스별 최신 상태 정보를 조회합니다.
+     * QuestDB의 LATEST ON 구문을 사용하며, IN 절이 과도하게 커지지 않도록
+     * {@value IN_CLAUSE_CHUNK_SIZE}개 단위로 나누어 조회합니다.
      *
-     * @param deviceId 조회할 대상 device_id
-     * @return 가장 최신의 시스템 상태 정보
+     * @param deviceIds 조회할 대상 device_id 목록
+     * @return device_id를 키로 하는 최신 시스템 상태 정보 맵 (상태 정보가 없는 디바이스는 포함되지 않음)
      */
-    public SystemStatus findLatestByDeviceId(Long deviceId) {
+    public Long2ObjectMap<SystemStatus> findLatestByDeviceIds(Collection<Long> deviceIds) {
+        Long2ObjectMap<SystemStatus> result = new Long2ObjectOpenHashMap<>(deviceIds.size());
+        if (deviceIds.isEmpty()) {
+            return result;
+        }
+
         String sql = """
                 SELECT *
                 FROM system_status
-                WHERE device_id = ?
-                ORDER BY "timestamp" DESC
-                LIMIT 1
+                WHERE device_id IN (:ids)
+                LATEST ON "timestamp" PARTITION BY device_id
                 """;
-        List<SystemStatus> results = jdbcTemplate.query(sql, mapper, deviceId);
+        List<Long> ids = new ArrayList<>(deviceIds);
 
-        return results.isEmpty() ? null : results.get(0);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            namedJdbc.query(sql, Map.of("ids", chunk), rs -> {
+                SystemStatus status = mapper.mapRow(rs, rs.getRow());
+                result.put(status.getDeviceId().longValue(), status);
+            });
+        }
+
+        return result;
     }
 
     /**
-     * 주어진 deviceId 목록에 해당하는 시스템 상태 정보 중
-     * 디바이스별 최신 상태 정보를 조회합니다.
+     * 디바이스별 마지막 상태 보고 시각(epoch millis)을 조회합니다.
+     * since가 null이면 전체 디바이스의 최신 보고 시각을 LATEST ON 구문으로 조회하고,
+     * 그렇지 않으면 since 이후에 적재된 행만 대상으로 디바이스별 최대 시각을 집계합니다.
      *
-     * @param deviceIds 조회할 대상 device_id 목록
-     * @return 디바이스별 최신 시스템 상태 정보 리스트
+     * @param since 조회 하한 시각 (null이면 전체 조회)
+     * @return device_id를 키로 하는 마지막 보고 시각(epoch millis) 맵
+     */
+    public Long2LongMap findLastSeenSince(OffsetDateTime since) {
+        Long2LongMap result = new Long2LongOpenHashMap();
+
+        if (since == null) {
+            String sql = """
+                    SELECT device_id, "timestamp"
+                    FROM system_status
+                    LATEST ON "timestamp" PARTITION BY device_id
+                    """;
+            jdbcTemplate.query(sql, rs -> {
+                result.put(rs.getLong("device_id"), rs.getObject("timestamp", OffsetDateTime.class).toInstant().toEpochMilli());
+            });
+            return result;
+        }
+
+        String sql = """
+                SELECT device_id, max("timestamp") AS "timestamp"
+                FROM system_status
+                WHERE "timestamp" > ?
+                GROUP BY device_id
+                """;
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getLong("device_id"), rs.getObject("timestamp", OffsetDateTime.class).toInstant().toEpochMilli());
+        }, since);
+
+        return result;
+    }
+
+    /**
+     * 디바이스들의 시스템 상태를 SAMPLE BY로 버킷별 평균을 내어 시간 순서대로 consumer에 전달합니다.
+     * 결과를 리스트로 모으지 않고 행을 읽는 즉시 전달하며, 행이 없는 버킷은 생략됩니다.
+     * 디바이스 ID는 숫자이므로 바인딩 파라미터 수 제한을 피하기 위해 IN 절에 직접 나열합니다.
+     *
+     * @param deviceIds 조회할 대상 device_id 배열 (비어 있지 않아야 함)
+     * @param from      조회 시작 시각 (포함, 버킷 경계)
+     * @param to        조회 종료 시각 (미포함)
+     * @param bucket    버킷 크기
+     * @param consumer  버킷을 전달받을 함수
+     */
+    public void streamSampledHistory(long[] deviceIds, OffsetDateTime from, OffsetDateTime to, TelemetryBucket bucket, Consumer<TelemetryPoint> consumer) {
+        String ids = Arrays.stream(deviceIds)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+        String sql = """
+                SELECT "timestamp",
+                       count() AS samples,
+                       avg(cpu_core_0) AS cpu_core_0,
+                       avg(cpu_core_1) AS cpu_core_1,
+                       avg(memory_usage) AS memory_usage,
+                       avg(storage_usage) AS storage_usage
+                FROM system_status
+                WHERE device_id IN (%s)
+                  AND "timestamp" >= ?
+                  AND "timestamp" < ?
+                SAMPLE BY %s ALIGN TO CALENDAR
+                """.formatted(ids, bucket.sampleBy());
+
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(new TelemetryPoint(
+                    rs.getObject("timestamp", OffsetDateTime.class),
+                    rs.getLong("samples"),
+                    rs.getDouble("cpu_core_0"),
+                    rs.getDouble("cpu_core_1"),
+                    rs.getDouble("memory_usage"),
+                    rs.getDouble("storage_usage")
+            ));
+        }, from, to);
+    }
+
+    /**
+     * 구간 안에 시스템 상태를 보고한 디바이스별 CPU/메모리/저장소 사용률 평균을 consumer에 전달합니다.
+     *
+     * @param from     조회 시작 시각 (포함)
+     * @param to       조회 종료 시각 (미포함)
+     * @param consumer 디바이스별 평균 사용률을 받을 콜백
+     */
+    public void streamDeviceAverages(OffsetDateTime from, OffsetDateTime to, SystemMetricsConsumer consumer) {
+        String sql = """
+                SELECT device_id,
+                       avg(cpu_core_0) AS cpu_core_0,
+                       avg(cpu_core_1) AS cpu_core_1,
+                       avg(memory_usage) AS memory_usage,
+                       avg(storage_usage) AS storage_usage
+                FROM system_status
+                WHERE "timestamp" >= ?
+                  AND "timestamp" < ?
+                GROUP BY device_id
+                """;
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(
+                    rs.getLong("device_id"),
+                    rs.getDouble("cpu_core_0"),
+                    rs.getDouble("cpu_core_1"),
+                    rs.getDouble("memory_usage"),
+                    rs.getDouble("storage_usage")
+            );
+        }, from, to);
+    }
+
+    /**
+     * 디바이스별 시스템 사용률을 박싱 없이 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface SystemMetricsConsumer {
+        void accept(long deviceId, double cpuCore0, double cpuCore1, double memoryUsage, double storageUsage);
+    }
+
+    /**
+     * SystemStatus 엔티티로 결과를 매핑하는 RowMapper 구현체입니다.
      */
     private final RowMapper<SystemStatus> mapper = new RowMapper<>() {
         @Override
@@ -0,0 +1,90 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * 배포 대상 디바이스의 ID만 조회하는 JDBC 레포지토리입니다.
+ * Device 엔티티(와 즉시 로딩되는 Region, Division)를 만들지 않고 device.id 컬럼만 읽으며,
+ * 결과는 MySQL Connector/J 스트리밍 모드(fetch size = Integer.MIN_VALUE)로 한 행씩 받아 콜백에 전달합니다.
+ * 10만 대 규모의 리전을 조회해도 드라이버가 결과 전체를 메모리에 올리지 않습니다.
+ */
+@Repository
+public class DeviceTargetJdbcRepository {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final NamedParameterJdbcTemplate streamingJdbc;
+
+    public DeviceTargetJdbcRepository(@Qualifier("mySqlJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(STREAMING_FETCH_SIZE);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    /**
+     * 주어진 ID 중 실제로 존재하는 디바이스 ID를 전달합니다.
+     *
+     * @param deviceIds 디바이스 ID 목록
+     * @param consumer  디바이스 ID를 받을 콜백
+     */
+    public void streamIdsByDeviceIds(List<Long> deviceIds, LongConsumer consumer) {
+        streamIds("id", deviceIds, consumer);
+    }
+
+    /**
+     * 주어진 그룹(division)에 속한 디바이스 ID를 전달합니다.
+     *
+     * @param divisionIds 그룹 ID 목록
+     * @param consumer    디바이스 ID를 받을 콜백
+     */
+    public void streamIdsByDivisionIds(List<Long> divisionIds, LongConsumer consumer) {
+        streamIds("division_id", divisionIds, consumer);
+    }
+
+    /**
+     * 주어진 리전에 속한 디바이스 ID를 전달합니다.
+     *
+     * @param regionIds 리전 ID 목록
+     * @param consumer  디바이스 ID를 받을 콜백
+     */
+    public void streamIdsByRegionIds(List<Long> regionIds, LongConsumer consumer) {
+        streamIds("region_id", regionIds, consumer);
+    }
+
+    /**
+     * 전체 디바이스의 (디바이스 ID, 리전 ID, 그룹 ID)를 전달합니다.
+     * 리전이나 그룹이 없는 디바이스는 해당 값이 0으로 전달됩니다.
+     *
+     * @param consumer 디바이스 소속 정보를 받을 콜백
+     */
+    public void streamTopology(TopologyConsumer consumer) {
+        streamingJdbc.getJdbcTemplate().query("SELECT id, region_id, division_id FROM device", rs -> {
+            consumer.accept(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+        });
+    }
+
+    /**
+     * 디바이스 소속 정보를 박싱 없이 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface TopologyConsumer {
+        void accept(long deviceId, long regionId, long divisionId);
+    }
+
+    private void streamIds(String column, List<Long> ids, LongConsumer consumer) {
+        String sql = "SELECT id FROM device WHERE " + column + " IN (:ids)";
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            streamingJdbc.query(sql, Map.of("ids", chunk), rs -> {
+                consumer.accept(rs.getLong(1));
+            });
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -57,4 +58,38 @@ public interface DivisionJpaRepository extends JpaRepository<Division, Long> {
                    d.divisionName LIKE %:keyword%)
             """)
     Page<Division> searchWithNullableKeyword(String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 검색한 그룹을 id 오름차순으로 커서 이후부터 조회합니다.
+     *
+     * @param keyword  검색 키워드 (null 또는 빈 문자열 가능)
+     * @param id       커서의 그룹 ID
+     * @param pageable 조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 그룹 목록
+     */
+    @Query("""
+            SELECT d
+            FROM Division d
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   d.divisionCode LIKE %:keyword% OR
+                   d.divisionName LIKE %:keyword%)
+              AND d.id > :id
+            ORDER BY d.id ASC
+            """)
+    List<Division> searchWithNullableKeywordAfter(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 키워드로 검색한 그룹 수를 조회합니다.
+     *
+     * @param keyword 검색 키워드 (null 또는 빈 문자열 가능)
+     * @return 그룹 수
+     */
+    @Query("""
+            SELECT COUNT(d)
+            FROM Division d
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   d.divisionCode LIKE %:keyword% OR
+                   d.divisionName LIKE %:keyword%)
+            """)
+    long countWithNullableKeyword(@Param("keyword") String keyword);
 }
@@ -1,5 +1,6 @@
 package com.coffee_is_essential.iot_cloud_ota.repository;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.TimeoutEvent;
 import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDownloadEvents;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -10,6 +11,11 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +24,7 @@ import java.util.Map;
 public class DownloadEventsJdbcRepository {
     private final @Qualifier("questDbJdbcTemplate") JdbcTemplate jdbcTemplate;
     private final @Qualifier("questDbNamedJdbc") NamedParameterJdbcTemplate namedJdbc;
+    private final @Qualifier("questDbWriteJdbcTemplate") JdbcTemplate writeJdbcTemplate;
 
     /**
      * 주어진 commandId에 해당하는 다운로드 이벤트 중
@@ -69,8 +76,97 @@ public class DownloadEventsJdbcRepository {
         return namedJdbc.query(sql, Map.of("cmd", commandId, "ids", deviceIds), mapper);
     }
 
+    /**
+     * 여러 commandId에 해당하는 다운로드 이벤트 중
+     * (commandId, 디바이스)별 최신 이벤트를 한 번의 쿼리로 조회합니다.
+     *
+     * @param commandIds 조회할 대상 command_id 목록
+     * @param since      조회 하한 시각 (대상 배포 중 가장 이른 배포 시각)
+     * @return command_id를 키로 하는 디바이스별 최신 펌웨어 다운로드 이벤트 리스트 맵
+     */
+    public Map<String, List<FirmwareDownloadEvents>> findLatestPerDeviceByCommandIds(
+            Collection<String> commandIds, OffsetDateTime since) {
+        Map<String, List<FirmwareDownloadEvents>> result = new HashMap<>();
+        if (commandIds == null || commandIds.isEmpty()) return result;
+
+        String sql = """
+                SELECT *
+                FROM (
+                    SELECT f.*,
+                           ROW_NUMBER() OVER (PARTITION BY command_id, device_id ORDER BY "timestamp" DESC) rn
+                    FROM download_events f
+                    WHERE command_id IN (:cmds)
+                      AND "timestamp" >= :since
+                ) t
+                WHERE rn = 1
+                """;
+
+        namedJdbc.query(sql, Map.of("cmds", commandIds, "since", since), rs -> {
+            FirmwareDownloadEvents event = mapper.mapRow(rs, rs.getRow());
+            result.computeIfAbsent(event.getCommand_id(), k -> new ArrayList<>()).add(event);
+        });
+
+        return result;
+    }
+
+    /**
+     * 여러 commandId에 대해 기준 시각 이후 적재된 종료 상태(SUCCESS, FAILED 등)의 다운로드 이벤트를
+     * 시간순으로 조회합니다.
+     *
+     * @param commandIds 조회할 대상 command_id 목록
+     * @param statuses   조회할 종료 상태 목록
+     * @param since      조회 하한 시각 (이 시각 이후의 이벤트만 조회)
+     * @return 시간순으로 정렬된 종료 상태 다운로드 이벤트 리스트
+     */
+    public List<FirmwareDownloadEvents> findTerminalEventsSince(
+            Collection<String> commandIds, Collection<String> statuses, OffsetDateTime since) {
+        if (commandIds == null || commandIds.isEmpty()) return List.of();
+
+        String sql = """
+                SELECT *
+                FROM download_events
+                WHERE command_id IN (:cmds)
+                  AND status IN (:statuses)
+                  AND "timestamp" > :since
+                ORDER BY "timestamp"
+                """;
+
+        return namedJdbc.query(sql, Map.of("cmds", commandIds, "statuses", statuses, "since", since), mapper);
+    }
+
+    /**
+     * 주어진 commandId에서 디바이스 ID가 [deviceIdFrom, deviceIdTo] 범위에 속한 디바이스의 최신 다운로드 이벤트를 상태별로 집계합니다.
+     *
+     * @param commandId    조회할 대상 command_id
+     * @param deviceIdFrom 범위의 첫 디바이스 ID
+     * @param deviceIdTo   범위의 마지막 디바이스 ID
+     * @return 상태 문자열을 키로 하는 디바이스 수 맵
+     */
+    public Map<String, Long> countLatestStatusByDeviceRange(String commandId, long deviceIdFrom, long deviceIdTo) {
+        String sql = """
+                SELECT status, count(*) AS cnt
+                FROM (
+                    SELECT f.status,
+                           ROW_NUMBER() OVER (PARTITION BY device_id ORDER BY "timestamp" DESC) rn
+                    FROM download_events f
+                    WHERE command_id = ?
+                      AND device_id BETWEEN ? AND ?
+                ) t
+                WHERE rn = 1
+                GROUP BY status
+                """;
+
+        Map<String, Long> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getString("status"), rs.getLong("cnt"));
+        }, commandId, deviceIdFrom, deviceIdTo);
+
+        return result;
+    }
+
     /**
      * DownloadEvents 엔티티로 결과를 매핑하는 RowMapper 구현체입니다.
+     * timestamp는 JVM 시간대의 영향을 받지 않도록 UTC 기준 OffsetDateTime으로 읽은 뒤 같은 시점의 Timestamp로 변환합니다.
      */
     private final RowMapper<FirmwareDownloadEvents> mapper = new RowMapper<>() {
         @Override
@@ -86,22 +182,29 @@ public class DownloadEventsJdbcRepository {
             e.setSpeedKbps(rs.getDouble("speed_kbps"));
             e.setChecksumVerified(rs.getBoolean("checksum_verified"));
             e.setDownloadTime(rs.getLong("download_ms"));
-            e.setTimestamp(rs.getTimestamp("timestamp"));
+            e.setTimestamp(Timestamp.from(rs.getObject("timestamp", OffsetDateTime.class).toInstant()));
 
             return e;
         }
     };
 
     /**
-     * 특정 디바이스에 대해 타임아웃 이벤트를 저장합니다.
+     * 타임아웃 이벤트들을 쓰기 전용 풀에서 하나의 JDBC 배치로 저장합니다.
      *
-     * @param commandId 타임아웃이 발생한 command_id
-     * @param deviceId  타임아웃이 발생한 디바이스 ID
+     * @param events 저장할 타임아웃 이벤트 목록
      */
-    public void saveTimeoutDevice(String commandId, Long deviceId) {
-        jdbcTemplate.update(
-                "INSERT INTO download_events (command_id, message, status, device_id, timestamp) VALUES (?, ?, ?, ?, NOW())",
-                commandId, "Timeout", "TIMEOUT", deviceId
+    public void saveTimeoutEvents(List<TimeoutEvent> events) {
+        writeJdbcTemplate.batchUpdate(
+                "INSERT INTO download_events (command_id, message, status, device_id, timestamp) VALUES (?, ?, ?, ?, ?)",
+                events,
+                events.size(),
+                (ps, event) -> {
+                    ps.setString(1, event.commandId());
+                    ps.setString(2, "Timeout");
+                    ps.setString(3, "TIMEOUT");
+                    ps.setLong(4, event.deviceId());
+                    ps.setTimestamp(5, event.occurredAt());
+                }
         );
     }
 }
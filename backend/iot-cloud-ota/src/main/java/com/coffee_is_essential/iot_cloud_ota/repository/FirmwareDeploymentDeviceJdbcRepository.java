@@ -0,0 +1,144 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * firmware_deployment_device 테이블에 대한 대량 저장/조회용 JDBC 레포지토리입니다.
+ * 엔티티가 IDENTITY 전략을 사용하여 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 다중 행 INSERT 문을 청크 단위로 실행하여 디바이스 수와 관계없이 왕복 횟수를 제한합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FirmwareDeploymentDeviceJdbcRepository {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO firmware_deployment_device (device_id, deployment_id, deployment_status, created_at, modified_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private final @Qualifier("mySqlJdbcTemplate") JdbcTemplate jdbcTemplate;
+    private final @Qualifier("mySqlNamedJdbc") NamedParameterJdbcTemplate namedJdbc;
+
+    /**
+     * 배포 대상 디바이스들의 상태 전이를 일괄 저장합니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param transitions  저장할 디바이스 상태 전이 목록
+     */
+    public void saveAll(Long deploymentId, List<DeviceStatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int from = 0; from < transitions.size(); from += INSERT_CHUNK_SIZE) {
+            List<DeviceStatusTransition> chunk = transitions.subList(from, Math.min(from + INSERT_CHUNK_SIZE, transitions.size()));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (ROW_PLACEHOLDER.length() + 2))
+                    .append(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                DeviceStatusTransition transition = chunk.get(i);
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+                args.add(transition.deviceId());
+                args.add(deploymentId);
+                args.add(transition.deploymentStatus().name());
+                args.add(now);
+                args.add(now);
+            }
+
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * 주어진 디바이스 중 배포 내 최신 상태가 IN_PROGRESS인 디바이스 ID를 조회합니다.
+     * IN 절이 과도하게 커지지 않도록 {@value IN_CLAUSE_CHUNK_SIZE}개 단위로 나누어 조회합니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param deviceIds    확인할 디바이스 ID 목록
+     * @return 최신 상태가 IN_PROGRESS인 디바이스 ID 집합
+     */
+    public Set<Long> findInProgressDeviceIds(Long deploymentId, Collection<Long> deviceIds) {
+        Set<Long> result = new HashSet<>();
+        if (deviceIds.isEmpty()) {
+            return result;
+        }
+
+        String sql = """
+                SELECT ranked_devices.device_id
+                FROM (SELECT device_id,
+                             deployment_status,
+                             ROW_NUMBER() OVER (PARTITION BY device_id ORDER BY created_at DESC, id DESC) AS rn
+                      FROM firmware_deployment_device
+                      WHERE deployment_id = :deploymentId
+                        AND device_id IN (:deviceIds)) AS ranked_devices
+                WHERE ranked_devices.rn = 1
+                  AND ranked_devices.deployment_status = 'IN_PROGRESS'
+                """;
+        List<Long> ids = new ArrayList<>(deviceIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            namedJdbc.query(sql, Map.of("deploymentId", deploymentId, "deviceIds", chunk), rs -> {
+                result.add(rs.getLong(1));
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * 배포 대상 디바이스 ID를 디바이스 ID 순으로 한 페이지씩 조회합니다.
+     * 직전 페이지의 마지막 디바이스 ID를 기준으로 이어서 읽으므로 대상 수와 관계없이 한 번에 limit개만 메모리에 올라갑니다.
+     *
+     * @param deploymentId  배포 ID
+     * @param afterDeviceId 직전 페이지의 마지막 디바이스 ID (첫 페이지는 0)
+     * @param limit         한 번에 조회할 최대 개수
+     * @return 디바이스 ID 오름차순 리스트
+     */
+    public List<Long> findDeviceIdsAfter(Long deploymentId, long afterDeviceId, int limit) {
+        return findDeviceIdsBetween(deploymentId, afterDeviceId, Long.MAX_VALUE, limit);
+    }
+
+    /**
+     * 배포 대상 디바이스 ID 중 (afterDeviceId, untilDeviceId] 범위를 디바이스 ID 순으로 한 페이지씩 조회합니다.
+     *
+     * @param deploymentId  배포 ID
+     * @param afterDeviceId 직전 페이지의 마지막 디바이스 ID (이 값은 제외)
+     * @param untilDeviceId 조회할 마지막 디바이스 ID (이 값은 포함)
+     * @param limit         한 번에 조회할 최대 개수
+     * @return 디바이스 ID 오름차순 리스트
+     */
+    public List<Long> findDeviceIdsBetween(Long deploymentId, long afterDeviceId, long untilDeviceId, int limit) {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT DISTINCT device_id
+                        FROM firmware_deployment_device
+                        WHERE deployment_id = ?
+                          AND device_id > ?
+                          AND device_id <= ?
+                        ORDER BY device_id
+                        LIMIT ?
+                        """,
+                Long.class,
+                deploymentId, afterDeviceId, untilDeviceId, limit
+        );
+    }
+}
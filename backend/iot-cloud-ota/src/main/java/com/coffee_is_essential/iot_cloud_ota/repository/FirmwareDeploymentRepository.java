@@ -4,9 +4,14 @@ import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FirmwareDeploymentRepository extends JpaRepository<FirmwareDeployment, Long> {
@@ -22,7 +27,51 @@ public interface FirmwareDeploymentRepository extends JpaRepository<FirmwareDepl
         return findByCommandId(commandId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "[commandId: " + commandId + "] 배포 정보를 찾을 수 없습니다."));
     }
 
+    List<FirmwareDeployment> findAllByCommandIdIn(Collection<String> commandIds);
+
+    List<FirmwareDeployment> findAllByDeployedAtAfter(OffsetDateTime since);
+
     Page<FirmwareDeployment> findAllByFirmwareMetadataIsNotNull(Pageable pageable);
 
     Page<FirmwareDeployment> findAllByFirmwareMetadataIsNull(Pageable pageable);
+
+    /**
+     * 펌웨어 배포를 (created_at, id) 내림차순으로 커서 이후부터 조회합니다.
+     *
+     * @param createdAt 커서의 생성 시각
+     * @param id        커서의 배포 ID
+     * @param pageable  조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 펌웨어 배포 목록
+     */
+    @Query("""
+            SELECT f FROM FirmwareDeployment f
+            WHERE f.firmwareMetadata IS NOT NULL
+              AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id))
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<FirmwareDeployment> findFirmwareDeploymentsBefore(@Param("createdAt") OffsetDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    /**
+     * 광고 배포를 (created_at, id) 내림차순으로 커서 이후부터 조회합니다.
+     *
+     * @param createdAt 커서의 생성 시각
+     * @param id        커서의 배포 ID
+     * @param pageable  조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 광고 배포 목록
+     */
+    @Query("""
+            SELECT f FROM FirmwareDeployment f
+            WHERE f.firmwareMetadata IS NULL
+              AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id))
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<FirmwareDeployment> findAdsDeploymentsBefore(@Param("createdAt") OffsetDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    long countByFirmwareMetadataIsNotNull();
+
+    long countByFirmwareMetadataIsNull();
 }
@@ -9,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -74,4 +76,44 @@ public interface FirmwareMetadataJpaRepository extends JpaRepository<FirmwareMet
                    f.releaseNote LIKE %:keyword%)
             """)
     Page<FirmwareMetadata> searchWithNullableKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 펌웨어 메타데이터를 검색하여 (created_at, id) 내림차순으로 커서 이후부터 조회합니다.
+     *
+     * @param keyword   검색 키워드 (null 또는 빈 문자열 가능)
+     * @param createdAt 커서의 생성 시각
+     * @param id        커서의 메타데이터 ID
+     * @param pageable  조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 펌웨어 메타데이터 목록
+     */
+    @Query("""
+            SELECT f
+            FROM FirmwareMetadata f
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   f.version LIKE %:keyword% OR
+                   f.fileName LIKE %:keyword% OR
+                   f.releaseNote LIKE %:keyword%)
+              AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id))
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<FirmwareMetadata> searchWithNullableKeywordBefore(@Param("keyword") String keyword,
+                                                           @Param("createdAt") OffsetDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    /**
+     * 키워드로 검색한 펌웨어 메타데이터 수를 조회합니다.
+     *
+     * @param keyword 검색 키워드 (null 또는 빈 문자열 가능)
+     * @return 펌웨어 메타데이터 수
+     */
+    @Query("""
+            SELECT COUNT(f)
+            FROM FirmwareMetadata f
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   f.version LIKE %:keyword% OR
+                   f.fileName LIKE %:keyword% OR
+                   f.releaseNote LIKE %:keyword%)
+            """)
+    long countWithNullableKeyword(@Param("keyword") String keyword);
 }
@@ -0,0 +1,325 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 메모리(ByteBuffersDirectory)에 둔 Lucene 인덱스로 구현한 MetadataSearchRepository입니다.
+ * 검색어는 StandardAnalyzer로 토큰화하며, 토큰마다 정확 일치 > 접두어 일치 > 오타 허용(fuzzy) 일치 순으로 가중치를 주고
+ * 모든 토큰이 일치해야 하는 문서만 BM25 점수 순으로 반환합니다.
+ * 한국어는 어절 단위로 토큰화되므로 "광고"로 "광고가"를 찾는 경우처럼 조사가 붙은 어절은 접두어 일치로 검색됩니다.
+ * 재구성은 새 인덱스를 만든 뒤 교체하며, 재구성 중에 저장된 문서는 교체 직전에 새 인덱스에도 반영합니다.
+ * 교체된 인덱스는 참조 카운트로 관리하여, 교체 시점에 진행 중이던 검색이 모두 끝난 뒤에 닫습니다.
+ * 분석 후 남는 토큰이 없는 검색어(예: "-")는 어떤 문서와도 일치하지 않는 것으로 처리합니다.
+ */
+@Slf4j
+@Repository
+public class LuceneMetadataSearchRepository implements MetadataSearchRepository {
+    private static final String KEY_FIELD = "key";
+    private static final String TYPE_FIELD = "type";
+    private static final String ID_FIELD = "id";
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final float EXACT_BOOST = 3f;
+    private static final float PREFIX_BOOST = 2f;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Object writeLock = new Object();
+    private final Queue<SearchDocument> savedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private volatile LuceneIndex index;
+    private volatile boolean rebuilding;
+
+    public LuceneMetadataSearchRepository() {
+        this.index = LuceneIndex.open(analyzer);
+    }
+
+    @PreDestroy
+    public void close() {
+        index.decRef();
+    }
+
+    @Override
+    public boolean isReady() {
+        return index.populated;
+    }
+
+    @Override
+    public void save(SearchDocument document) {
+        synchronized (writeLock) {
+            index.upsert(document);
+            index.refresh();
+            if (rebuilding) {
+                savedDuringRebuild.add(document);
+            }
+        }
+    }
+
+    @Override
+    public void rebuild(Consumer<Consumer<SearchDocument>> feeder) {
+        synchronized (writeLock) {
+            rebuilding = true;
+            savedDuringRebuild.clear();
+        }
+
+        LuceneIndex rebuilt = LuceneIndex.open(analyzer);
+        try {
+            feeder.accept(rebuilt::add);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                rebuilding = false;
+            }
+            rebuilt.decRef();
+            throw e;
+        }
+
+        LuceneIndex previous;
+        synchronized (writeLock) {
+            SearchDocument document;
+            while ((document = savedDuringRebuild.poll()) != null) {
+                rebuilt.upsert(document);
+            }
+            rebuilt.populated = true;
+            rebuilt.refresh();
+
+            previous = index;
+            index = rebuilt;
+            rebuilding = false;
+        }
+        previous.decRef();
+    }
+
+    @Override
+    public SearchHits search(SearchDocumentType type, String keyword, int offset, int limit) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        Query query = buildQuery(type, tokens);
+        LuceneIndex current = acquireIndex();
+        try {
+            IndexSearcher searcher = current.searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                List<Long> ids = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc);
+                    ids.add(document.getField(ID_FIELD).numericValue().longValue());
+                }
+
+                return new SearchHits(ids, searcher.count(query));
+            } finally {
+                current.searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "메타데이터 검색 실패", e);
+        } finally {
+            current.decRef();
+        }
+    }
+
+    /**
+     * 현재 인덱스의 참조 카운트를 올려 반환합니다.
+     * 참조를 얻기 직전에 인덱스가 교체되어 닫혔다면 새 인덱스로 다시 시도합니다.
+     *
+     * @return 참조를 얻은 인덱스 (사용 후 decRef 필요)
+     */
+    private LuceneIndex acquireIndex() {
+        while (true) {
+            LuceneIndex current = index;
+            if (current.tryIncRef()) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 검색어 토큰마다 검색 대상 필드에 대한 정확/접두어/오타 허용 일치 중 가장 높은 점수를 사용하고,
+     * 모든 토큰이 일치하는 문서만 남기는 쿼리를 만듭니다.
+     *
+     * @param type   문서 종류
+     * @param tokens 분석된 검색어 토큰 (1개 이상)
+     * @return Lucene 쿼리
+     */
+    private Query buildQuery(SearchDocumentType type, List<String> tokens) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE_FIELD, type.name())), BooleanClause.Occur.FILTER);
+
+        for (String token : tokens) {
+            List<Query> perField = new ArrayList<>();
+            for (String field : type.fields()) {
+                Term term = new Term(field, token);
+                BooleanQuery.Builder match = new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(term), EXACT_BOOST), BooleanClause.Occur.SHOULD);
+                if (token.length() >= MIN_PREFIX_LENGTH) {
+                    match.add(new BoostQuery(new PrefixQuery(term), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+                }
+                if (token.length() >= MIN_FUZZY_LENGTH) {
+                    match.add(new FuzzyQuery(term, FuzzyQuery.defaultMaxEdits, 1), BooleanClause.Occur.SHOULD);
+                }
+                perField.add(match.build());
+            }
+            query.add(new DisjunctionMaxQuery(perField, 0.1f), BooleanClause.Occur.MUST);
+        }
+
+        return query.build();
+    }
+
+    private List<String> tokenize(String keyword) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("", keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return tokens;
+    }
+
+    /**
+     * 하나의 메모리 인덱스와 그 writer, searcher를 묶은 단위입니다.
+     * 현재 인덱스로 지정된 동안 1개의 참조를 가지며, 검색마다 참조를 하나씩 더 가집니다.
+     * 참조가 0이 되면 닫히고, 닫힌 인덱스는 더 이상 참조를 얻을 수 없습니다.
+     */
+    private static final class LuceneIndex {
+        private final ByteBuffersDirectory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+        private final AtomicInteger refCount = new AtomicInteger(1);
+        private volatile boolean populated;
+
+        private LuceneIndex(ByteBuffersDirectory directory, IndexWriter writer, SearcherManager searcherManager) {
+            this.directory = directory;
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        static LuceneIndex open(Analyzer analyzer) {
+            try {
+                ByteBuffersDirectory directory = new ByteBuffersDirectory();
+                IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+                return new LuceneIndex(directory, writer, new SearcherManager(writer, null));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void add(SearchDocument document) {
+            try {
+                writer.addDocument(toLuceneDocument(document));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void upsert(SearchDocument document) {
+            try {
+                writer.updateDocument(new Term(KEY_FIELD, keyOf(document)), toLuceneDocument(document));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void refresh() {
+            try {
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        boolean tryIncRef() {
+            while (true) {
+                int count = refCount.get();
+                if (count <= 0) {
+                    return false;
+                }
+                if (refCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void decRef() {
+            if (refCount.decrementAndGet() == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("[WARN] Failed to close search index, err={}", e.getMessage());
+            }
+        }
+
+        private static Document toLuceneDocument(SearchDocument document) {
+            Document luceneDocument = new Document();
+            luceneDocument.add(new StringField(KEY_FIELD, keyOf(document), Field.Store.NO));
+            luceneDocument.add(new StringField(TYPE_FIELD, document.type().name(), Field.Store.NO));
+            luceneDocument.add(new StoredField(ID_FIELD, document.id()));
+            for (Map.Entry<String, String> field : document.fields().entrySet()) {
+                if (field.getValue() != null) {
+                    luceneDocument.add(new TextField(field.getKey(), field.getValue(), Field.Store.NO));
+                }
+            }
+
+            return luceneDocument;
+        }
+
+        private static String keyOf(SearchDocument document) {
+            return document.type().name() + ":" + document.id();
+        }
+    }
+}
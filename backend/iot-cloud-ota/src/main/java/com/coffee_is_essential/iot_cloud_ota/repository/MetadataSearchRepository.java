@@ -0,0 +1,46 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
+
+import java.util.function.Consumer;
+
+/**
+ * 펌웨어/광고 메타데이터와 리전/그룹 이름을 검색하는 전문 검색 레포지토리입니다.
+ * LIKE '%keyword%' 전체 스캔 대신 역색인으로 검색하며, 접두어/오타 허용 일치와 관련도 순 정렬을 지원합니다.
+ */
+public interface MetadataSearchRepository {
+    /**
+     * 인덱스가 구성되어 검색에 사용할 수 있는지 여부를 반환합니다.
+     *
+     * @return 사용 가능하면 true
+     */
+    boolean isReady();
+
+    /**
+     * 문서를 인덱스에 추가하거나, 같은 종류와 ID의 문서가 있으면 교체합니다.
+     *
+     * @param document 저장할 문서
+     */
+    void save(SearchDocument document);
+
+    /**
+     * 인덱스 전체를 새로 구성합니다.
+     * feeder는 전달받은 콜백에 모든 문서를 넣어야 하며, 구성이 끝나면 새 인덱스로 교체됩니다.
+     *
+     * @param feeder 모든 문서를 공급하는 함수
+     */
+    void rebuild(Consumer<Consumer<SearchDocument>> feeder);
+
+    /**
+     * 문서 종류 안에서 키워드와 일치하는 문서를 관련도 순으로 조회합니다.
+     *
+     * @param type    문서 종류
+     * @param keyword 검색 키워드
+     * @param offset  건너뛸 문서 수
+     * @param limit   조회할 문서 수
+     * @return 현재 페이지의 문서 ID와 전체 일치 문서 수
+     */
+    SearchHits search(SearchDocumentType type, String keyword, int offset, int limit);
+}
@@ -0,0 +1,42 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class NetworkStatusJdbcRepository {
+    private final @Qualifier("questDbJdbcTemplate") JdbcTemplate jdbcTemplate;
+
+    /**
+     * 구간 안에 네트워크 상태를 보고한 디바이스별 평균 신호 세기를 consumer에 전달합니다.
+     *
+     * @param from     조회 시작 시각 (포함)
+     * @param to       조회 종료 시각 (미포함)
+     * @param consumer 디바이스별 평균 신호 세기를 받을 콜백
+     */
+    public void streamDeviceAverages(OffsetDateTime from, OffsetDateTime to, SignalConsumer consumer) {
+        String sql = """
+                SELECT device_id, avg(signal_strength) AS signal_strength
+                FROM network_status
+                WHERE "timestamp" >= ?
+                  AND "timestamp" < ?
+                GROUP BY device_id
+                """;
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(rs.getLong("device_id"), rs.getDouble("signal_strength"));
+        }, from, to);
+    }
+
+    /**
+     * 디바이스별 신호 세기를 박싱 없이 받는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface SignalConsumer {
+        void accept(long deviceId, double signalStrength);
+    }
+}
@@ -1,5 +1,6 @@
 package com.coffee_is_essential.iot_cloud_ota.repository;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.DeploymentOverallStatus;
 import com.coffee_is_essential.iot_cloud_ota.entity.OverallDeploymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OverallDeploymentStatusRepository extends JpaRepository<OverallDeploymentStatus, Long> {
@@ -19,6 +22,19 @@ public interface OverallDeploymentStatusRepository extends JpaRepository<Overall
             """, nativeQuery = true)
     Optional<OverallDeploymentStatus> findLatestByDeploymentId(@Param("deploymentId") Long id);
 
+    @Query(value = """
+            select deployment_id as deploymentId, overall_status as overallStatus
+            from (
+                select deployment_id,
+                       overall_status,
+                       row_number() over (partition by deployment_id order by created_at desc, id desc) as rn
+                from overall_deployment_status
+                where deployment_id in (:deploymentIds)
+            ) ranked
+            where rn = 1
+            """, nativeQuery = true)
+    List<DeploymentOverallStatus> findLatestByDeploymentIds(@Param("deploymentIds") Collection<Long> ids);
+
     default OverallDeploymentStatus findLatestByDeploymentIdOrElseThrow(Long id) {
         return findLatestByDeploymentId(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "[ID: " + id + "] 배포 정보를 찾을 수 없습니다."));
     }
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -57,4 +58,38 @@ public interface RegionJpaRepository extends JpaRepository<Region, Long> {
                    r.regionName LIKE %:keyword%)
             """)
     Page<Region> searchWithNullableKeyword(String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 검색한 리전을 id 오름차순으로 커서 이후부터 조회합니다.
+     *
+     * @param keyword  검색 키워드 (null 또는 빈 문자열 가능)
+     * @param id       커서의 리전 ID
+     * @param pageable 조회할 행 수 (정렬은 쿼리에 고정)
+     * @return 커서 이후의 리전 목록
+     */
+    @Query("""
+            SELECT r
+            FROM Region r
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   r.regionCode LIKE %:keyword% OR
+                   r.regionName LIKE %:keyword%)
+              AND r.id > :id
+            ORDER BY r.id ASC
+            """)
+    List<Region> searchWithNullableKeywordAfter(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 키워드로 검색한 리전 수를 조회합니다.
+     *
+     * @param keyword 검색 키워드 (null 또는 빈 문자열 가능)
+     * @return 리전 수
+     */
+    @Query("""
+            SELECT COUNT(r)
+            FROM Region r
+            WHERE (:keyword IS NULL OR :keyword = '' OR
+                   r.regionCode LIKE %:keyword% OR
+                   r.regionName LIKE %:keyword%)
+            """)
+    long countWithNullableKeyword(@Param("keyword") String keyword);
 }
@@ -0,0 +1,114 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.dto.AdsMetadataJobResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.AdsMetadataRequestDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.SaveAdvertisementMetadataResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 광고 메타데이터를 비동기로 등록하는 서비스입니다.
+ * 요청은 즉시 검증한 뒤 작업 식별자를 반환하고, 바이너리 파일의 SHA-256 계산과 메타데이터 저장은
+ * 백그라운드에서 수행합니다. 작업 상태는 메모리에 보관되며 완료 후 일정 시간이 지나면 정리됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AdsMetadataJobService {
+    private static final long JOB_RETENTION_HOURS = 1;
+
+    private final AdsService adsService;
+    private final S3Service s3Service;
+    private final MultipartUploadService multipartUploadService;
+
+    @Value("${ads.metadata.job.workers:2}")
+    private int workerCount;
+
+    private final ThreadPoolTaskExecutor jobWorkers = new ThreadPoolTaskExecutor();
+    private final Map<String, AdsMetadataJobResponseDto> jobs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        jobWorkers.setCorePoolSize(workerCount);
+        jobWorkers.setMaxPoolSize(workerCount);
+        jobWorkers.setThreadNamePrefix("ads-metadata-job-");
+        jobWorkers.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobWorkers.shutdown();
+    }
+
+    /**
+     * 광고 메타데이터 등록 작업을 생성합니다.
+     * 제목과 원본 S3 경로 중복 여부는 즉시 검증하며, 해시 계산과 저장은 백그라운드에서 수행됩니다.
+     *
+     * @param requestDto 광고 제목, 설명, 원본/바이너리 S3 경로 정보를 담은 요청 DTO
+     * @return 생성된 작업의 상태 응답 DTO
+     */
+    public AdsMetadataJobResponseDto submit(AdsMetadataRequestDto requestDto) {
+        adsService.validateAdvertisementMetadata(requestDto);
+
+        AdsMetadataJobResponseDto job = AdsMetadataJobResponseDto.pending(UUID.randomUUID().toString());
+        jobs.put(job.jobId(), job);
+        jobWorkers.execute(() -> run(job.jobId(), requestDto));
+
+        return job;
+    }
+
+    /**
+     * 작업 식별자로 광고 메타데이터 등록 작업의 상태를 조회합니다.
+     * 작업이 존재하지 않으면 404 에러 발생
+     *
+     * @param jobId 작업 식별자
+     * @return 작업 상태 응답 DTO
+     */
+    public AdsMetadataJobResponseDto findJob(String jobId) {
+        AdsMetadataJobResponseDto job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "[jobId: " + jobId + "] 작업 정보를 찾을 수 없습니다.");
+        }
+
+        return job;
+    }
+
+    /**
+     * 완료된 지 일정 시간이 지난 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ads.metadata.job.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        OffsetDateTime threshold = OffsetDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinished() && job.createdAt().isBefore(threshold));
+    }
+
+    private void run(String jobId, AdsMetadataRequestDto requestDto) {
+        jobs.computeIfPresent(jobId, (id, job) -> job.running());
+
+        try {
+            S3FileHashResult result = multipartUploadService.findCompletedUpload(requestDto.binaryS3Path())
+                    .orElseGet(() -> s3Service.calculateS3FileHash(requestDto.binaryS3Path()));
+            SaveAdvertisementMetadataResponseDto saved = adsService.saveAdvertisementMetadata(requestDto, result);
+            jobs.computeIfPresent(jobId, (id, job) -> job.completed(saved));
+        } catch (ResponseStatusException e) {
+            jobs.computeIfPresent(jobId, (id, job) -> job.failed(e.getReason()));
+        } catch (Exception e) {
+            log.error("[ERROR] Ads metadata job failed, jobId={}, err={}", jobId, e.getMessage(), e);
+            jobs.computeIfPresent(jobId, (id, job) -> job.failed("광고 메타데이터 등록 실패"));
+        }
+    }
+}
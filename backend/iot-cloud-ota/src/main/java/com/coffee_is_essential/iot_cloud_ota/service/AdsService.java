@@ -1,14 +1,20 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.component.MetadataSearchIndexer;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.entity.ActiveDeviceInfo;
 import com.coffee_is_essential.iot_cloud_ota.entity.AdsMetadata;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
 import com.coffee_is_essential.iot_cloud_ota.repository.AdsMetadataJpaRepository;
 import com.coffee_is_essential.iot_cloud_ota.repository.DeviceAdsJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.MetadataSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,9 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Date;
 import java.util.List;
 
 @Service
@@ -28,8 +31,10 @@ public class AdsService {
     private final AdsMetadataJpaRepository adsMetadataJpaRepository;
     private final DeviceAdsJpaRepository deviceAdsJpaRepository;
     private final S3Service s3Service;
+    private final MultipartUploadService multipartUploadService;
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
-    private static final int TIMEOUT = 10;
+    private final MetadataSearchRepository metadataSearchRepository;
+    private final MetadataSearchIndexer metadataSearchIndexer;
 
     /**
      * 광고 메타데이터를 저장합니다.
@@ -44,6 +49,20 @@ public class AdsService {
      */
     @Transactional
     public SaveAdvertisementMetadataResponseDto saveAdvertisementMetadata(AdsMetadataRequestDto requestDto) {
+        validateAdvertisementMetadata(requestDto);
+        S3FileHashResult result = multipartUploadService.findCompletedUpload(requestDto.binaryS3Path())
+                .orElseGet(() -> s3Service.calculateS3FileHash(requestDto.binaryS3Path()));
+
+        return saveAdvertisementMetadata(requestDto, result);
+    }
+
+    /**
+     * 광고 메타데이터 저장 요청을 검증합니다.
+     * 동일한 광고 제목 또는 원본 S3 경로가 이미 존재하면 400 에러 발생
+     *
+     * @param requestDto 광고 제목, 설명, 원본/바이너리 S3 경로 정보를 담은 요청 DTO
+     */
+    public void validateAdvertisementMetadata(AdsMetadataRequestDto requestDto) {
         if (adsMetadataJpaRepository.findByTitle(requestDto.title()).isPresent()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, requestDto.title() + "의 광고 제목이 이미 존재합니다.");
         }
@@ -51,8 +70,20 @@ public class AdsService {
         if (adsMetadataJpaRepository.existsByOriginalS3Path(requestDto.originalS3Path())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 경로 '" + requestDto.originalS3Path() + "'에 이미 광고가 존재합니다.");
         }
+    }
+
+    /**
+     * 이미 계산된 바이너리 파일의 해시 및 파일 크기로 광고 메타데이터를 저장합니다.
+     * 해시 계산이 끝나는 사이에 같은 광고가 등록되었을 수 있으므로 저장 직전에 다시 검증합니다.
+     *
+     * @param requestDto 광고 제목, 설명, 원본/바이너리 S3 경로 정보를 담은 요청 DTO
+     * @param result     바이너리 파일의 해시 및 파일 크기
+     * @return 저장된 광고 메타데이터 응답 DTO
+     */
+    @Transactional
+    public SaveAdvertisementMetadataResponseDto saveAdvertisementMetadata(AdsMetadataRequestDto requestDto, S3FileHashResult result) {
+        validateAdvertisementMetadata(requestDto);
 
-        S3FileHashResult result = s3Service.calculateS3FileHash(requestDto.binaryS3Path());
         AdsMetadata adsMetadata = new AdsMetadata(
                 requestDto.title(),
                 requestDto.description(),
@@ -63,14 +94,16 @@ public class AdsService {
         );
 
         AdsMetadata savedAdsMetadata = adsMetadataJpaRepository.save(adsMetadata);
+        metadataSearchIndexer.onSaved(SearchDocument.from(savedAdsMetadata));
 
         return SaveAdvertisementMetadataResponseDto.from(savedAdsMetadata);
     }
 
     /**
      * 광고 메타데이터를 페이지네이션 방식으로 조회합니다.
-     * 검색어(keyword)가 주어지면 제목/설명에 대해 부분 검색 수행
-     * 최신순(createdAt 기준 내림차순)으로 정렬
+     * 검색어(keyword)가 주어지면 검색 인덱스에서 제목/설명을 검색하여 관련도 순으로 정렬
+     * (인덱스가 아직 구성되지 않았으면 부분 일치 검색으로 대체)
+     * 검색어가 없으면 최신순(createdAt 기준 내림차순)으로 정렬
      * 조회된 엔티티를 응답 DTO로 변환하면서 Presigned 다운로드 URL 생성
      * 페이지네이션 메타데이터(Page 번호, 크기, 전체 페이지 수, 전체 아이템 수) 생성
      *
@@ -81,12 +114,17 @@ public class AdsService {
         Pageable pageable = PageRequest.of(paginationInfo.page() - 1, paginationInfo.limit(), Sort.by("createdAt").descending());
         String keyword = paginationInfo.search();
 
-        Page<AdsMetadata> findAds = adsMetadataJpaRepository.searchWithNullableKeyword(
-                keyword, pageable
-        );
+        Page<AdsMetadata> findAds;
+        if (keyword != null && !keyword.isBlank() && metadataSearchRepository.isReady()) {
+            SearchHits hits = metadataSearchRepository.search(SearchDocumentType.ADS, keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<AdsMetadata> ranked = hits.orderByRank(adsMetadataJpaRepository.findAllById(hits.ids()), AdsMetadata::getId);
+            findAds = new PageImpl<>(ranked, pageable, hits.totalHits());
+        } else {
+            findAds = adsMetadataJpaRepository.searchWithNullableKeyword(keyword, pageable);
+        }
 
         List<AdsMetadataResponseDto> ads = findAds.getContent().stream()
-                .map(ad -> AdsMetadataResponseDto.from(ad, cloudFrontSignedUrlService.generateAdsSignedUrl(ad.getTitle()).url()))
+                .map(ad -> AdsMetadataResponseDto.from(ad, cloudFrontSignedUrlService.generateCachedSignedUrl(ad.getOriginalS3Path())))
                 .toList();
 
         PaginationMetadataDto metadataDto = new PaginationMetadataDto(
@@ -110,11 +148,10 @@ public class AdsService {
      */
     public AdsDetailResponseDto findById(Long id) {
         AdsMetadata adsMetadata = adsMetadataJpaRepository.findByIdOrElseThrow(id);
-        Date expiresAt = Date.from(Instant.now().plus(Duration.ofMinutes(TIMEOUT)));
 
         AdsMetadataResponseDto adsMetadataResponseDto = AdsMetadataResponseDto.from(
                 adsMetadata,
-                cloudFrontSignedUrlService.generateSignedUrl(adsMetadata.getOriginalS3Path(), expiresAt)
+                cloudFrontSignedUrlService.generateCachedSignedUrl(adsMetadata.getOriginalS3Path())
         );
 
         List<ActiveDeviceInfo> activeDevicesSummaryByAds = deviceAdsJpaRepository.findActiveDevicesByAdsId(adsMetadata.getId());
@@ -1,147 +1,313 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
 import com.coffee_is_essential.iot_cloud_ota.entity.*;
 import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
 import com.coffee_is_essential.iot_cloud_ota.enums.OverallStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.RolloutStatus;
 import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import jakarta.annotation.PostConstruct;
-import jakarta.persistence.EntityManager;
-import jakarta.transaction.Transactional;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 배포 상태를 주기적으로 점검하는 스케줄러 서비스
  * Redis에 저장된 배포 키(commandId)를 기반으로 각 디바이스의 다운로드 이벤트를 조회하고,
  * 배포 완료 / 실패 / 타임아웃 여부를 판별하여 DB에 반영함
- * 배포별로 독립된 스케줄러를 관리하며, 조건이 충족되면 자동으로 스케줄러를 종료함
+ * 진행 중인 배포를 다음 점검 시각 순의 우선순위 큐로 관리하며,
+ * 하나의 판정 루프가 점검 시각이 도래한 배포들을 commandId 해시로 샤딩하며, 샤드마다 단일 스레드 워커가 순서대로 일괄 판정함
+ * 판정 루프는 샤드 워커의 판정이 끝날 때까지 기다리므로, 공용 스케줄러 풀을 점유하지 않도록 전용 스케줄러 스레드에서 실행함
+ * 다운로드 이벤트 테일러가 전달하는 종료 이벤트는 judgeEvents로 즉시 반영되며,
+ * 주기적인 판정 루프는 누락된 이벤트와 만료를 처리하는 안전망 역할을 함
+ * 단계적 배포(rollout)에 배포할 웨이브가 남아있으면 Redis Set이 비어도 배포를 완료 처리하지 않음
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class DeployJudgeScheduler {
-    private final StringRedisTemplate srt;
     private final FirmwareDeploymentRepository firmwareDeploymentRepository;
-    private final FirmwareDeploymentDeviceRepository firmwareDeploymentDeviceRepository;
+    private final DeploymentProgressService deploymentProgressService;
     private final OverallDeploymentStatusRepository overallDeploymentStatusRepository;
     private final DeploymentRedisService deploymentRedisService;
-    private final EntityManager em;
     private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
     private final DeviceService deviceService;
+    private final DeploymentRolloutRepository deploymentRolloutRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
-    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
-    private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    @Value("${deploy.judge.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${deploy.judge.workers:4}")
+    private int workerCount;
+
+    @Value("${deploy.judge.interval-seconds:60}")
+    private long intervalSeconds;
+
+    @Value("${deploy.judge.batch-size:100}")
+    private int batchSize;
+
+    private final ThreadPoolTaskScheduler judgeLoop = new ThreadPoolTaskScheduler();
+    private final List<ThreadPoolTaskExecutor> judgeShards = new ArrayList<>();
+    private final PriorityQueue<JudgeTask> dueQueue = new PriorityQueue<>(Comparator.comparing(JudgeTask::dueAt));
+    private final Set<String> activeCommandIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, ReentrantLock> judgeLocks = new ConcurrentHashMap<>();
+    private Timer judgeLatency;
+
+    /**
+     * 판정 대상 배포와 다음 점검 시각
+     *
+     * @param commandId 배포 식별자
+     * @param dueAt     다음 점검 시각
+     */
+    private record JudgeTask(String commandId, Instant dueAt) {
+    }
 
     @PostConstruct
     public void init() {
-        taskScheduler.setPoolSize(10);
-        taskScheduler.initialize();
+        for (int shard = 0; shard < workerCount; shard++) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.setThreadNamePrefix("deploy-judge-" + shard + "-");
+            executor.initialize();
+            judgeShards.add(executor);
+        }
+
+        judgeLoop.setPoolSize(1);
+        judgeLoop.setThreadNamePrefix("deploy-judge-loop-");
+        judgeLoop.initialize();
+        judgeLoop.scheduleWithFixedDelay(this::tick, Duration.ofMillis(tickMs));
+
+        judgeLatency = Timer.builder("deploy.judge.latency")
+                .description("Delay between a deployment's due time and the end of its judgement")
+                .register(meterRegistry);
+        Gauge.builder("deploy.judge.overdue", this, DeployJudgeScheduler::countOverdue)
+                .description("Number of active deployments whose judgement is overdue")
+                .register(meterRegistry);
+        Gauge.builder("deploy.judge.active", activeCommandIds, Set::size)
+                .description("Number of deployments tracked by the judge loop")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        judgeLoop.shutdown();
+        judgeShards.forEach(ThreadPoolTaskExecutor::shutdown);
     }
 
     /**
-     * 특정 배포(commandId)에 대한 스케줄러를 시작한다.
-     * 30초마다 dumpDeploySet을 실행하며,
-     * 이미 해당 commandId의 스케줄러가 실행 중이면 새로 시작하지 않음
+     * 특정 배포(commandId)를 판정 대상으로 등록한다.
+     * 등록 후 판정 주기(기본 60초)가 지나면 첫 판정이 수행되며,
+     * 이미 해당 commandId가 등록되어 있으면 새로 등록하지 않음
      *
      * @param commandId 배포 식별자
      */
-    public synchronized void startScheduler(String commandId) {
-        if (scheduledTasks.containsKey(commandId)) {
+    public void startScheduler(String commandId) {
+        if (!activeCommandIds.add(commandId)) {
             log.warn("[WARN] Scheduler already running for commandId={}", commandId);
             return;
         }
-        ScheduledFuture<?> future = taskScheduler.scheduleAtFixedRate(
-                () -> dumpDeploySet(commandId),
-                Duration.ofSeconds(60)
-        );
-        scheduledTasks.put(commandId, future);
+        enqueue(commandId, Instant.now().plusSeconds(intervalSeconds));
         log.info("[START] Scheduler started for commandId={}", commandId);
     }
 
     /**
-     * 특정 배포(commandId)에 대한 스케줄러를 중지한다.
-     * 맵에서 해당 commandId의 ScheduledFuture를 제거하고 cancel 처리한다.
+     * 특정 배포(commandId)를 판정 대상에서 제외한다.
+     * 큐에 남아있는 항목은 다음 판정 루프에서 폐기되며, 판정 락은 락을 쥔 스레드가 판정을 마친 뒤 정리한다.
      *
      * @param commandId 배포 식별자
      */
-    public synchronized void stopScheduler(String commandId) {
-        ScheduledFuture<?> future = scheduledTasks.remove(commandId);
-        if (future != null) {
-            future.cancel(false);
+    public void stopScheduler(String commandId) {
+        if (activeCommandIds.remove(commandId)) {
             log.info("[STOP] Scheduler stopped for commandId={}", commandId);
         }
     }
 
     /**
-     * Redis에서 특정 배포(commandId)의 디바이스 목록을 스캔하여 상태를 점검한다.
-     * Redis에 디바이스 ID가 없으면 스케줄러를 종료하고,
-     * 존재하면 judge 메서드를 호출한다.
+     * 점검 시각이 도래한 배포들을 큐에서 꺼내 commandId 해시 기준으로 샤드에 나누고,
+     * 각 샤드의 단일 스레드 워커가 batch-size 단위로 묶어 한 번의 QuestDB 조회로 판정한다.
+     * 같은 배포는 항상 같은 샤드에서 판정되므로 판정 루프 안에서는 판정 락 경합이 생기지 않는다.
+     * 모든 샤드의 판정이 끝나면 여전히 진행 중인 배포를 다음 점검 시각으로 다시 큐에 넣는다.
+     * 전용 판정 루프 스레드에서 tick-ms 간격으로 실행된다.
+     */
+    public void tick() {
+        Instant now = Instant.now();
+        List<JudgeTask> dueTasks = pollDueTasks(now);
+        if (dueTasks.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<JudgeTask>> shards = dueTasks.stream()
+                .collect(Collectors.groupingBy(task -> Math.floorMod(task.commandId().hashCode(), workerCount)));
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (Map.Entry<Integer, List<JudgeTask>> shard : shards.entrySet()) {
+            ThreadPoolTaskExecutor executor = judgeShards.get(shard.getKey());
+            List<JudgeTask> tasks = shard.getValue();
+            for (int from = 0; from < tasks.size(); from += batchSize) {
+                List<JudgeTask> batch = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+                futures.add(executor.submit(() -> judgeBatch(batch)));
+            }
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                log.error("[ERROR] Judge worker failed, err={}", e.getMessage(), e);
+            }
+        }
+
+        Instant finishedAt = Instant.now();
+        for (JudgeTask task : dueTasks) {
+            judgeLatency.record(Duration.between(task.dueAt(), finishedAt));
+            if (activeCommandIds.contains(task.commandId())) {
+                enqueue(task.commandId(), finishedAt.plusSeconds(intervalSeconds));
+            }
+        }
+    }
+
+    /**
+     * 하나의 배치에 속한 배포들을 판정한다.
+     * command_id IN (...) 조건의 단일 쿼리로 최신 다운로드 이벤트를 조회한 뒤,
+     * 배포별 판정 락을 잡은 상태에서 Redis에 남은 디바이스 목록을 읽어 judge를 호출한다.
+     * 남은 디바이스가 없는 배포는 판정 대상에서 제외한다.
      *
-     * @param commandId 배포 식별자
+     * @param batch 판정할 배포 목록
      */
-    private void dumpDeploySet(String commandId) {
-        try {
-            List<Long> deviceIds = deploymentRedisService.getAllDeviceIdsFromRedisById(commandId);
-            if (deviceIds.isEmpty()) {
-                log.info("[ERROR] No devices left in Redis for commandId={}, stopping scheduler", commandId);
+    private void judgeBatch(List<JudgeTask> batch) {
+        Set<String> commandIds = batch.stream()
+                .map(JudgeTask::commandId)
+                .collect(Collectors.toSet());
+        Map<String, FirmwareDeployment> deployments = firmwareDeploymentRepository.findAllByCommandIdIn(commandIds).stream()
+                .collect(Collectors.toMap(FirmwareDeployment::getCommandId, Function.identity()));
+        OffsetDateTime since = deployments.values().stream()
+                .map(FirmwareDeployment::getDeployedAt)
+                .min(Comparator.naturalOrder())
+                .orElse(OffsetDateTime.now());
+        Map<String, List<FirmwareDownloadEvents>> latestEvents =
+                downloadEventsJdbcRepository.findLatestPerDeviceByCommandIds(deployments.keySet(), since);
+
+        for (String commandId : commandIds) {
+            FirmwareDeployment deployment = deployments.get(commandId);
+            if (deployment == null) {
+                log.error("[ERROR] Deployment not found for commandId={}, stopping scheduler", commandId);
                 stopScheduler(commandId);
-                return;
+                continue;
             }
-            judge(commandId, deviceIds);
-        } catch (Exception e) {
-            log.error("[ERROR] Error while scanning Redis for commandId={}, err={}", commandId, e.getMessage(), e);
+
+            withJudgeLock(commandId, () -> {
+                List<Long> deviceIds = deploymentRedisService.getAllDeviceIdsFromRedisById(commandId);
+                if (deviceIds.isEmpty()) {
+                    if (hasPendingWaves(deployment)) {
+                        return;
+                    }
+                    log.info("[ERROR] No devices left in Redis for commandId={}, stopping scheduler", commandId);
+                    stopScheduler(commandId);
+                    return;
+                }
+                judge(deployment, deviceIds, latestEvents.getOrDefault(commandId, List.of()));
+            });
         }
     }
 
+    /**
+     * 다운로드 이벤트 테일러가 전달한 종료 이벤트로 특정 배포를 즉시 판정한다.
+     * 이벤트에 포함된 디바이스 중 아직 Redis에 남아있는 디바이스만 대상으로 하므로,
+     * 같은 이벤트가 중복 전달되어도 이미 반영된 디바이스는 다시 저장되지 않는다.
+     * 판정 대상이 아닌 배포의 이벤트는 무시한다.
+     *
+     * @param commandId 배포 식별자
+     * @param events    종료 상태의 다운로드 이벤트 목록
+     */
+    public void judgeEvents(String commandId, List<FirmwareDownloadEvents> events) {
+        if (!activeCommandIds.contains(commandId) || events.isEmpty()) {
+            return;
+        }
+
+        withJudgeLock(commandId, () -> {
+            Set<Long> eventDeviceIds = events.stream()
+                    .map(FirmwareDownloadEvents::getDeviceId)
+                    .collect(Collectors.toSet());
+            List<Long> remaining = deploymentRedisService.findRemainingDeviceIds(commandId, eventDeviceIds);
+            if (remaining.isEmpty()) {
+                return;
+            }
+
+            FirmwareDeployment deployment = firmwareDeploymentRepository.findByCommandIdOrElseThrow(commandId);
+            judge(deployment, remaining, latestPerDevice(events));
+        });
+    }
+
+    /**
+     * 현재 판정 대상으로 등록된 배포 식별자 목록을 반환한다.
+     *
+     * @return 판정 대상 commandId 목록
+     */
+    public Set<String> getActiveCommandIds() {
+        return Set.copyOf(activeCommandIds);
+    }
+
     /**
      * 특정 배포(commandId)의 디바이스 상태를 판별한다.
-     * QuestDB에서 최신 다운로드 이벤트를 조회하여 완료된 이벤트를 DB에 반영하고,
+     * 미리 조회된 최신 다운로드 이벤트 중 아직 Redis에 남아있는 디바이스의 완료 이벤트를 DB에 반영하고,
      * Redis에서 제거한다. 모든 디바이스가 완료되었거나 만료 시간이 지난 경우
-     * 전체 배포 상태를 COMPLETED로 저장하고 스케줄러를 종료한다.
+     * 전체 배포 상태를 COMPLETED로 저장하고 판정 대상에서 제외한다.
+     * DB 반영은 TransactionTemplate으로 한 번에 커밋한 뒤 Redis를 갱신하므로, 커밋 전에 실패하면 Redis가 그대로 남아
+     * 다음 판정에서 다시 처리되며, 이미 반영된 디바이스는 recordTransitions가 건너뛴다.
      *
-     * @param commandId 배포 식별자
-     * @param deviceIds 배포에 포함된 디바이스 ID 리스트
+     * @param firmwareDeployment 배포 엔티티
+     * @param deviceIds          Redis에 남아있는 디바이스 ID 리스트
+     * @param latestEvents       배포의 디바이스별 최신 다운로드 이벤트 리스트
      */
-    @Transactional
-    public void judge(String commandId, List<Long> deviceIds) {
-        FirmwareDeployment firmwareDeployment = firmwareDeploymentRepository.findByCommandIdOrElseThrow(commandId);
+    private void judge(FirmwareDeployment firmwareDeployment, List<Long> deviceIds, List<FirmwareDownloadEvents> latestEvents) {
+        String commandId = firmwareDeployment.getCommandId();
         OffsetDateTime expiresAt = firmwareDeployment.getExpiresAt();
 
         log.info(
-                "[CHECKING] Judge started for commandId={}, deviceCount={}, expiresAt={}, deviceIds={}",
+                "[CHECKING] Judge started for commandId={}, deviceCount={}, expiresAt={}",
                 commandId,
                 deviceIds.size(),
-                expiresAt.toInstant(),
-                deviceIds
+                expiresAt.toInstant()
         );
 
-        List<FirmwareDownloadEvents> downloadEvents = downloadEventsJdbcRepository.findLatestPerDeviceByCommandIdAndDeviceIds(commandId, deviceIds);
-        List<FirmwareDownloadEvents> completedEvents = downloadEvents.stream()
+        LongSet remaining = new LongOpenHashSet(deviceIds);
+        List<FirmwareDownloadEvents> completedEvents = latestEvents.stream()
+                .filter(e -> remaining.contains(e.getDeviceId().longValue()))
                 .filter(e -> isCompleted(e.getStatus()))
                 .toList();
 
         if (!completedEvents.isEmpty()) {
             processCompletedEvents(commandId, completedEvents, firmwareDeployment);
-            String type = commandId.split("-")[0];
-            if ("AD".equals(type)) {
-                deviceService.updateDeviceAds(commandId, completedEvents);
-            } else if ("FW".equals(type)) {
-                deviceService.updateDeviceFirmware(commandId, completedEvents);
-            }
         }
 
-        Long size = srt.opsForSet().size(commandId);
-        if (size == null || size == 0) {
+        if (deploymentRedisService.countDevices(commandId) == 0) {
+            if (hasPendingWaves(firmwareDeployment)) {
+                log.info("[WAITING] Wave completed, waiting for next rollout wave, commandId={}", commandId);
+                return;
+            }
             log.info("[SUCCESS] Deployment completed successfully, commandId={}", commandId);
             overallDeploymentStatusRepository.save(
                     new OverallDeploymentStatus(firmwareDeployment, OverallStatus.COMPLETED)
@@ -152,55 +318,82 @@ public class DeployJudgeScheduler {
 
         if (Instant.now().isAfter(expiresAt.toInstant())) {
             log.warn("[TIMEOUT] Deployment expired (timeout), commandId={}", commandId);
-            processTimeoutEvents(commandId, firmwareDeployment);
-            overallDeploymentStatusRepository.save(
-                    new OverallDeploymentStatus(firmwareDeployment, OverallStatus.COMPLETED)
-            );
-            stopScheduler(commandId);
+            boolean pendingWaves = hasPendingWaves(firmwareDeployment);
+            processTimeoutEvents(commandId, firmwareDeployment, !pendingWaves);
+            if (!pendingWaves) {
+                stopScheduler(commandId);
+            }
         }
     }
 
     /**
      * 만료된 배포(commandId)에 대해 TIMEOUT 처리한다.
-     * 남은 모든 디바이스를 TIMEOUT 상태로 저장하고,
-     * Redis에도 반영한 뒤 Redis key를 삭제한다.
+     * 타임아웃 이벤트를 QuestDB에 먼저 저장한 뒤, 남은 모든 디바이스의 TIMEOUT 상태와 (완료 시) 전체 배포 상태를
+     * 한 트랜잭션으로 저장하고, 커밋 이후에 Redis key를 삭제한다.
+     * 어느 단계든 실패하면 Redis key가 남아 다음 판정에서 다시 처리되며,
+     * 이벤트 저장에 실패한 경우에는 DB에 아무것도 반영되지 않았으므로 전체 배포 상태가 중복 저장되지 않는다.
      *
      * @param commandId  배포 식별자
      * @param deployment 배포 엔티티
+     * @param complete   전체 배포 상태를 COMPLETED로 저장할지 여부
      */
-    private void processTimeoutEvents(String commandId, FirmwareDeployment deployment) {
+    private void processTimeoutEvents(String commandId, FirmwareDeployment deployment, boolean complete) {
         List<Long> deviceIds = deploymentRedisService.getAllDeviceIdsFromRedisById(commandId);
-        List<FirmwareDeploymentDevice> list = deviceIds.stream()
-                .map(e -> new FirmwareDeploymentDevice(
-                        em.getReference(Device.class, e),
-                        deployment,
-                        DeploymentStatus.TIMEOUT
-                ))
+        List<DeviceStatusTransition> transitions = deviceIds.stream()
+                .map(deviceId -> new DeviceStatusTransition(deviceId, DeploymentStatus.TIMEOUT))
                 .toList();
-        firmwareDeploymentDeviceRepository.saveAll(list);
         deploymentRedisService.saveTimeoutDevices(commandId, deviceIds);
-        srt.delete(commandId);
+        transactionTemplate.executeWithoutResult(status -> {
+            deploymentProgressService.recordTransitions(deployment.getId(), transitions);
+            if (complete) {
+                overallDeploymentStatusRepository.save(new OverallDeploymentStatus(deployment, OverallStatus.COMPLETED));
+            }
+        });
+        deploymentRedisService.deleteDeployment(commandId);
     }
 
     /**
-     * 완료된 디바이스 이벤트를 DB에 반영하고 Redis에서 제거한다.
+     * 완료된 디바이스 이벤트와 디바이스의 현재 펌웨어/광고를 한 트랜잭션으로 DB에 반영하고,
+     * 커밋 이후에 Redis에서 제거한다.
+     * 디바이스의 현재 펌웨어/광고는 이번에 상태 전이가 실제로 기록된 디바이스만 갱신하므로,
+     * 이미 반영된 전이가 다시 들어와도 디바이스 정보를 중복으로 덮어쓰지 않는다.
      *
      * @param commandId       배포 식별자
      * @param completedEvents 완료된 이벤트 목록
      * @param deployment      배포 엔티티
      */
     private void processCompletedEvents(String commandId, List<FirmwareDownloadEvents> completedEvents, FirmwareDeployment deployment) {
-        List<FirmwareDeploymentDevice> list = completedEvents.stream()
-                .map(e -> new FirmwareDeploymentDevice(
-                        em.getReference(Device.class, e.getDeviceId()),
-                        deployment,
-                        DeploymentStatus.valueOf(e.getStatus())
-                ))
+        List<DeviceStatusTransition> transitions = completedEvents.stream()
+                .map(e -> new DeviceStatusTransition(e.getDeviceId(), DeploymentStatus.valueOf(e.getStatus())))
                 .toList();
-        firmwareDeploymentDeviceRepository.saveAll(list);
+        String type = commandId.split("-")[0];
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> applied = deploymentProgressService.recordTransitions(deployment.getId(), transitions);
+            if (applied.isEmpty()) {
+                return;
+            }
+            List<FirmwareDownloadEvents> appliedEvents = completedEvents.stream()
+                    .filter(e -> applied.contains(e.getDeviceId()))
+                    .toList();
+            if ("AD".equals(type)) {
+                deviceService.updateDeviceAds(commandId, appliedEvents);
+            } else if ("FW".equals(type)) {
+                deviceService.updateDeviceFirmware(commandId, appliedEvents);
+            }
+        });
         deploymentRedisService.deleteDevices(commandId, completedEvents);
     }
 
+    /**
+     * 단계적 배포에서 아직 배포하지 않은 웨이브가 남아있는지 확인한다.
+     *
+     * @param deployment 배포 엔티티
+     * @return 남은 웨이브가 있으면 true
+     */
+    private boolean hasPendingWaves(FirmwareDeployment deployment) {
+        return deploymentRolloutRepository.existsByFirmwareDeploymentIdAndStatus(deployment.getId(), RolloutStatus.IN_PROGRESS);
+    }
+
     /**
      * 이벤트 상태가 완료 상태(SUCCESS, FAILED, CANCELLED, TIMEOUT)인지 여부를 판별한다.
      *
@@ -211,4 +404,92 @@ public class DeployJudgeScheduler {
         return deploymentStatus.equals(DeploymentStatus.SUCCESS.name()) || deploymentStatus.equals(DeploymentStatus.FAILED.name())
                || deploymentStatus.equals(DeploymentStatus.CANCELLED.name()) || deploymentStatus.equals(DeploymentStatus.TIMEOUT.name()) || deploymentStatus.equals(DeploymentStatus.ERROR.name());
     }
+
+    /**
+     * 판정 대상을 다음 점검 시각과 함께 큐에 넣는다.
+     *
+     * @param commandId 배포 식별자
+     * @param dueAt     다음 점검 시각
+     */
+    private void enqueue(String commandId, Instant dueAt) {
+        synchronized (dueQueue) {
+            dueQueue.add(new JudgeTask(commandId, dueAt));
+        }
+    }
+
+    /**
+     * 점검 시각이 도래한 판정 대상을 큐에서 모두 꺼낸다.
+     * 이미 판정 대상에서 제외된 배포는 폐기한다.
+     *
+     * @param now 기준 시각
+     * @return 점검 시각이 도래한 판정 대상 목록
+     */
+    private List<JudgeTask> pollDueTasks(Instant now) {
+        List<JudgeTask> dueTasks = new ArrayList<>();
+        synchronized (dueQueue) {
+            while (!dueQueue.isEmpty() && !dueQueue.peek().dueAt().isAfter(now)) {
+                JudgeTask task = dueQueue.poll();
+                if (activeCommandIds.contains(task.commandId())) {
+                    dueTasks.add(task);
+                }
+            }
+        }
+
+        return dueTasks;
+    }
+
+    /**
+     * 점검 시각이 지났지만 아직 판정되지 않은 배포 수를 반환한다.
+     *
+     * @return 밀려 있는 판정 대상 수
+     */
+    private double countOverdue() {
+        Instant now = Instant.now();
+        synchronized (dueQueue) {
+            return dueQueue.stream()
+                    .filter(task -> task.dueAt().isBefore(now))
+                    .count();
+        }
+    }
+
+    /**
+     * 배포별 판정 락을 잡은 상태에서 작업을 수행한다.
+     * 판정 루프와 다운로드 이벤트 테일러가 같은 배포를 동시에 판정하지 않도록 한다.
+     * 락을 얻은 뒤 판정 대상에서 이미 제외된 배포는 판정하지 않으며,
+     * 제외된 배포의 락은 기다리는 스레드가 없을 때 락을 쥐었던 스레드가 정리한다.
+     *
+     * @param commandId 배포 식별자
+     * @param action    수행할 판정 작업
+     */
+    private void withJudgeLock(String commandId, Runnable action) {
+        ReentrantLock lock = judgeLocks.computeIfAbsent(commandId, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (activeCommandIds.contains(commandId)) {
+                action.run();
+            }
+        } catch (Exception e) {
+            log.error("[ERROR] Error while judging commandId={}, err={}", commandId, e.getMessage(), e);
+        } finally {
+            lock.unlock();
+            if (!activeCommandIds.contains(commandId)) {
+                judgeLocks.computeIfPresent(commandId, (id, current) -> current == lock && !lock.isLocked() && !lock.hasQueuedThreads() ? null : current);
+            }
+        }
+    }
+
+    /**
+     * 시간순으로 정렬된 이벤트 목록에서 디바이스별 마지막 이벤트만 남긴다.
+     *
+     * @param events 시간순으로 정렬된 다운로드 이벤트 목록
+     * @return 디바이스별 최신 다운로드 이벤트 리스트
+     */
+    private List<FirmwareDownloadEvents> latestPerDevice(List<FirmwareDownloadEvents> events) {
+        Map<Long, FirmwareDownloadEvents> latest = new HashMap<>();
+        for (FirmwareDownloadEvents event : events) {
+            latest.put(event.getDeviceId(), event);
+        }
+
+        return new ArrayList<>(latest.values());
+    }
 }
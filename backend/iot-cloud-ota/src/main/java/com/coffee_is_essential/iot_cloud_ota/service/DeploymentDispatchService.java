@@ -0,0 +1,94 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.component.DeploymentOutboxRelay;
+import com.coffee_is_essential.iot_cloud_ota.domain.DeployTargetDeviceInfo;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeploymentOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * MQTT Handler로 보낼 배포 요청을 아웃박스에 저장하고, 커밋 이후의 후속 작업을 등록하는 서비스
+ * 즉시 배포와 단계적 배포(rollout)의 각 웨이브가 같은 경로로 전송되도록 공통화함
+ */
+@Service
+@RequiredArgsConstructor
+public class DeploymentDispatchService {
+    public static final String FIRMWARE_DEPLOYMENT_ROUTE = "/api/firmwares/deployment";
+    public static final String ADS_DEPLOYMENT_ROUTE = "/api/advertisements/deployment";
+
+    private final ObjectMapper objectMapper;
+    private final DeploymentOutboxRepository deploymentOutboxRepository;
+    private final DeploymentOutboxRelay deploymentOutboxRelay;
+
+    @Value("${deploy.dispatch.stream-threshold:1000}")
+    private int streamThreshold;
+
+    /**
+     * MQTT Handler에 보낼 배포 요청을 현재 트랜잭션 안에서 아웃박스에 저장
+     * 대상 디바이스 수가 임계값 이상이면 대상 목록을 청크 단위로 스트리밍하는 STREAM 모드를 사용하며,
+     * 이때는 대상 목록을 제외한 헤더만 저장하고 대상은 전송 시점에 배포 ID와 디바이스 ID 범위로 다시 조회
+     * 커밋이 완료된 뒤에 릴레이에 즉시 전달을 요청하며, Redis 대상 등록과 판정 스케줄러 시작은 릴레이가 전송 직전에 수행
+     * 따라서 커밋 직후 인스턴스가 종료되어도 폴링으로 전달되는 시점에 배포가 판정 대상이 됨
+     *
+     * @param deployment     배포 엔티티
+     * @param wave           웨이브 번호 (즉시 배포는 0)
+     * @param route          MQTT Handler API 경로
+     * @param deviceInfos    이번에 전송할 대상 디바이스 정보 목록
+     * @param payloadFactory 대상 목록을 받아 전송할 DTO를 만드는 함수 (STREAM 모드에서는 빈 목록이 전달됨)
+     */
+    public void enqueue(
+            FirmwareDeployment deployment,
+            int wave,
+            String route,
+            List<DeployTargetDeviceInfo> deviceInfos,
+            Function<List<DeployTargetDeviceInfo>, Object> payloadFactory
+    ) {
+        String commandId = deployment.getCommandId();
+        DispatchMode dispatchMode = deviceInfos.size() >= streamThreshold ? DispatchMode.STREAM : DispatchMode.INLINE;
+        Object object = payloadFactory.apply(dispatchMode == DispatchMode.STREAM ? List.of() : deviceInfos);
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "배포 요청 직렬화 실패", e);
+        }
+
+        long deviceIdFrom = Long.MAX_VALUE;
+        long deviceIdTo = Long.MIN_VALUE;
+        for (DeployTargetDeviceInfo deviceInfo : deviceInfos) {
+            deviceIdFrom = Math.min(deviceIdFrom, deviceInfo.deviceId());
+            deviceIdTo = Math.max(deviceIdTo, deviceInfo.deviceId());
+        }
+
+        DeploymentOutbox outbox = deploymentOutboxRepository.save(new DeploymentOutbox(
+                commandId,
+                deployment.getId(),
+                wave,
+                deviceIdFrom,
+                deviceIdTo,
+                route,
+                dispatchMode,
+                payload
+        ));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deploymentOutboxRelay.dispatch(outbox.getId());
+            }
+        });
+    }
+}
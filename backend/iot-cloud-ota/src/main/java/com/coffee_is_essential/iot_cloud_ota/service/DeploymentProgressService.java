@@ -0,0 +1,275 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeploymentStatusCount;
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
+import com.coffee_is_essential.iot_cloud_ota.domain.ProgressCount;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentProgress;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.OverallStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 배포 대상 디바이스의 상태 전이를 기록하고, 배포별 상태 카운터(deployment_progress)를 관리하는 서비스입니다.
+ * 상태 전이 행과 카운터는 같은 트랜잭션에서 함께 갱신되므로,
+ * 진행률 조회는 firmware_deployment_device 전체를 다시 집계하지 않고 카운터 행만 읽습니다.
+ * 카운터 재구성과 주기적인 정합성 검사 기능도 제공합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeploymentProgressService {
+    private static final List<DeploymentStatus> PROGRESS_STATUSES = List.of(
+            DeploymentStatus.IN_PROGRESS,
+            DeploymentStatus.SUCCESS,
+            DeploymentStatus.FAILED,
+            DeploymentStatus.TIMEOUT,
+            DeploymentStatus.CANCELLED
+    );
+
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository;
+    private final FirmwareDeploymentDeviceRepository firmwareDeploymentDeviceRepository;
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository;
+    private final DeploymentProgressRepository deploymentProgressRepository;
+    private final DeploymentProgressJdbcRepository deploymentProgressJdbcRepository;
+    private final OverallDeploymentStatusRepository overallDeploymentStatusRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${deployment.progress.check-window-hours:24}")
+    private long checkWindowHours;
+
+    /**
+     * 배포 시작 시 대상 디바이스들을 IN_PROGRESS 상태로 기록하고 카운터를 늘립니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param deviceIds    배포 대상 디바이스 ID 목록
+     */
+    @Transactional
+    public void recordStart(Long deploymentId, List<Long> deviceIds) {
+        List<DeviceStatusTransition> transitions = deviceIds.stream()
+                .map(deviceId -> new DeviceStatusTransition(deviceId, DeploymentStatus.IN_PROGRESS))
+                .toList();
+
+        firmwareDeploymentDeviceJdbcRepository.saveAll(deploymentId, transitions);
+        deploymentProgressJdbcRepository.increment(deploymentId, Map.of(DeploymentStatus.IN_PROGRESS, (long) transitions.size()));
+    }
+
+    /**
+     * 진행 중(IN_PROGRESS)인 디바이스들의 종료 상태 전이를 기록하고,
+     * IN_PROGRESS 카운터를 줄이고 종료 상태 카운터를 늘립니다.
+     * 배포 행을 잠근 뒤 최신 상태가 아직 IN_PROGRESS인 디바이스의 전이만 기록하므로,
+     * Redis 정리 전에 실패해 같은 전이가 다시 들어와도 카운터가 중복으로 반영되지 않습니다.
+     *
+     * @param deploymentId 배포 ID
+     * @param transitions  디바이스 상태 전이 목록
+     * @return 실제로 전이가 기록된 디바이스 ID 집합
+     */
+    @Transactional
+    public Set<Long> recordTransitions(Long deploymentId, List<DeviceStatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return Set.of();
+        }
+
+        deploymentProgressJdbcRepository.lockDeployment(deploymentId);
+        Set<Long> inProgress = firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(
+                deploymentId,
+                transitions.stream().map(DeviceStatusTransition::deviceId).toList()
+        );
+        List<DeviceStatusTransition> applied = new ArrayList<>(inProgress.size());
+        Set<Long> appliedDeviceIds = new HashSet<>(inProgress.size());
+        for (DeviceStatusTransition transition : transitions) {
+            if (inProgress.remove(transition.deviceId())) {
+                applied.add(transition);
+                appliedDeviceIds.add(transition.deviceId());
+            }
+        }
+        if (applied.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<DeploymentStatus, Long> deltas = new EnumMap<>(DeploymentStatus.class);
+        for (DeviceStatusTransition transition : applied) {
+            deltas.merge(transition.deploymentStatus(), 1L, Long::sum);
+        }
+        deltas.merge(DeploymentStatus.IN_PROGRESS, -(long) applied.size(), Long::sum);
+
+        firmwareDeploymentDeviceJdbcRepository.saveAll(deploymentId, applied);
+        deploymentProgressJdbcRepository.increment(deploymentId, deltas);
+
+        return appliedDeviceIds;
+    }
+
+    /**
+     * 배포의 상태별 디바이스 수를 카운터에서 읽어 반환합니다.
+     * 카운터 도입 이전에 생성되어 카운터 행이 없는 배포는 이 시점에 한 번 재구성합니다.
+     *
+     * @param deploymentId 배포 ID
+     * @return totalCount, successCount, inProgressCount, failedCount를 멤버로 가지고 있는 ProgressCount
+     */
+    public ProgressCount getProgressCount(Long deploymentId) {
+        List<DeploymentProgress> progresses = deploymentProgressRepository.findAllByFirmwareDeploymentId(deploymentId);
+        if (progresses.isEmpty()) {
+            rebuild(deploymentId);
+            progresses = deploymentProgressRepository.findAllByFirmwareDeploymentId(deploymentId);
+        }
+
+        return ProgressCount.from(toStatusCounts(progresses));
+    }
+
+    /**
+     * 여러 배포의 상태별 디바이스 수를 카운터에서 한 번에 읽어 반환합니다.
+     *
+     * @param deploymentIds 배포 ID 목록
+     * @return 배포 ID를 키로 하는 ProgressCount 맵 (카운터 행이 없는 배포는 재구성 후 채워짐)
+     */
+    public Map<Long, ProgressCount> getProgressCounts(Collection<Long> deploymentIds) {
+        if (deploymentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<DeploymentProgress>> byDeployment = groupByDeployment(deploymentProgressRepository.findAllByFirmwareDeploymentIdIn(deploymentIds));
+        List<Long> missing = deploymentIds.stream()
+                .filter(deploymentId -> !byDeployment.containsKey(deploymentId))
+                .toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(this::rebuild);
+            byDeployment.putAll(groupByDeployment(deploymentProgressRepository.findAllByFirmwareDeploymentIdIn(missing)));
+        }
+
+        Map<Long, ProgressCount> result = new HashMap<>();
+        for (Long deploymentId : deploymentIds) {
+            result.put(deploymentId, ProgressCount.from(toStatusCounts(byDeployment.getOrDefault(deploymentId, List.of()))));
+        }
+
+        return result;
+    }
+
+    /**
+     * firmware_deployment_device를 다시 집계하여 배포의 카운터를 재구성합니다.
+     * 대상 디바이스가 없는 배포도 재구성 여부를 알 수 있도록 IN_PROGRESS 카운터 행은 항상 만듭니다.
+     *
+     * @param deploymentId 배포 ID
+     */
+    public void rebuild(Long deploymentId) {
+        Map<DeploymentStatus, Long> counts = recount(deploymentId);
+        counts.putIfAbsent(DeploymentStatus.IN_PROGRESS, 0L);
+        deploymentProgressJdbcRepository.replace(deploymentId, counts);
+    }
+
+    /**
+     * 모든 배포의 카운터를 재구성합니다.
+     *
+     * @return 재구성한 배포 수
+     */
+    public int rebuildAll() {
+        List<FirmwareDeployment> deployments = firmwareDeploymentRepository.findAll();
+        for (FirmwareDeployment deployment : deployments) {
+            rebuild(deployment.getId());
+        }
+
+        return deployments.size();
+    }
+
+    /**
+     * 최근에 완료된 배포들의 카운터를 firmware_deployment_device 집계 결과와 비교하고,
+     * 어긋난 배포는 로그를 남기고 카운터를 재구성합니다.
+     * 진행 중인 배포는 검사 도중 상태 전이가 일어날 수 있으므로 제외합니다.
+     */
+    @Scheduled(cron = "${deployment.progress.check-cron:0 0 4 * * *}")
+    public void verifyRecentDeployments() {
+        List<FirmwareDeployment> deployments = firmwareDeploymentRepository.findAllByDeployedAtAfter(
+                OffsetDateTime.now().minusHours(checkWindowHours)
+        );
+
+        int mismatches = 0;
+        for (FirmwareDeployment deployment : deployments) {
+            boolean completed = overallDeploymentStatusRepository.findLatestByDeploymentId(deployment.getId())
+                    .map(status -> status.getOverallStatus() == OverallStatus.COMPLETED)
+                    .orElse(false);
+            if (!completed) {
+                continue;
+            }
+
+            try {
+                if (!verify(deployment.getId())) {
+                    mismatches++;
+                }
+            } catch (Exception e) {
+                log.error("[ERROR] Failed to verify deployment progress, deploymentId={}, err={}", deployment.getId(), e.getMessage(), e);
+            }
+        }
+
+        log.info("[CHECKED] Deployment progress verified, deployments={}, mismatches={}", deployments.size(), mismatches);
+    }
+
+    /**
+     * 배포의 카운터가 firmware_deployment_device 집계 결과와 일치하는지 검사하고,
+     * 일치하지 않으면 카운터를 재구성합니다.
+     *
+     * @param deploymentId 배포 ID
+     * @return 일치하면 true
+     */
+    public boolean verify(Long deploymentId) {
+        Map<DeploymentStatus, Long> expected = recount(deploymentId);
+        Map<DeploymentStatus, Long> actual = new EnumMap<>(DeploymentStatus.class);
+        for (DeploymentProgress progress : deploymentProgressRepository.findAllByFirmwareDeploymentId(deploymentId)) {
+            if (progress.getCount() != 0) {
+                actual.put(progress.getDeploymentStatus(), progress.getCount());
+            }
+        }
+
+        if (expected.equals(actual)) {
+            return true;
+        }
+
+        log.warn("[MISMATCH] Deployment progress mismatch, deploymentId={}, expected={}, actual={}", deploymentId, expected, actual);
+        Counter.builder("deployment.progress.mismatch")
+                .description("Deployments whose progress counters had to be rebuilt")
+                .register(meterRegistry)
+                .increment();
+        rebuild(deploymentId);
+
+        return false;
+    }
+
+    private Map<DeploymentStatus, Long> recount(Long deploymentId) {
+        Map<DeploymentStatus, Long> counts = new EnumMap<>(DeploymentStatus.class);
+        for (DeploymentStatusCount statusCount : firmwareDeploymentDeviceRepository.countAllStatusByLatestDeployment(deploymentId)) {
+            counts.put(DeploymentStatus.valueOf(statusCount.deploymentStatus()), statusCount.count());
+        }
+
+        return counts;
+    }
+
+    private Map<Long, List<DeploymentProgress>> groupByDeployment(List<DeploymentProgress> progresses) {
+        return progresses.stream()
+                .collect(Collectors.groupingBy(progress -> progress.getFirmwareDeployment().getId(), HashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 카운터 행을 진행률 계산에 사용하는 상태(IN_PROGRESS, SUCCESS, FAILED, TIMEOUT, CANCELLED)의 집계로 변환합니다.
+     *
+     * @param progresses 배포의 카운터 행 목록
+     * @return 상태별 장치 개수 리스트
+     */
+    private List<DeploymentStatusCount> toStatusCounts(List<DeploymentProgress> progresses) {
+        Map<DeploymentStatus, Long> counts = progresses.stream()
+                .collect(Collectors.toMap(DeploymentProgress::getDeploymentStatus, DeploymentProgress::getCount, Long::sum));
+
+        return PROGRESS_STATUSES.stream()
+                .map(status -> new DeploymentStatusCount(status.name(), counts.getOrDefault(status, 0L)))
+                .toList();
+    }
+}
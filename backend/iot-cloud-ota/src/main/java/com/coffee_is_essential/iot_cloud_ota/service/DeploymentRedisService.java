@@ -1,55 +1,63 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
-import com.coffee_is_essential.iot_cloud_ota.domain.DeployTargetDeviceInfo;
+import com.coffee_is_essential.iot_cloud_ota.component.DeploymentDeviceStore;
+import com.coffee_is_essential.iot_cloud_ota.component.DownloadEventBatchWriter;
 import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDownloadEvents;
-import com.coffee_is_essential.iot_cloud_ota.repository.DownloadEventsJdbcRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Redis에 배포 대상 디바이스 ID를 저장/삭제/조회하고,
  * 필요 시 QuestDB에 타임아웃 이벤트를 기록하는 서비스.
+ * 실제 Redis 표현(SET 또는 비트맵)은 DeploymentDeviceStore 구현이 결정한다.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class DeploymentRedisService {
-    private final StringRedisTemplate srt;
-    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
+    private final DeploymentDeviceStore deploymentDeviceStore;
+    private final DownloadEventBatchWriter downloadEventBatchWriter;
+
+    @Value("${deploy.redis.ttl-grace-seconds:3600}")
+    private long ttlGraceSeconds;
 
     /**
-     * 배포 대상 디바이스들을 Redis Set에 추가한다.
+     * 배포 대상 디바이스들을 Redis에 추가한다.
+     * 키는 배포 만료 시각에 여유 시간을 더한 시점에 만료되므로, 판정이 끝나지 않은 키도 Redis에 계속 남지 않는다.
+     * 같은 디바이스를 다시 추가해도 결과가 같으므로 아웃박스 전달 재시도마다 호출해도 된다.
      *
-     * @param commandId         배포 식별자
-     * @param targetDeviceInfos 배포 대상 디바이스 정보 목록
+     * @param commandId 배포 식별자
+     * @param deviceIds 배포 대상 디바이스 ID 목록
+     * @param expiresAt 배포 만료 시각
      */
-    public void addDevices(String commandId, List<DeployTargetDeviceInfo> targetDeviceInfos) {
-        srt.opsForSet().add(
-                commandId,
-                targetDeviceInfos.stream()
-                        .map(target -> String.valueOf(target.deviceId()))
-                        .toArray(String[]::new)
-        );
+    public void addDevices(String commandId, Collection<Long> deviceIds, OffsetDateTime expiresAt) {
+        Duration ttl = Duration.between(OffsetDateTime.now(), expiresAt).plusSeconds(ttlGraceSeconds);
+        if (ttl.isNegative() || ttl.isZero()) {
+            ttl = Duration.ofSeconds(ttlGraceSeconds);
+        }
+
+        deploymentDeviceStore.add(commandId, deviceIds, ttl);
     }
 
     /**
-     * 완료된 디바이스들을 Redis Set에서 제거한다.
+     * 완료된 디바이스들을 Redis에서 제거한다.
      *
      * @param commandId       배포 식별자
      * @param completedEvents 완료된 이벤트 목록
      */
     public void deleteDevices(String commandId, List<FirmwareDownloadEvents> completedEvents) {
-        List<String> removedIds = completedEvents.stream()
-                .map(e -> String.valueOf(e.getDeviceId()))
+        List<Long> removedIds = completedEvents.stream()
+                .map(FirmwareDownloadEvents::getDeviceId)
                 .toList();
 
-        srt.opsForSet().remove(commandId, removedIds.toArray());
+        deploymentDeviceStore.remove(commandId, removedIds);
         log.info(
                 "[DELETED] commandId={}, removedIds={}, removedCount={}",
                 commandId,
@@ -59,29 +67,55 @@ public class DeploymentRedisService {
     }
 
     /**
-     * Redis Set에서 현재 남아있는 모든 디바이스 ID를 조회한다.
+     * Redis에서 현재 남아있는 모든 디바이스 ID를 조회한다.
      *
      * @param commandId 배포 식별자
      * @return 디바이스 ID 리스트
      */
     public List<Long> getAllDeviceIdsFromRedisById(String commandId) {
-        List<Long> deviceIds = srt.opsForSet().members(commandId).stream()
-                .map(Long::parseLong)
-                .collect(Collectors.toList());
+        return deploymentDeviceStore.members(commandId);
+    }
+
+    /**
+     * Redis에 남아있는 디바이스 수를 조회한다.
+     *
+     * @param commandId 배포 식별자
+     * @return 남아있는 디바이스 수
+     */
+    public long countDevices(String commandId) {
+        return deploymentDeviceStore.count(commandId);
+    }
+
+    /**
+     * 주어진 디바이스 중 아직 Redis에 남아있는 디바이스 ID만 조회한다.
+     * 전체 집합을 읽지 않고 주어진 디바이스의 멤버십만 확인한다.
+     *
+     * @param commandId 배포 식별자
+     * @param deviceIds 확인할 디바이스 ID 목록
+     * @return Redis에 남아있는 디바이스 ID 리스트
+     */
+    public List<Long> findRemainingDeviceIds(String commandId, Collection<Long> deviceIds) {
+        return deploymentDeviceStore.findMembers(commandId, deviceIds);
+    }
 
-        return deviceIds;
+    /**
+     * 배포의 디바이스 집합을 Redis에서 삭제한다.
+     *
+     * @param commandId 배포 식별자
+     */
+    public void deleteDeployment(String commandId) {
+        deploymentDeviceStore.delete(commandId);
     }
 
     /**
      * QuestDB에 지정된 디바이스들을 타임아웃 이벤트로 저장한다.
+     * 이벤트는 배치 writer를 통해 batch-size 단위로 저장되며, 저장이 끝난 뒤에 반환한다.
      *
      * @param commandId 배포 식별자
      * @param deviceIds 타임아웃 처리할 디바이스 ID 목록
+     * @throws IllegalStateException 이벤트를 저장하지 못한 경우
      */
-    @Transactional
     public void saveTimeoutDevices(String commandId, List<Long> deviceIds) {
-        for (Long deviceId : deviceIds) {
-            downloadEventsJdbcRepository.saveTimeoutDevice(commandId, deviceId);
-        }
+        downloadEventBatchWriter.writeTimeouts(commandId, deviceIds);
     }
 }
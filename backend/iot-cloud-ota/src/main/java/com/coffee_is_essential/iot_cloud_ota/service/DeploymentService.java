@@ -1,5 +1,7 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.component.DeploymentTargetResolver;
+import com.coffee_is_essential.iot_cloud_ota.component.ListCountCache;
 import com.coffee_is_essential.iot_cloud_ota.domain.*;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.entity.*;
@@ -7,17 +9,14 @@ import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
 import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentType;
 import com.coffee_is_essential.iot_cloud_ota.enums.OverallStatus;
 import com.coffee_is_essential.iot_cloud_ota.repository.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Duration;
@@ -25,30 +24,31 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DeploymentService {
-    private final ObjectMapper objectMapper;
-    @Value("${mqtt.handler.base.url}")
-    private String mqttHandlerBaseUrl;
-
     private final FirmwareMetadataJpaRepository firmwareMetadataJpaRepository;
     private final FirmwareDeploymentRepository firmwareDeploymentRepository;
     private final FirmwareDeploymentDeviceRepository firmwareDeploymentDeviceRepository;
+    private final DeploymentProgressService deploymentProgressService;
     private final AdsDeploymentJpaRepository adsDeploymentJpaRepository;
     private final AdsMetadataJpaRepository adsMetadataJpaRepository;
-    private final DeviceJpaRepository deviceJpaRepository;
+    private final DeploymentTargetResolver deploymentTargetResolver;
     private final OverallDeploymentStatusRepository overallDeploymentStatusRepository;
-    private final RestClient restClient;
+    private final DeploymentDispatchService deploymentDispatchService;
+    private final RolloutService rolloutService;
     private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
-    private final DeploymentRedisService deploymentRedisService;
-    private final DeployJudgeScheduler deployJudgeScheduler;
-    private static final int TIMEOUT = 10;
+    private final ListCountCache listCountCache;
+    static final int TIMEOUT = 10;
 
     /**
      * 펌웨어를 지정된 기기/그룹/리전에 배포 요청합니다.
@@ -57,7 +57,8 @@ public class DeploymentService {
      * 3. CloudFront Signed URL 생성
      * 4. FirmwareDeployment 엔티티 저장
      * 5. FirmwareDeploymentDevice 엔티티 저장 (대상 장치별 상태 기록)
-     * 6. MQTT Handler에 배포 요청 전송
+     * 6. MQTT Handler 배포 요청을 아웃박스에 저장 (커밋 후 전송)
+     *    단계적 배포 계획(rollout)이 있으면 카나리 웨이브만 저장하고 이후 웨이브는 RolloutService가 게이트 통과 후 전송
      *
      * @param firmwareId 배포할 펌웨어 메타데이터 ID
      * @param requestDto 배포 요청 DTO (대상 장치/그룹/리전, 배포 타입 등)
@@ -65,14 +66,13 @@ public class DeploymentService {
      */
     @Transactional
     public FirmwareDeploymentDto deployFirmware(Long firmwareId, FirmwareDeploymentRequestDto requestDto) {
-        String url = mqttHandlerBaseUrl + "/api/firmwares/deployment";
         FirmwareMetadata findFirmware = firmwareMetadataJpaRepository.findByIdOrElseThrow(firmwareId);
 
         if (requestDto.deviceIds().isEmpty() && requestDto.groupIds().isEmpty() && requestDto.regionIds().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
         }
 
-        List<Device> devices = deviceJpaRepository.findByFilterDynamic(
+        long[] targetDeviceIds = deploymentTargetResolver.resolve(
                 requestDto.deviceIds(),
                 requestDto.groupIds(),
                 requestDto.regionIds()
@@ -88,12 +88,9 @@ public class DeploymentService {
         FirmwareDeployment firmwareDeployment = new FirmwareDeployment(findFirmware, deployInfo.deploymentId(), requestDto.deploymentType(), deployInfo.deployedAt(), deployInfo.expiresAt());
         firmwareDeploymentRepository.save(firmwareDeployment);
         overallDeploymentStatusRepository.save(new OverallDeploymentStatus(firmwareDeployment, OverallStatus.IN_PROGRESS));
-        saveFirmwareDeploymentDevices(devices, firmwareDeployment, DeploymentStatus.IN_PROGRESS);
+        saveFirmwareDeploymentDevices(targetDeviceIds, firmwareDeployment);
 
-        List<DeployTargetDeviceInfo> deviceInfos = devices
-                .stream()
-                .map(DeployTargetDeviceInfo::from)
-                .toList();
+        List<DeployTargetDeviceInfo> deviceInfos = DeployTargetDeviceInfo.fromIds(targetDeviceIds);
 
         if (deviceInfos.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
@@ -108,9 +105,18 @@ public class DeploymentService {
                 deviceInfos,
                 OffsetDateTime.now());
 
-        sendMqttHandler(deploymentDto, url);
-        deploymentRedisService.addDevices(firmwareDeployment.getCommandId(), deviceInfos);
-        deployJudgeScheduler.startScheduler(firmwareDeployment.getCommandId());
+        if (requestDto.rollout() != null) {
+            rolloutService.startRollout(firmwareDeployment, requestDto.rollout(), deviceInfos.size());
+            return deploymentDto;
+        }
+
+        deploymentDispatchService.enqueue(
+                firmwareDeployment,
+                0,
+                DeploymentDispatchService.FIRMWARE_DEPLOYMENT_ROUTE,
+                deviceInfos,
+                targets -> new FirmwareDeploymentDto(deploymentDto.commandId(), content, targets, deploymentDto.timestamp())
+        );
         return deploymentDto;
     }
 
@@ -120,14 +126,13 @@ public class DeploymentService {
      * 2. 배포 대상(Device) 필터링
      * 3. CloudFront Signed URL 생성
      * 4. AdsDeployment 엔티티 저장
-     * 5. MQTT Handler에 배포 요청 전송
+     * 5. MQTT Handler 배포 요청을 아웃박스에 저장 (커밋 후 전송)
      *
      * @param requestDto 배포 요청 DTO (광고 ID, 대상 장치/그룹/리전)
      * @return 배포 요청 결과 DTO
      */
     @Transactional
     public AdsDeploymentDto deployAds(AdsDeploymentRequestDto requestDto) {
-        String url = mqttHandlerBaseUrl + "/api/advertisements/deployment";
         String commandId = "AD-" + UUID.randomUUID().toString();
         List<Long> adIds = requestDto.adIds();
 
@@ -135,7 +140,7 @@ public class DeploymentService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
         }
         List<AdsMetadata> adsMetadataList = adsMetadataJpaRepository.findAllById(adIds);
-        List<Device> devices = deviceJpaRepository.findByFilterDynamic(
+        long[] targetDeviceIds = deploymentTargetResolver.resolve(
                 requestDto.devices(),
                 requestDto.groups(),
                 requestDto.regions()
@@ -164,59 +169,38 @@ public class DeploymentService {
         AdsDeploymentDto deploymentDto = new AdsDeploymentDto(
                 commandId,
                 contents,
-                devices.stream().map(DeployTargetDeviceInfo::from).toList(),
+                DeployTargetDeviceInfo.fromIds(targetDeviceIds),
                 totalSize,
                 OffsetDateTime.now()
         );
 
-        saveFirmwareDeploymentDevices(devices, firmwareDeployment, DeploymentStatus.IN_PROGRESS);
-        List<DeployTargetDeviceInfo> deviceInfos = devices
-                .stream()
-                .map(DeployTargetDeviceInfo::from)
-                .toList();
+        saveFirmwareDeploymentDevices(targetDeviceIds, firmwareDeployment);
+        List<DeployTargetDeviceInfo> deviceInfos = deploymentDto.devices();
         if (deviceInfos.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.");
         }
-        sendMqttHandler(deploymentDto, url);
-        deploymentRedisService.addDevices(deploymentDto.commandId(), deviceInfos);
-        deployJudgeScheduler.startScheduler(deploymentDto.commandId());
+        long adsTotalSize = totalSize;
+        deploymentDispatchService.enqueue(
+                firmwareDeployment,
+                0,
+                DeploymentDispatchService.ADS_DEPLOYMENT_ROUTE,
+                deviceInfos,
+                targets -> new AdsDeploymentDto(commandId, contents, targets, adsTotalSize, deploymentDto.timestamp())
+        );
         return deploymentDto;
     }
 
     /**
-     * 대상 장치 목록을 FirmwareDeploymentDevice 엔티티로 변환 후 DB에 저장
+     * 대상 장치 목록을 IN_PROGRESS 상태의 FirmwareDeploymentDevice 행으로 일괄 저장하고 진행 카운터를 갱신
      *
-     * @param devices            배포 대상 장치 목록
+     * @param targetDeviceIds    배포 대상 장치 ID 배열
      * @param firmwareDeployment 배포 엔티티
-     * @param deploymentStatus   초기 배포 상태 (보통 IN_PROGRESS)
      */
-    private void saveFirmwareDeploymentDevices(List<Device> devices, FirmwareDeployment firmwareDeployment, DeploymentStatus deploymentStatus) {
-        for (Device device : devices) {
-            FirmwareDeploymentDevice firmwareDeploymentDevice = new FirmwareDeploymentDevice(device, firmwareDeployment, deploymentStatus);
-            firmwareDeploymentDeviceRepository.save(firmwareDeploymentDevice);
-        }
-    }
-
-    /**
-     * MQTT Handler에 배포 요청 전송
-     *
-     * @param object 전송할 DTO 객체
-     * @param url    MQTT Handler API URL
-     */
-    private void sendMqttHandler(Object object, String url) {
-        try {
-            String templateJson = objectMapper.writeValueAsString(object);
-
-            String response = restClient.post()
-                    .uri(url)
-                    .body(templateJson)
-                    .retrieve()
-                    .body(String.class);
-        } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println(e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "mqtt handler 호출 실패", e);
-        }
+    private void saveFirmwareDeploymentDevices(long[] targetDeviceIds, FirmwareDeployment firmwareDeployment) {
+        List<Long> deviceIds = Arrays.stream(targetDeviceIds)
+                .boxed()
+                .toList();
+        deploymentProgressService.recordStart(firmwareDeployment.getId(), deviceIds);
     }
 
     /**
@@ -228,13 +212,7 @@ public class DeploymentService {
     public FirmwareDeploymentListDto getFirmwareDeploymentList(PaginationInfo paginationInfo) {
         Pageable pageable = PageRequest.of(paginationInfo.page() - 1, paginationInfo.limit(), Sort.by("createdAt").descending());
         Page<FirmwareDeployment> deploymentPage = firmwareDeploymentRepository.findAllByFirmwareMetadataIsNotNull(pageable);
-        List<FirmwareDeployment> deployments = deploymentPage.getContent();
-        List<FirmwareDeploymentMetadata> list = new ArrayList<>();
-
-        for (FirmwareDeployment firmwareDeployment : deployments) {
-            FirmwareDeploymentMetadata metadata = getFirmwareDeploymentMetadata(firmwareDeployment);
-            list.add(metadata);
-        }
+        List<FirmwareDeploymentMetadata> list = toFirmwareDeploymentMetadata(deploymentPage.getContent());
 
         return FirmwareDeploymentListDto.of(list, deploymentPage.getPageable(), deploymentPage.getTotalPages(), deploymentPage.getTotalElements());
     }
@@ -248,60 +226,144 @@ public class DeploymentService {
     public AdsDeploymentListDto getAdsDeploymentList(PaginationInfo paginationInfo) {
         Pageable pageable = PageRequest.of(paginationInfo.page() - 1, paginationInfo.limit(), Sort.by("createdAt").descending());
         Page<FirmwareDeployment> deploymentPage = firmwareDeploymentRepository.findAllByFirmwareMetadataIsNull(pageable);
-        List<FirmwareDeployment> deployments = deploymentPage.getContent();
-        List<AdsDeploymentMetadata> list = new ArrayList<>();
-
-        for (FirmwareDeployment deployment : deployments) {
-            AdsDeploymentMetadata metadata = getAdsDeploymentMetadata(deployment);
-            list.add(metadata);
-        }
+        List<AdsDeploymentMetadata> list = toAdsDeploymentMetadata(deploymentPage.getContent());
 
         return AdsDeploymentListDto.of(list, deploymentPage.getPageable(), deploymentPage.getTotalPages(), deploymentPage.getTotalElements());
     }
 
     /**
-     * 단일 배포 엔티티를 Metadata DTO로 변환
-     * 상태별 카운트 조회
-     * 대상(Target) 정보 조회 (Device, Division, Region 별 분기)
+     * 펌웨어 배포 이력 목록을 (created_at, id) 내림차순 커서 기반으로 조회합니다.
+     * COUNT 쿼리를 실행하지 않으며, includeTotal이 true이면 캐시된 전체 개수 추정치를 함께 반환합니다.
      *
-     * @param deployment 배포 엔티티
-     * @return AdsDeploymentMetadata DTO
+     * @param cursorInfo 커서 정보 (커서 토큰, 페이지 크기, 전체 개수 포함 여부)
+     * @return 배포 목록 + 다음 페이지 커서
      */
-    private AdsDeploymentMetadata getAdsDeploymentMetadata(FirmwareDeployment deployment) {
-        Long deploymentId = deployment.getId();
-        ProgressCount progressCount = getProgressCount(deploymentId);
-        List<Target> targetInfo = getTargetList(deployment);
-        OverallDeploymentStatus status = overallDeploymentStatusRepository.findLatestByDeploymentIdOrElseThrow(deployment.getId());
+    public CursorListResponseDto<FirmwareDeploymentMetadata> getFirmwareDeploymentListByCursor(CursorInfo cursorInfo) {
+        SeekCursor before = cursorInfo.descendingAfter();
+        SeekPage<FirmwareDeployment> page = SeekPage.of(
+                firmwareDeploymentRepository.findFirmwareDeploymentsBefore(before.createdAt(), before.id(), PageRequest.of(0, cursorInfo.limit() + 1)),
+                cursorInfo.limit(),
+                DeploymentService::toSeekCursor
+        );
+        Long totalCount = cursorInfo.includeTotal()
+                ? listCountCache.estimate("firmware-deployments", firmwareDeploymentRepository::countByFirmwareMetadataIsNotNull)
+                : null;
 
-        return AdsDeploymentMetadata.of(deployment, targetInfo, progressCount, status.getOverallStatus());
+        return CursorListResponseDto.of(toFirmwareDeploymentMetadata(page.content()), page, cursorInfo.limit(), totalCount);
     }
 
     /**
-     * 단일 배포 엔티티를 Metadata DTO로 변환
-     * 상태별 카운트 조회
-     * 대상(Target) 정보 조회 (Device, Division, Region 별 분기)
+     * 광고 배포 이력 목록을 (created_at, id) 내림차순 커서 기반으로 조회합니다.
+     * COUNT 쿼리를 실행하지 않으며, includeTotal이 true이면 캐시된 전체 개수 추정치를 함께 반환합니다.
      *
-     * @param firmwareDeployment 배포 엔티티
-     * @return FirmwareDeploymentMetadata DTO
+     * @param cursorInfo 커서 정보 (커서 토큰, 페이지 크기, 전체 개수 포함 여부)
+     * @return 배포 목록 + 다음 페이지 커서
      */
-    private FirmwareDeploymentMetadata getFirmwareDeploymentMetadata(FirmwareDeployment firmwareDeployment) {
-        Long deploymentId = firmwareDeployment.getId();
-        ProgressCount progressCount = getProgressCount(deploymentId);
-        List<Target> targetInfo = getTargetList(firmwareDeployment);
-        OverallDeploymentStatus status = overallDeploymentStatusRepository.findLatestByDeploymentIdOrElseThrow(firmwareDeployment.getId());
+    public CursorListResponseDto<AdsDeploymentMetadata> getAdsDeploymentListByCursor(CursorInfo cursorInfo) {
+        SeekCursor before = cursorInfo.descendingAfter();
+        SeekPage<FirmwareDeployment> page = SeekPage.of(
+                firmwareDeploymentRepository.findAdsDeploymentsBefore(before.createdAt(), before.id(), PageRequest.of(0, cursorInfo.limit() + 1)),
+                cursorInfo.limit(),
+                DeploymentService::toSeekCursor
+        );
+        Long totalCount = cursorInfo.includeTotal()
+                ? listCountCache.estimate("ads-deployments", firmwareDeploymentRepository::countByFirmwareMetadataIsNull)
+                : null;
 
-        return FirmwareDeploymentMetadata.of(firmwareDeployment, targetInfo, progressCount, status.getOverallStatus());
+        return CursorListResponseDto.of(toAdsDeploymentMetadata(page.content()), page, cursorInfo.limit(), totalCount);
+    }
+
+    private static SeekCursor toSeekCursor(FirmwareDeployment deployment) {
+        return new SeekCursor(deployment.getCreatedAt(), deployment.getId());
+    }
+
+    private List<FirmwareDeploymentMetadata> toFirmwareDeploymentMetadata(List<FirmwareDeployment> deployments) {
+        DeploymentListContext context = loadDeploymentListContext(deployments);
+        List<FirmwareDeploymentMetadata> list = new ArrayList<>();
+
+        for (FirmwareDeployment firmwareDeployment : deployments) {
+            Long deploymentId = firmwareDeployment.getId();
+            FirmwareDeploymentMetadata metadata = FirmwareDeploymentMetadata.of(
+                    firmwareDeployment,
+                    context.targets(deploymentId),
+                    context.progressCount(deploymentId),
+                    context.overallStatus(deploymentId)
+            );
+            list.add(metadata);
+        }
+
+        return list;
+    }
+
+    private List<AdsDeploymentMetadata> toAdsDeploymentMetadata(List<FirmwareDeployment> deployments) {
+        DeploymentListContext context = loadDeploymentListContext(deployments);
+        List<AdsDeploymentMetadata> list = new ArrayList<>();
+
+        for (FirmwareDeployment deployment : deployments) {
+            Long deploymentId = deployment.getId();
+            AdsDeploymentMetadata metadata = AdsDeploymentMetadata.of(
+                    deployment,
+                    context.targets(deploymentId),
+                    context.progressCount(deploymentId),
+                    context.overallStatus(deploymentId)
+            );
+            list.add(metadata);
+        }
+
+        return list;
     }
 
     /**
-     * 배포 id를 통해 totalCount, successCount, inProgressCount, failedCount를 계산합니다.
+     * 목록 페이지에 포함된 배포들의 상태별 카운트, 대상 정보, 최신 전체 상태를 한 번에 조회합니다.
+     * 페이지 크기와 관계없이 상태 카운트 1회, 전체 상태 1회, 배포 타입별 대상 조회 최대 3회만 수행합니다.
      *
-     * @param deploymentId 배포 id
-     * @return totalCount, successCount, inProgressCount, failedCount를 멤버로 가지고 있는 ProgressCount
+     * @param deployments 목록 페이지의 배포 엔티티 리스트
+     * @return 배포 ID별 조회 결과를 담은 DeploymentListContext
+     */
+    private DeploymentListContext loadDeploymentListContext(List<FirmwareDeployment> deployments) {
+        if (deployments.isEmpty()) {
+            return new DeploymentListContext(Map.of(), Map.of(), Map.of());
+        }
+
+        List<Long> deploymentIds = deployments.stream()
+                .map(FirmwareDeployment::getId)
+                .toList();
+
+        Map<Long, ProgressCount> progressCounts = deploymentProgressService.getProgressCounts(deploymentIds);
+        Map<Long, List<Target>> targets = getTargetLists(deployments);
+        Map<Long, OverallStatus> overallStatuses = overallDeploymentStatusRepository.findLatestByDeploymentIds(deploymentIds).stream()
+                .collect(Collectors.toMap(
+                        DeploymentOverallStatus::deploymentId,
+                        status -> OverallStatus.valueOf(status.overallStatus())
+                ));
+
+        return new DeploymentListContext(progressCounts, targets, overallStatuses);
+    }
+
+    /**
+     * 목록 조회 시 배포 ID별로 미리 조회한 결과를 보관합니다.
      */
-    private ProgressCount getProgressCount(Long deploymentId) {
-        List<DeploymentStatusCount> countList = firmwareDeploymentDeviceRepository.countStatusByLatestDeployment(deploymentId);
-        return ProgressCount.from(countList);
+    private record DeploymentListContext(
+            Map<Long, ProgressCount> progressCounts,
+            Map<Long, List<Target>> targets,
+            Map<Long, OverallStatus> overallStatuses
+    ) {
+        ProgressCount progressCount(Long deploymentId) {
+            return progressCounts.get(deploymentId);
+        }
+
+        List<Target> targets(Long deploymentId) {
+            return targets.getOrDefault(deploymentId, List.of());
+        }
+
+        OverallStatus overallStatus(Long deploymentId) {
+            OverallStatus status = overallStatuses.get(deploymentId);
+            if (status == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "[ID: " + deploymentId + "] 배포 정보를 찾을 수 없습니다.");
+            }
+
+            return status;
+        }
     }
 
     /**
@@ -316,7 +378,7 @@ public class DeploymentService {
         FirmwareDeployment deployment = firmwareDeploymentRepository.findByIdOrElseThrow(id);
         OverallDeploymentStatus status = overallDeploymentStatusRepository.findLatestByDeploymentIdOrElseThrow(id);
         List<Target> targetInfo = getTargetList(deployment);
-        ProgressCount progressCount = getProgressCount(id);
+        ProgressCount progressCount = deploymentProgressService.getProgressCount(id);
         List<DeviceDeploymentStatus> downloadEvents = downloadEventsJdbcRepository.findLatestPerDeviceByCommandId(deployment.getCommandId()).stream()
                 .map(DeviceDeploymentStatus::from)
                 .toList();
@@ -336,7 +398,7 @@ public class DeploymentService {
         FirmwareDeployment deployment = firmwareDeploymentRepository.findByIdOrElseThrow(id);
         OverallDeploymentStatus status = overallDeploymentStatusRepository.findLatestByDeploymentIdOrElseThrow(id);
         List<Target> targetInfo = getTargetList(deployment);
-        ProgressCount progressCount = getProgressCount(id);
+        ProgressCount progressCount = deploymentProgressService.getProgressCount(id);
         List<DeviceDeploymentStatus> downloadEvents = downloadEventsJdbcRepository.findLatestPerDeviceByCommandId(deployment.getCommandId()).stream()
                 .map(DeviceDeploymentStatus::from)
                 .toList();
@@ -348,6 +410,38 @@ public class DeploymentService {
         return DetailAdsDeploymentDto.of(deployment, targetInfo, downloadEvents, progressCount, status, adsList);
     }
 
+    /**
+     * 여러 배포의 대상(Device/Division/Region) 목록을 배포 타입별로 묶어 한 번씩 조회합니다.
+     *
+     * @param deployments 배포 엔티티 리스트
+     * @return 배포 ID를 키로 하는 대상 정보 리스트 맵
+     */
+    private Map<Long, List<Target>> getTargetLists(List<FirmwareDeployment> deployments) {
+        Map<DeploymentType, List<Long>> idsByType = deployments.stream()
+                .collect(Collectors.groupingBy(
+                        FirmwareDeployment::getDeploymentType,
+                        () -> new EnumMap<>(DeploymentType.class),
+                        Collectors.mapping(FirmwareDeployment::getId, Collectors.toList())
+                ));
+
+        List<DeploymentTarget> deploymentTargets = new ArrayList<>();
+        idsByType.forEach((type, ids) -> {
+            switch (type) {
+                case DEVICE -> deploymentTargets.addAll(firmwareDeploymentDeviceRepository.findDeviceInfoByDeploymentIds(ids));
+                case DIVISION -> deploymentTargets.addAll(firmwareDeploymentDeviceRepository.findDivisionInfoByDeploymentIds(ids));
+                case REGION -> deploymentTargets.addAll(firmwareDeploymentDeviceRepository.findRegionInfoByDeploymentIds(ids));
+                default -> {
+                }
+            }
+        });
+
+        return deploymentTargets.stream()
+                .collect(Collectors.groupingBy(
+                        DeploymentTarget::deploymentId,
+                        Collectors.mapping(DeploymentTarget::toTarget, Collectors.toList())
+                ));
+    }
+
     /**
      * 배포 타입에 따라 대상(Device/Division/Region) 목록을 조회합니다.
      *
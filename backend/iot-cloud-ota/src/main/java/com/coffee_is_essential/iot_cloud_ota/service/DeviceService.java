@@ -1,11 +1,18 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.component.DeviceLivenessIndex;
+import com.coffee_is_essential.iot_cloud_ota.component.FleetTopologyIndex;
+import com.coffee_is_essential.iot_cloud_ota.component.ListCountCache;
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceSummary;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekCursor;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekPage;
 import com.coffee_is_essential.iot_cloud_ota.dto.*;
 import com.coffee_is_essential.iot_cloud_ota.entity.*;
 import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
 import com.coffee_is_essential.iot_cloud_ota.repository.*;
-import jakarta.persistence.EntityManager;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,12 +22,14 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.LongFunction;
 
 @Service
 @AllArgsConstructor
@@ -29,12 +38,15 @@ public class DeviceService {
     private final DivisionJpaRepository divisionJpaRepository;
     private final DeviceJpaRepository deviceJpaRepository;
     private final AdsMetadataJpaRepository adsMetadataJpaRepository;
-    private final EntityManager em;
     private final FirmwareDeploymentRepository firmwareDeploymentRepository;
     private final DeviceStatusJdbcRepository deviceStatusJdbcRepository;
     private final DeviceFirmwareJpaRepository deviceFirmwareJpaRepository;
     private final DeviceAdsJpaRepository deviceAdsJpaRepository;
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
+    private final DeviceLivenessIndex deviceLivenessIndex;
+    private final FleetTopologyIndex fleetTopologyIndex;
+    private final ListCountCache listCountCache;
+    private final DeviceAssignmentJdbcRepository deviceAssignmentJdbcRepository;
     private static int TIMEOUT = 5;
     private final StringRedisTemplate srt;
 
@@ -52,117 +64,98 @@ public class DeviceService {
         Device device = new Device(deviceId, deviceName, division, region);
 
         deviceJpaRepository.save(device);
+        fleetTopologyIndex.onDeviceSaved(deviceId, regionId, divisionId);
     }
 
     /**
      * 모든 디바이스의 요약 정보를 조회합니다.
-     * 각 디바이스에 대해 최신 시스템 상태를 확인하여 활성 상태를 판단합니다.
+     * 각 디바이스의 마지막 상태 보고 시각을 기반으로 활성 상태를 판단합니다.
      *
      * @return 디바이스 요약 정보 리스트
      */
     public List<DeviceSummaryResponseDto> findDeviceSummary() {
-
-        return deviceJpaRepository.findDeviceSummary().stream()
-                .map(ds -> {
-                    SystemStatus status = deviceStatusJdbcRepository.findLatestByDeviceId(ds.getDeviceId());
-                    boolean isActive = status != null && status.getTimestamp().isAfter(OffsetDateTime.now().minusMinutes(5));
-                    return new DeviceSummaryResponseDto(
-                            ds.getDeviceId(),
-                            ds.getDeviceName(),
-                            ds.getRegionName(),
-                            ds.getGroupName(),
-                            isActive
-                    );
-                })
+        List<DeviceSummary> summaries = deviceJpaRepository.findDeviceSummary();
+        LongFunction<OffsetDateTime> lastActiveAt = lastActiveLookup(
+                summaries.stream().map(DeviceSummary::getDeviceId).toList()
+        );
+        Instant now = Instant.now();
+
+        return summaries.stream()
+                .map(ds -> new DeviceSummaryResponseDto(
+                        ds.getDeviceId(),
+                        ds.getDeviceName(),
+                        ds.getRegionName(),
+                        ds.getGroupName(),
+                        deviceLivenessIndex.isActive(lastActiveAt.apply(ds.getDeviceId()), now)
+                ))
                 .toList();
     }
 
     /**
      * 특정 commandId에 대해 완료된 펌웨어 다운로드 이벤트를 기반으로
      * 각 디바이스의 광고 상태(DeviceAds)를 업데이트합니다.
-     * 기존에 활성화된 광고는 종료 처리하고, 새로운 광고 메타데이터를 기반으로
-     * 새로운 광고 상태를 생성하여 저장합니다.
+     * 성공한 디바이스들의 기존 활성 광고를 한 번에 종료 처리하고,
+     * 새로운 광고 메타데이터를 기반으로 새로운 광고 상태를 일괄 생성하여 저장합니다.
      *
-     * @param commandId       펌웨어 배포 명령 식별자
+     * @param commandId       광고 배포 명령 식별자
      * @param completedEvents 완료된 펌웨어 다운로드 이벤트 리스트
      */
     @Transactional
     public void updateDeviceAds(String commandId, List<FirmwareDownloadEvents> completedEvents) {
-        List<AdsMetadata> metadataList = adsMetadataJpaRepository.findByCommandId(commandId);
-        OffsetDateTime now = OffsetDateTime.now();
-
-        for (FirmwareDownloadEvents event : completedEvents) {
-            if (!event.getStatus().equals(DeploymentStatus.SUCCESS.name())) {
-                continue;
-            }
-
-            Long deviceId = event.getDeviceId();
-
-            em.createQuery("""
-                                UPDATE DeviceAds da
-                                SET da.endedAt = :now
-                                WHERE da.device.id = :deviceId
-                                  AND da.endedAt IS NULL
-                            """)
-                    .setParameter("now", now)
-                    .setParameter("deviceId", deviceId)
-                    .executeUpdate();
-
-            for (AdsMetadata ads : metadataList) {
-                DeviceAds newAds = new DeviceAds(
-                        em.getReference(Device.class, deviceId),
-                        ads,
-                        now
-                );
-                em.persist(newAds);
-            }
+        List<Long> deviceIds = succeededDeviceIds(completedEvents);
+        if (deviceIds.isEmpty()) {
+            return;
         }
+
+        List<Long> adsIds = adsMetadataJpaRepository.findByCommandId(commandId).stream()
+                .map(AdsMetadata::getId)
+                .toList();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        deviceAssignmentJdbcRepository.closeOpenAds(deviceIds, now);
+        deviceAssignmentJdbcRepository.insertAds(deviceIds, adsIds, now);
     }
 
     /**
      * 특정 commandId에 대해 완료된 펌웨어 다운로드 이벤트를 기반으로
      * 각 디바이스의 펌웨어 상태(DeviceFirmware)를 업데이트합니다.
-     * 기존에 활성화된 펌웨어는 종료 처리하고, 새로운 펌웨어 메타데이터를 기반으로
-     * 새로운 펌웨어 상태를 생성하여 저장합니다.
+     * 성공한 디바이스들의 기존 활성 펌웨어를 한 번에 종료 처리하고,
+     * 새로운 펌웨어 메타데이터를 기반으로 새로운 펌웨어 상태를 일괄 생성하여 저장합니다.
      *
      * @param commandId       펌웨어 배포 명령 식별자
      * @param completedEvents 완료된 펌웨어 다운로드 이벤트 리스트
      */
     @Transactional
     public void updateDeviceFirmware(String commandId, List<FirmwareDownloadEvents> completedEvents) {
-        FirmwareDeployment deployment = firmwareDeploymentRepository.findByCommandIdOrElseThrow(commandId);
-        FirmwareMetadata firmware = deployment.getFirmwareMetadata();
-        OffsetDateTime now = OffsetDateTime.now();
-
-        for (FirmwareDownloadEvents event : completedEvents) {
-            if (!event.getStatus().equals(DeploymentStatus.SUCCESS.name())) {
-                continue;
-            }
-
-            Long deviceId = event.getDeviceId();
-
-            em.createQuery("""
-                                UPDATE DeviceFirmware df
-                                SET df.endedAt = :now
-                                WHERE df.device.id = :deviceId
-                                  AND df.endedAt IS NULL
-                            """)
-                    .setParameter("now", now)
-                    .setParameter("deviceId", deviceId)
-                    .executeUpdate();
-
-            DeviceFirmware newFirmware = new DeviceFirmware(
-                    em.getReference(Device.class, deviceId),
-                    firmware,
-                    now
-            );
-            em.persist(newFirmware);
+        List<Long> deviceIds = succeededDeviceIds(completedEvents);
+        if (deviceIds.isEmpty()) {
+            return;
         }
+
+        FirmwareDeployment deployment = firmwareDeploymentRepository.findByCommandIdOrElseThrow(commandId);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        deviceAssignmentJdbcRepository.closeOpenFirmware(deviceIds, now);
+        deviceAssignmentJdbcRepository.insertFirmware(deviceIds, deployment.getFirmwareMetadata().getId(), now);
+    }
+
+    /**
+     * 완료된 이벤트 중 성공한 디바이스의 ID를 중복 없이 추출합니다.
+     *
+     * @param completedEvents 완료된 펌웨어 다운로드 이벤트 리스트
+     * @return 성공한 디바이스 ID 리스트
+     */
+    private List<Long> succeededDeviceIds(List<FirmwareDownloadEvents> completedEvents) {
+        return completedEvents.stream()
+                .filter(event -> event.getStatus().equals(DeploymentStatus.SUCCESS.name()))
+                .map(FirmwareDownloadEvents::getDeviceId)
+                .distinct()
+                .toList();
     }
 
     /**
      * 특정 리전과 그룹에 속한 디바이스 목록을 페이지네이션하여 조회합니다.
-     * 각 디바이스에 대해 최신 시스템 상태의 타임스탬프를 포함한 정보를 DTO 형태로 반환합니다.
+     * 각 디바이스에 대해 마지막 상태 보고 시각을 포함한 정보를 DTO 형태로 반환합니다.
      *
      * @param regionId       조회할 리전의 ID
      * @param groupId        조회할 그룹의 ID
@@ -176,25 +169,54 @@ public class DeviceService {
                 Sort.by("createdAt").ascending().and(Sort.by("id").ascending())
         );
         Page<Device> devicesPage = deviceJpaRepository.findByRegionAndGroup(regionId, groupId, pageable);
-        List<Device> content = devicesPage.getContent();
-
-        List<DeviceResponseDto> deviceResponseDtos = content.stream()
-                .map(d -> {
-                    SystemStatus status = deviceStatusJdbcRepository.findLatestByDeviceId(d.getDeviceId());
-                    return new DeviceResponseDto(
-                            d.getDeviceId(),
-                            d.getName(),
-                            d.getCreatedAt(),
-                            d.getRegion().getRegionName(),
-                            d.getDivision().getDivisionName(),
-                            status != null ? status.getTimestamp() : null
-                    );
-                })
-                .toList();
+        List<DeviceResponseDto> deviceResponseDtos = toDeviceResponses(devicesPage.getContent());
 
         return DeviceListResponseDto.of(deviceResponseDtos, PaginationMetadataDto.from(devicesPage));
     }
 
+    /**
+     * 특정 리전과 그룹에 속한 디바이스 목록을 (created_at, id) 커서 기반으로 조회합니다.
+     * COUNT 쿼리를 실행하지 않으며, includeTotal이 true이면 캐시된 전체 개수 추정치를 함께 반환합니다.
+     *
+     * @param regionId   조회할 리전의 ID
+     * @param groupId    조회할 그룹의 ID
+     * @param cursorInfo 커서 정보 (커서 토큰, 페이지 크기, 전체 개수 포함 여부)
+     * @return 디바이스 목록과 다음 페이지 커서
+     */
+    public CursorListResponseDto<DeviceResponseDto> findAllDevicesByCursor(Long regionId, Long groupId, CursorInfo cursorInfo) {
+        SeekCursor after = cursorInfo.ascendingAfter();
+        List<Device> fetched = deviceJpaRepository.findByRegionAndGroupAfter(
+                regionId,
+                groupId,
+                after.createdAt(),
+                after.id(),
+                PageRequest.of(0, cursorInfo.limit() + 1)
+        );
+        SeekPage<Device> page = SeekPage.of(fetched, cursorInfo.limit(), d -> new SeekCursor(d.getCreatedAt(), d.getDeviceId()));
+        Long totalCount = cursorInfo.includeTotal()
+                ? listCountCache.estimate("devices:" + regionId + ":" + groupId, () -> deviceJpaRepository.countByRegionAndGroup(regionId, groupId))
+                : null;
+
+        return CursorListResponseDto.of(toDeviceResponses(page.content()), page, cursorInfo.limit(), totalCount);
+    }
+
+    private List<DeviceResponseDto> toDeviceResponses(List<Device> devices) {
+        LongFunction<OffsetDateTime> lastActiveAt = lastActiveLookup(
+                devices.stream().map(Device::getDeviceId).toList()
+        );
+
+        return devices.stream()
+                .map(d -> new DeviceResponseDto(
+                        d.getDeviceId(),
+                        d.getName(),
+                        d.getCreatedAt(),
+                        d.getRegion().getRegionName(),
+                        d.getDivision().getDivisionName(),
+                        lastActiveAt.apply(d.getDeviceId())
+                ))
+                .toList();
+    }
+
     /**
      * 특정 디바이스의 상세 정보를 조회합니다.
      * 디바이스의 기본 정보, 최신 시스템 상태, 현재 활성화된 펌웨어 및 광고 정보를 포함한 상세 데이터를 DTO 형태로 반환합니다.
@@ -204,7 +226,7 @@ public class DeviceService {
      */
     public DeviceDetailResponseDto findDetailByDeviceId(Long id) {
         Device device = deviceJpaRepository.findByIdOrElseThrow(id);
-        SystemStatus status = deviceStatusJdbcRepository.findLatestByDeviceId(device.getDeviceId());
+        OffsetDateTime lastActiveAt = lastActiveLookup(List.of(device.getDeviceId())).apply(device.getDeviceId());
         Optional<DeviceFirmware> deviceFirmware = deviceFirmwareJpaRepository.findByDeviceIdAndEndedAtIsNull(device.getDeviceId());
         List<DeviceAds> deviceAds = deviceAdsJpaRepository.findByDeviceIdAndEndedAtIsNull(device.getDeviceId());
 
@@ -213,8 +235,8 @@ public class DeviceService {
                 device.getName(),
                 device.getCreatedAt(),
                 device.getModifiedAt(),
-                status != null ? status.getTimestamp() : null,
-                status != null && status.getTimestamp().isAfter(OffsetDateTime.now().minusMinutes(5)),
+                lastActiveAt,
+                deviceLivenessIndex.isActive(lastActiveAt, Instant.now()),
 
                 DeviceDetailRegionDto.from(device.getRegion()),
                 DeviceDetailDivisionDto.from(device.getDivision()),
@@ -225,13 +247,33 @@ public class DeviceService {
                                         da.getAdsMetadata().getId(),
                                         da.getAdsMetadata().getTitle(),
                                         da.getStartedAt(),
-                                        cloudFrontSignedUrlService.generateAdsSignedUrl(da.getAdsMetadata().getTitle()).url()
+                                        cloudFrontSignedUrlService.generateCachedSignedUrl(da.getAdsMetadata().getOriginalS3Path())
                                 )
                         )
                         .toList()
         );
     }
 
+    /**
+     * 디바이스별 마지막 상태 보고 시각을 조회하는 함수를 반환합니다.
+     * 활성 상태 인덱스가 준비된 경우 메모리에서 바로 조회하고,
+     * 아직 준비되지 않은 경우(애플리케이션 기동 직후)에는 QuestDB에서 최신 상태를 일괄 조회합니다.
+     *
+     * @param deviceIds 조회할 디바이스 ID 목록
+     * @return 디바이스 ID를 받아 마지막 보고 시각(없으면 null)을 반환하는 함수
+     */
+    private LongFunction<OffsetDateTime> lastActiveLookup(List<Long> deviceIds) {
+        if (deviceLivenessIndex.isReady()) {
+            return deviceLivenessIndex::getLastSeen;
+        }
+
+        Long2ObjectMap<SystemStatus> statuses = deviceStatusJdbcRepository.findLatestByDeviceIds(deviceIds);
+        return deviceId -> {
+            SystemStatus status = statuses.get(deviceId);
+            return status != null ? status.getTimestamp() : null;
+        };
+    }
+
     /**
      * 디바이스 등록 요청을 처리합니다.
      * 요청된 리전과 그룹에 대한 유효성을 검증하고, 6자리 숫자로 구성된 디바이스 코드를 생성합니다.
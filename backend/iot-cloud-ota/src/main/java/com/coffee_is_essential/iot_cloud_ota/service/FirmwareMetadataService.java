@@ -1,14 +1,25 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.component.ListCountCache;
+import com.coffee_is_essential.iot_cloud_ota.component.MetadataSearchIndexer;
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekCursor;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekPage;
+import com.coffee_is_essential.iot_cloud_ota.dto.CursorListResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.FirmwareMetadataRequestDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.FirmwareMetadataResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.FirmwareMetadataWithPageResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareMetadata;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
 import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareMetadataJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.MetadataSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,6 +28,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 /**
  * 펌웨어 메타데이터의 비즈니스 로직을 처리하는 서비스 클래스입니다.
  */
@@ -25,6 +38,10 @@ import org.springframework.web.server.ResponseStatusException;
 public class FirmwareMetadataService {
     private final FirmwareMetadataJpaRepository firmwareMetadataJpaRepository;
     private final S3Service s3Service;
+    private final MultipartUploadService multipartUploadService;
+    private final ListCountCache listCountCache;
+    private final MetadataSearchRepository metadataSearchRepository;
+    private final MetadataSearchIndexer metadataSearchIndexer;
 
     /**
      * 펌웨어 메타데이터를 저장하고, 저장된 결과를 응답 DTO로 반환합니다.
@@ -45,7 +62,8 @@ public class FirmwareMetadataService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 경로 '" + requestDto.s3Path() + "'에 이미 펌웨어가 존재합니다.");
         }
 
-        S3FileHashResult result = s3Service.calculateS3FileHash(requestDto.s3Path());
+        S3FileHashResult result = multipartUploadService.findCompletedUpload(requestDto.s3Path())
+                .orElseGet(() -> s3Service.calculateS3FileHash(requestDto.s3Path()));
         FirmwareMetadata firmwareMetadata = new FirmwareMetadata(
                 requestDto.version(),
                 requestDto.fileName(),
@@ -56,6 +74,7 @@ public class FirmwareMetadataService {
         );
 
         FirmwareMetadata savedFirmwareMetadata = firmwareMetadataJpaRepository.save(firmwareMetadata);
+        metadataSearchIndexer.onSaved(SearchDocument.from(savedFirmwareMetadata));
 
         return FirmwareMetadataResponseDto.from(savedFirmwareMetadata);
     }
@@ -63,8 +82,9 @@ public class FirmwareMetadataService {
     /**
      * 페이지네이션 및 키워드 검색을 통한 펌웨어 메타데이터 목록 조회 메서드입니다.
      * 검색어(keyword)가 null 또는 빈 문자열이면 전체 데이터를 조회합니다.
-     * 검색어가 존재하면 version, fileName, releaseNote 컬럼에서 부분 일치 검색을 수행합니다.
-     * createdAt 기준 내림차순으로 정렬되며, Pageable을 통해 페이징 처리됩니다.
+     * 검색어가 존재하면 검색 인덱스에서 version, fileName, releaseNote를 검색하여 관련도 순으로 반환하며,
+     * 인덱스가 아직 구성되지 않았으면 부분 일치(LIKE) 검색으로 대체합니다.
+     * 검색어가 없으면 createdAt 기준 내림차순으로 정렬되며, Pageable을 통해 페이징 처리됩니다.
      *
      * @param paginationInfo 페이지 번호, 페이지 크기, 검색어를 포함한 페이징 정보 DTO
      * @return FirmwareMetadata 목록과 페이징 정보를 포함한 응답 DTO
@@ -73,6 +93,13 @@ public class FirmwareMetadataService {
         Pageable pageable = PageRequest.of(paginationInfo.page() - 1, paginationInfo.limit(), Sort.by("createdAt").descending());
         String keyword = paginationInfo.search();
 
+        if (keyword != null && !keyword.isBlank() && metadataSearchRepository.isReady()) {
+            SearchHits hits = metadataSearchRepository.search(SearchDocumentType.FIRMWARE, keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<FirmwareMetadata> ranked = hits.orderByRank(firmwareMetadataJpaRepository.findAllById(hits.ids()), FirmwareMetadata::getId);
+
+            return FirmwareMetadataWithPageResponseDto.from(new PageImpl<>(ranked, pageable, hits.totalHits()));
+        }
+
         Page<FirmwareMetadata> findFirmwareMetadata = firmwareMetadataJpaRepository.searchWithNullableKeyword(
                 keyword, pageable
         );
@@ -80,6 +107,34 @@ public class FirmwareMetadataService {
         return FirmwareMetadataWithPageResponseDto.from(findFirmwareMetadata);
     }
 
+    /**
+     * 펌웨어 메타데이터 목록을 (created_at, id) 내림차순 커서 기반으로 조회합니다.
+     * 검색어가 있는 경우 버전, 파일 이름, 릴리즈 노트에 포함된 항목만 조회합니다.
+     * COUNT 쿼리를 실행하지 않으며, includeTotal이 true이면 캐시된 전체 개수 추정치를 함께 반환합니다.
+     *
+     * @param cursorInfo 커서 정보 (커서 토큰, 페이지 크기, 검색어, 전체 개수 포함 여부)
+     * @return 펌웨어 메타데이터 목록과 다음 페이지 커서
+     */
+    public CursorListResponseDto<FirmwareMetadataResponseDto> findAllByCursor(CursorInfo cursorInfo) {
+        SeekCursor before = cursorInfo.descendingAfter();
+        String keyword = cursorInfo.search();
+        SeekPage<FirmwareMetadata> page = SeekPage.of(
+                firmwareMetadataJpaRepository.searchWithNullableKeywordBefore(keyword, before.createdAt(), before.id(), PageRequest.of(0, cursorInfo.limit() + 1)),
+                cursorInfo.limit(),
+                f -> new SeekCursor(f.getCreatedAt(), f.getId())
+        );
+        Long totalCount = cursorInfo.includeTotal()
+                ? listCountCache.estimate("firmware-metadata:" + keyword, () -> firmwareMetadataJpaRepository.countWithNullableKeyword(keyword))
+                : null;
+
+        return CursorListResponseDto.of(
+                page.content().stream().map(FirmwareMetadataResponseDto::from).toList(),
+                page,
+                cursorInfo.limit(),
+                totalCount
+        );
+    }
+
     /**
      * 주어진 ID에 해당하는 펌웨어 메타데이터를 조회하여 응답 DTO로 변환합니다.
      *
@@ -0,0 +1,65 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.component.FleetHealthSketchStore;
+import com.coffee_is_essential.iot_cloud_ota.dto.FleetHealthGroupResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.FleetHealthResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.repository.DivisionJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.RegionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리전/그룹별 플릿 상태(CPU, 메모리, 저장소 사용률과 신호 세기)의 분위수를 조회하는 서비스입니다.
+ * 분위수는 FleetHealthSketchStore가 시간 버킷 단위로 미리 만들어 둔 스케치를 병합해 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FleetHealthService {
+    private final FleetHealthSketchStore fleetHealthSketchStore;
+    private final RegionJpaRepository regionJpaRepository;
+    private final DivisionJpaRepository divisionJpaRepository;
+
+    @Value("${fleet.health.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * 최근 구간의 리전/그룹별 p50/p95/p99 분위수를 조회합니다.
+     * 값은 (디바이스, 시간 버킷)별 평균의 분포이며, 데이터가 없는 리전/그룹도 count 0으로 포함됩니다.
+     *
+     * @param windowMinutes 집계 구간 길이 (분)
+     * @return 집계 구간과 리전/그룹별 분위수를 담은 응답 DTO
+     */
+    public FleetHealthResponseDto findFleetHealth(int windowMinutes) {
+        if (windowMinutes < 1 || windowMinutes > Duration.ofHours(retentionHours).toMinutes()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "집계 구간은 1분 이상 " + Duration.ofHours(retentionHours).toMinutes() + "분 이하여야 합니다.");
+        }
+
+        FleetHealthSketchStore.Window window = fleetHealthSketchStore.window(Duration.ofMinutes(windowMinutes).toMillis());
+
+        List<FleetHealthGroupResponseDto> regions = regionJpaRepository.findAll(Sort.by("id").ascending()).stream()
+                .map(region -> FleetHealthGroupResponseDto.of(
+                        region.getId(),
+                        region.getRegionCode(),
+                        region.getRegionName(),
+                        window.byRegion().get(region.getId().longValue())
+                ))
+                .toList();
+        List<FleetHealthGroupResponseDto> divisions = divisionJpaRepository.findAll(Sort.by("id").ascending()).stream()
+                .map(division -> FleetHealthGroupResponseDto.of(
+                        division.getId(),
+                        division.getDivisionCode(),
+                        division.getDivisionName(),
+                        window.byDivision().get(division.getId().longValue())
+                ))
+                .toList();
+
+        return new FleetHealthResponseDto(window.from(), window.to(), regions, divisions);
+    }
+}
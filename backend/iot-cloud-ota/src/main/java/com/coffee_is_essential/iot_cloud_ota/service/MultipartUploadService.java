@@ -0,0 +1,317 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.dto.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 대용량 펌웨어/광고 바이너리를 위한 S3 멀티파트 업로드 서비스입니다.
+ * 업로드를 시작하면 파트별 Presigned URL을 발급하여 클라이언트가 파트를 병렬로 업로드하고
+ * 실패한 파트만 다시 올릴 수 있도록 합니다. 업로드 세션은 Redis에 보관되어 재개가 가능하며,
+ * 완료 시 클라이언트가 전달한 SHA-256 해시를 저장해 메타데이터 등록 시 객체를 다시 읽지 않도록 합니다.
+ * 클라이언트가 전달한 해시는 백그라운드에서 S3 객체를 범위 단위로 읽어 다시 계산한 값과 비교하며,
+ * 검증이 끝난 해시만 메타데이터 등록에 사용하고 일치하지 않으면 등록을 거부합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultipartUploadService {
+    private static final String SESSION_KEY_PREFIX = "upload:multipart:";
+    private static final String COMPLETED_KEY_PREFIX = "upload:completed:";
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+    private static final Duration SESSION_TTL = Duration.ofDays(1);
+    private static final Duration COMPLETED_TTL = Duration.ofDays(7);
+    private static final String VERIFICATION_FIELD = "verification";
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${s3.multipart.default-part-size-mb:16}")
+    private long defaultPartSizeMb;
+
+    @Value("${s3.multipart.url-expiration-minutes:60}")
+    private long urlExpirationMinutes;
+
+    @Value("${s3.multipart.verify-workers:2}")
+    private int verifyWorkerCount;
+
+    private final AmazonS3 amazonS3;
+    private final StringRedisTemplate srt;
+    private final S3Service s3Service;
+
+    private final ThreadPoolTaskExecutor verifyWorkers = new ThreadPoolTaskExecutor();
+
+    /**
+     * 클라이언트가 전달한 해시의 검증 상태
+     */
+    private enum HashVerification {
+        PENDING, VERIFIED, MISMATCH
+    }
+
+    @PostConstruct
+    public void init() {
+        verifyWorkers.setCorePoolSize(verifyWorkerCount);
+        verifyWorkers.setMaxPoolSize(verifyWorkerCount);
+        verifyWorkers.setThreadNamePrefix("multipart-verify-");
+        verifyWorkers.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyWorkers.shutdown();
+    }
+
+    /**
+     * 멀티파트 업로드를 시작하고 파트별 업로드용 Presigned URL을 발급합니다.
+     * 파트 크기는 최소 5MB이며, 파트 수가 10,000개를 넘지 않도록 필요 시 자동으로 늘어납니다.
+     *
+     * @param requestDto 파일 크기와 파트 크기를 담은 요청 DTO
+     * @return 업로드 ID, 저장 경로, 파트별 Presigned URL을 담은 응답 DTO
+     */
+    public MultipartUploadInitiateResponseDto initiate(MultipartUploadInitiateRequestDto requestDto) {
+        long fileSize = requestDto.fileSize();
+        long partSize = requestDto.partSize() != null ? requestDto.partSize() : defaultPartSizeMb * 1024 * 1024;
+        if (partSize < MIN_PART_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파트 크기는 5MB 이상이어야 합니다.");
+        }
+        partSize = Math.max(partSize, ceilDiv(fileSize, MAX_PART_COUNT));
+        int partCount = (int) ceilDiv(fileSize, partSize);
+
+        String path = UUID.randomUUID().toString();
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, path)).getUploadId();
+
+        String sessionKey = SESSION_KEY_PREFIX + uploadId;
+        srt.opsForHash().putAll(sessionKey, Map.of(
+                "path", path,
+                "fileSize", String.valueOf(fileSize),
+                "partSize", String.valueOf(partSize),
+                "partCount", String.valueOf(partCount)
+        ));
+        srt.expire(sessionKey, SESSION_TTL);
+
+        List<PartUploadUrlDto> parts = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            parts.add(new PartUploadUrlDto(partNumber, generatePartUploadUrl(path, uploadId, partNumber)));
+        }
+
+        return new MultipartUploadInitiateResponseDto(uploadId, path, partSize, partCount, parts);
+    }
+
+    /**
+     * 지정한 파트들의 업로드용 Presigned URL을 다시 발급합니다.
+     * 특정 파트 업로드가 실패했거나 URL이 만료된 경우 재시도에 사용합니다.
+     *
+     * @param uploadId    S3 멀티파트 업로드 ID
+     * @param partNumbers 다시 발급할 파트 번호 목록
+     * @return 파트별 Presigned URL 목록
+     */
+    public List<PartUploadUrlDto> presignParts(String uploadId, List<Integer> partNumbers) {
+        UploadSession session = findSessionOrElseThrow(uploadId);
+
+        return partNumbers.stream()
+                .peek(partNumber -> validatePartNumber(session, partNumber))
+                .map(partNumber -> new PartUploadUrlDto(partNumber, generatePartUploadUrl(session.path(), uploadId, partNumber)))
+                .toList();
+    }
+
+    /**
+     * 멀티파트 업로드의 진행 상태를 조회합니다.
+     * 이미 업로드된 파트 목록을 반환하여 클라이언트가 남은 파트만 업로드할 수 있도록 합니다.
+     *
+     * @param uploadId S3 멀티파트 업로드 ID
+     * @return 업로드 진행 상태 응답 DTO
+     */
+    public MultipartUploadStatusResponseDto getStatus(String uploadId) {
+        UploadSession session = findSessionOrElseThrow(uploadId);
+        List<UploadedPartDto> uploadedParts = new ArrayList<>();
+
+        ListPartsRequest request = new ListPartsRequest(bucketName, session.path(), uploadId);
+        PartListing listing;
+        do {
+            listing = amazonS3.listParts(request);
+            for (PartSummary part : listing.getParts()) {
+                uploadedParts.add(new UploadedPartDto(part.getPartNumber(), part.getETag(), part.getSize()));
+            }
+            request.setPartNumberMarker(listing.getNextPartNumberMarker());
+        } while (listing.isTruncated());
+
+        return new MultipartUploadStatusResponseDto(uploadId, session.path(), session.partCount(), uploadedParts);
+    }
+
+    /**
+     * 업로드된 파트들을 하나의 객체로 합쳐 멀티파트 업로드를 완료합니다.
+     * 모든 파트가 전달되었는지, 합쳐진 객체의 크기가 시작 시 전달한 크기와 같은지 검증하며,
+     * 클라이언트가 전달한 SHA-256 해시를 저장 경로와 함께 보관하고 백그라운드 검증을 요청합니다.
+     *
+     * @param uploadId   S3 멀티파트 업로드 ID
+     * @param requestDto 전체 파일 해시와 파트별 ETag를 담은 요청 DTO
+     * @return 저장 경로, 파일 크기, 해시를 담은 응답 DTO
+     */
+    public MultipartUploadCompleteResponseDto complete(String uploadId, MultipartUploadCompleteRequestDto requestDto) {
+        UploadSession session = findSessionOrElseThrow(uploadId);
+
+        List<PartETag> partETags = requestDto.parts().stream()
+                .sorted(Comparator.comparing(MultipartUploadCompleteRequestDto.CompletedPart::partNumber))
+                .map(part -> new PartETag(part.partNumber(), part.eTag()))
+                .toList();
+        for (int i = 0; i < partETags.size(); i++) {
+            if (partETags.get(i).getPartNumber() != i + 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파트 번호가 1부터 연속되지 않습니다.");
+            }
+        }
+        if (partETags.size() != session.partCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 파트 수가 일치하지 않습니다. (expected=" + session.partCount() + ", actual=" + partETags.size() + ")");
+        }
+
+        try {
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, session.path(), uploadId, new ArrayList<>(partETags)));
+        } catch (AmazonS3Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 접근 오류: " + e.getMessage());
+        }
+
+        long storedSize = amazonS3.getObjectMetadata(bucketName, session.path()).getContentLength();
+        if (storedSize != session.fileSize()) {
+            amazonS3.deleteObject(bucketName, session.path());
+            srt.delete(SESSION_KEY_PREFIX + uploadId);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 파일 크기가 일치하지 않습니다. (expected=" + session.fileSize() + ", actual=" + storedSize + ")");
+        }
+
+        String fileHash = requestDto.fileHash().toLowerCase(Locale.ROOT);
+        String completedKey = COMPLETED_KEY_PREFIX + session.path();
+        srt.opsForHash().putAll(completedKey, Map.of(
+                "fileSize", String.valueOf(storedSize),
+                "fileHash", fileHash,
+                VERIFICATION_FIELD, HashVerification.PENDING.name()
+        ));
+        srt.expire(completedKey, COMPLETED_TTL);
+        srt.delete(SESSION_KEY_PREFIX + uploadId);
+        log.info("[COMPLETED] Multipart upload completed, path={}, size={}", session.path(), storedSize);
+
+        verifyWorkers.execute(() -> verifyHash(session.path(), fileHash));
+
+        return new MultipartUploadCompleteResponseDto(session.path(), storedSize, fileHash);
+    }
+
+    /**
+     * 진행 중인 멀티파트 업로드를 취소하고 업로드된 파트를 삭제합니다.
+     *
+     * @param uploadId S3 멀티파트 업로드 ID
+     */
+    public void abort(String uploadId) {
+        UploadSession session = findSessionOrElseThrow(uploadId);
+        amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, session.path(), uploadId));
+        srt.delete(SESSION_KEY_PREFIX + uploadId);
+    }
+
+    /**
+     * 멀티파트 업로드로 완료된 객체의 검증된 파일 크기와 해시를 조회합니다.
+     * 메타데이터 등록 시 값이 있으면 S3 객체를 다시 읽지 않고 이 값을 사용합니다.
+     * 검증이 아직 끝나지 않았으면 empty를 반환하여 호출 측이 해시를 직접 계산하도록 하고,
+     * 검증 결과 클라이언트가 전달한 해시가 실제 객체와 다르면 400 에러를 발생시킵니다.
+     *
+     * @param path S3 버킷 내 객체의 경로
+     * @return 완료된 업로드의 파일 크기와 해시 (멀티파트 업로드가 아니거나 검증 중이면 empty)
+     */
+    public Optional<S3FileHashResult> findCompletedUpload(String path) {
+        Map<Object, Object> entries = srt.opsForHash().entries(COMPLETED_KEY_PREFIX + path);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String verification = (String) entries.get(VERIFICATION_FIELD);
+        if (HashVerification.MISMATCH.name().equals(verification)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 경로 '" + path + "'의 파일 해시가 업로드 완료 시 전달한 해시와 일치하지 않습니다.");
+        }
+        if (!HashVerification.VERIFIED.name().equals(verification)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new S3FileHashResult(
+                Long.parseLong((String) entries.get("fileSize")),
+                (String) entries.get("fileHash")
+        ));
+    }
+
+    /**
+     * 완료된 객체의 해시를 범위 단위 병렬 읽기로 다시 계산하여 클라이언트가 전달한 해시와 비교하고 결과를 기록합니다.
+     * 계산에 실패하면 검증 상태를 PENDING으로 남겨 메타데이터 등록 시 해시를 직접 계산하도록 합니다.
+     *
+     * @param path        S3 버킷 내 객체의 경로
+     * @param claimedHash 클라이언트가 전달한 해시
+     */
+    private void verifyHash(String path, String claimedHash) {
+        try {
+            String actualHash = s3Service.calculateS3FileHash(path).fileHash();
+            HashVerification verification = actualHash.equals(claimedHash) ? HashVerification.VERIFIED : HashVerification.MISMATCH;
+            srt.opsForHash().put(COMPLETED_KEY_PREFIX + path, VERIFICATION_FIELD, verification.name());
+
+            if (verification == HashVerification.MISMATCH) {
+                log.error("[VERIFY] Multipart upload hash mismatch, path={}, claimed={}, actual={}", path, claimedHash, actualHash);
+            } else {
+                log.info("[VERIFY] Multipart upload hash verified, path={}", path);
+            }
+        } catch (Exception e) {
+            log.error("[ERROR] Failed to verify multipart upload hash, path={}, err={}", path, e.getMessage(), e);
+        }
+    }
+
+    private String generatePartUploadUrl(String path, String uploadId, int partNumber) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, path)
+                .withMethod(HttpMethod.PUT)
+                .withExpiration(Date.from(Instant.now().plus(Duration.ofMinutes(urlExpirationMinutes))));
+        request.addRequestParameter("partNumber", String.valueOf(partNumber));
+        request.addRequestParameter("uploadId", uploadId);
+
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    private UploadSession findSessionOrElseThrow(String uploadId) {
+        Map<Object, Object> entries = srt.opsForHash().entries(SESSION_KEY_PREFIX + uploadId);
+        if (entries.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "[uploadId: " + uploadId + "] 업로드 정보를 찾을 수 없습니다.");
+        }
+
+        return new UploadSession(
+                (String) entries.get("path"),
+                Long.parseLong((String) entries.get("fileSize")),
+                Integer.parseInt((String) entries.get("partCount"))
+        );
+    }
+
+    private void validatePartNumber(UploadSession session, int partNumber) {
+        if (partNumber < 1 || partNumber > session.partCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 파트 번호입니다: " + partNumber);
+        }
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    /**
+     * Redis에 보관된 멀티파트 업로드 세션
+     *
+     * @param path      S3에 저장될 Key
+     * @param fileSize  전체 파일 크기
+     * @param partCount 전체 파트 수
+     */
+    private record UploadSession(String path, long fileSize, int partCount) {
+    }
+}
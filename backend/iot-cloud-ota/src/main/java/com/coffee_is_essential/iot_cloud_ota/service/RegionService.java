@@ -1,13 +1,23 @@
 package com.coffee_is_essential.iot_cloud_ota.service;
 
+import com.coffee_is_essential.iot_cloud_ota.component.FleetTopologyIndex;
+import com.coffee_is_essential.iot_cloud_ota.component.ListCountCache;
+import com.coffee_is_essential.iot_cloud_ota.domain.CursorInfo;
 import com.coffee_is_essential.iot_cloud_ota.domain.PaginationInfo;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekCursor;
+import com.coffee_is_essential.iot_cloud_ota.domain.SeekPage;
+import com.coffee_is_essential.iot_cloud_ota.dto.CursorListResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.RegionListResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.RegionResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.dto.RegionSummaryResponseDto;
 import com.coffee_is_essential.iot_cloud_ota.entity.Region;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
 import com.coffee_is_essential.iot_cloud_ota.repository.RegionJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.MetadataSearchRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,13 +29,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RegionService {
     private final RegionJpaRepository regionJpaRepository;
+    private final FleetTopologyIndex fleetTopologyIndex;
+    private final ListCountCache listCountCache;
+    private final MetadataSearchRepository metadataSearchRepository;
 
     /**
      * 각 리전에 등록된 디바이스 수 요약 정보를 조회합니다.
+     * FleetTopologyIndex가 구성되어 있으면 GROUP BY 집계 대신 인덱스가 유지하는 디바이스/활성 디바이스 카운터를 사용합니다.
      *
      * @return RegionSummaryResponseDto 리스트 (regionId, regionCode, regionName, count 포함)
      */
     public List<RegionSummaryResponseDto> findRegionSummary() {
+        if (fleetTopologyIndex.isReady()) {
+            return regionJpaRepository.findAll(Sort.by("id").ascending()).stream()
+                    .map(region -> new RegionSummaryResponseDto(
+                            region.getId(),
+                            region.getRegionCode(),
+                            region.getRegionName(),
+                            fleetTopologyIndex.countByRegion(region.getId()),
+                            fleetTopologyIndex.activeCountByRegion(region.getId())
+                    ))
+                    .toList();
+        }
 
         return regionJpaRepository.findRegionSummary().stream()
                 .map(RegionSummaryResponseDto::from)
@@ -35,6 +60,8 @@ public class RegionService {
     /**
      * 전체 리전의 상세 정보를 페이지네이션하여 조회합니다.
      * 각 리전에는 몇 개의 디바이스가 등록되어 있는지를 포함한 정보가 반환됩니다.
+     * 검색어가 있으면 검색 인덱스에서 코드와 이름을 검색하여 관련도 순으로 반환하며,
+     * 인덱스가 아직 구성되지 않았으면 부분 일치(LIKE) 검색으로 대체합니다.
      *
      * @param paginationInfo 페이지네이션 및 검색어 정보
      * @return 페이징된 리전 상세 정보 목록과 페이지 정보가 포함된 응답 DTO
@@ -43,8 +70,42 @@ public class RegionService {
         Pageable pageable = PageRequest.of(paginationInfo.page() - 1, paginationInfo.limit(), Sort.by("id").ascending());
         String keyword = paginationInfo.search();
 
+        if (keyword != null && !keyword.isBlank() && metadataSearchRepository.isReady()) {
+            SearchHits hits = metadataSearchRepository.search(SearchDocumentType.REGION, keyword, (int) pageable.getOffset(), pageable.getPageSize());
+            List<Region> ranked = hits.orderByRank(regionJpaRepository.findAllById(hits.ids()), Region::getId);
+
+            return RegionListResponseDto.from(new PageImpl<>(ranked, pageable, hits.totalHits()));
+        }
+
         Page<Region> regionPage = regionJpaRepository.searchWithNullableKeyword(keyword, pageable);
 
         return RegionListResponseDto.from(regionPage);
     }
+
+    /**
+     * 전체 리전 목록을 id 오름차순 커서 기반으로 조회합니다.
+     * COUNT 쿼리를 실행하지 않으며, includeTotal이 true이면 캐시된 전체 개수 추정치를 함께 반환합니다.
+     *
+     * @param cursorInfo 커서 정보 (커서 토큰, 페이지 크기, 검색어, 전체 개수 포함 여부)
+     * @return 리전 목록과 다음 페이지 커서
+     */
+    public CursorListResponseDto<RegionResponseDto> findAllRegionsByCursor(CursorInfo cursorInfo) {
+        long afterId = cursorInfo.cursor() == null || cursorInfo.cursor().isBlank() ? 0L : SeekCursor.decode(cursorInfo.cursor()).id();
+        String keyword = cursorInfo.search();
+        SeekPage<Region> page = SeekPage.of(
+                regionJpaRepository.searchWithNullableKeywordAfter(keyword, afterId, PageRequest.of(0, cursorInfo.limit() + 1)),
+                cursorInfo.limit(),
+                item -> new SeekCursor(null, item.getId())
+        );
+        Long totalCount = cursorInfo.includeTotal()
+                ? listCountCache.estimate("regions:" + keyword, () -> regionJpaRepository.countWithNullableKeyword(keyword))
+                : null;
+
+        return CursorListResponseDto.of(
+                page.content().stream().map(RegionResponseDto::from).toList(),
+                page,
+                cursorInfo.limit(),
+                totalCount
+        );
+    }
 }
@@ -0,0 +1,298 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.*;
+import com.coffee_is_essential.iot_cloud_ota.dto.FirmwareDeploymentDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.RolloutPlanRequestDto;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentRollout;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareMetadata;
+import com.coffee_is_essential.iot_cloud_ota.entity.OverallDeploymentStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.OverallStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.RolloutStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 펌웨어 단계적 배포(rollout)를 관리하는 서비스
+ * 대상 디바이스를 디바이스 ID 순으로 웨이브에 나누어, 첫 웨이브(카나리)는 배포 요청 시 바로 전송하고
+ * 이후 웨이브는 대기 시간이 지나고 직전 웨이브의 download_events 기준 성공률이 게이트를 넘었을 때만 MQTT Handler로 전송함
+ * 직전 웨이브의 다운로드 만료 시각까지 게이트를 넘지 못하면 배포를 중단(HALTED)하고 남은 대상을 CANCELLED로 기록함
+ * 웨이브가 남아있는 동안에는 DeployJudgeScheduler가 배포를 완료 처리하지 않음
+ * 마지막 웨이브를 배포한 뒤에도 해당 아웃박스 항목이 전송되어 대상이 Redis에 등록될 때까지 rollout을 IN_PROGRESS로 유지함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RolloutService {
+    private static final int CANCEL_PAGE_SIZE = 1000;
+
+    private final DeploymentRolloutRepository deploymentRolloutRepository;
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository;
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository;
+    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository;
+    private final DeploymentOutboxRepository deploymentOutboxRepository;
+    private final OverallDeploymentStatusRepository overallDeploymentStatusRepository;
+    private final DeploymentDispatchService deploymentDispatchService;
+    private final DeploymentProgressService deploymentProgressService;
+    private final DeploymentRedisService deploymentRedisService;
+    private final DeployJudgeScheduler deployJudgeScheduler;
+    private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 단계적 배포를 시작한다. 배포 트랜잭션 안에서 호출되며 카나리 웨이브를 아웃박스에 저장한다.
+     * 대상 디바이스는 호출 전에 firmware_deployment_device에 IN_PROGRESS로 기록되어 있어야 한다.
+     *
+     * @param deployment   배포 엔티티
+     * @param plan         단계적 배포 계획
+     * @param totalDevices 전체 대상 디바이스 수
+     */
+    public void startRollout(FirmwareDeployment deployment, RolloutPlanRequestDto plan, int totalDevices) {
+        validate(plan);
+
+        DeploymentRollout rollout = deploymentRolloutRepository.save(new DeploymentRollout(
+                deployment,
+                plan.canaryPercent(),
+                plan.waveSize(),
+                plan.waveIntervalSeconds(),
+                plan.successRate(),
+                totalDevices
+        ));
+        releaseWave(rollout, deployment);
+    }
+
+    /**
+     * 대기 시간이 지난 진행 중 rollout마다 게이트를 평가하여 다음 웨이브를 배포하거나 중단한다.
+     * 이어서 모든 웨이브를 배포한 rollout 중 전송이 끝난 것을 완료 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${deploy.rollout.tick-ms:5000}")
+    public void releaseDueWaves() {
+        List<DeploymentRollout> dueRollouts = deploymentRolloutRepository.findAllByStatusAndNextWaveAtLessThanEqual(
+                RolloutStatus.IN_PROGRESS,
+                OffsetDateTime.now()
+        );
+
+        for (DeploymentRollout dueRollout : dueRollouts) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> evaluate(dueRollout.getId()));
+            } catch (Exception e) {
+                log.error("[ROLLOUT] Failed to evaluate rolloutId={}, err={}", dueRollout.getId(), e.getMessage(), e);
+            }
+        }
+
+        for (DeploymentRollout releasedRollout : deploymentRolloutRepository.findAllByStatusAndNextWaveAtIsNull(RolloutStatus.IN_PROGRESS)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> completeIfSent(releasedRollout.getId()));
+            } catch (Exception e) {
+                log.error("[ROLLOUT] Failed to complete rolloutId={}, err={}", releasedRollout.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 모든 웨이브를 배포한 rollout의 아웃박스 항목이 더 이상 전송 대기 중이 아니면 rollout을 완료 처리한다.
+     * 전송된 웨이브의 대상은 전송 전에 Redis에 등록되므로, 이후 판정 스케줄러는 마지막 웨이브까지 판정한 뒤 배포를 완료한다.
+     *
+     * @param rolloutId rollout ID
+     */
+    private void completeIfSent(Long rolloutId) {
+        DeploymentRollout rollout = deploymentRolloutRepository.findById(rolloutId).orElse(null);
+        if (rollout == null || !rollout.isFullyReleased()) {
+            return;
+        }
+
+        String commandId = rollout.getFirmwareDeployment().getCommandId();
+        if (deploymentOutboxRepository.existsByCommandIdAndStatus(commandId, OutboxStatus.PENDING)) {
+            return;
+        }
+
+        rollout.complete();
+        deploymentRolloutRepository.save(rollout);
+        log.info("[ROLLOUT] Completed commandId={}, waves={}", commandId, rollout.getReleasedWaves());
+    }
+
+    /**
+     * 직전 웨이브 디바이스의 최신 다운로드 이벤트로 성공률을 계산하여 게이트를 평가한다.
+     * 직전 웨이브의 디바이스 ID 범위는 해당 웨이브의 아웃박스 항목에서 읽으므로, 앞선 웨이브의 성공이 나쁜 웨이브를 가리지 않는다.
+     * 아직 응답하지 않은 디바이스는 성공으로 세지 않으므로, 게이트는 직전 웨이브가 충분히 끝난 뒤에 통과된다.
+     *
+     * @param rolloutId rollout ID
+     */
+    private void evaluate(Long rolloutId) {
+        DeploymentRollout rollout = deploymentRolloutRepository.findById(rolloutId).orElse(null);
+        if (rollout == null || rollout.getStatus() != RolloutStatus.IN_PROGRESS || rollout.isFullyReleased()) {
+            return;
+        }
+
+        FirmwareDeployment deployment = rollout.getFirmwareDeployment();
+        double successRate = lastWaveSuccessRate(rollout, deployment);
+
+        if (successRate >= rollout.getSuccessRate()) {
+            log.info(
+                    "[ROLLOUT] Gate passed, commandId={}, wave={}, successRate={}",
+                    deployment.getCommandId(),
+                    rollout.getReleasedWaves(),
+                    successRate
+            );
+            releaseWave(rollout, deployment);
+            return;
+        }
+
+        if (OffsetDateTime.now().isAfter(deployment.getExpiresAt())) {
+            halt(rollout, deployment, successRate);
+        }
+    }
+
+    /**
+     * 직전 웨이브에 배포된 디바이스 중 최신 다운로드 이벤트가 SUCCESS인 비율을 계산한다.
+     *
+     * @param rollout    rollout 엔티티
+     * @param deployment 배포 엔티티
+     * @return 직전 웨이브의 성공률 (웨이브 정보가 없으면 0)
+     */
+    private double lastWaveSuccessRate(DeploymentRollout rollout, FirmwareDeployment deployment) {
+        DeploymentOutbox lastWave = deploymentOutboxRepository.findByCommandIdAndWave(deployment.getCommandId(), rollout.getReleasedWaves() - 1)
+                .orElse(null);
+        if (lastWave == null || rollout.getLastWaveDevices() == 0) {
+            return 0.0;
+        }
+
+        Map<String, Long> latestStatusCounts = downloadEventsJdbcRepository.countLatestStatusByDeviceRange(
+                deployment.getCommandId(),
+                lastWave.getDeviceIdFrom(),
+                lastWave.getDeviceIdTo()
+        );
+        long successCount = latestStatusCounts.getOrDefault(DeploymentStatus.SUCCESS.name(), 0L);
+
+        return (double) successCount / rollout.getLastWaveDevices();
+    }
+
+    /**
+     * 다음 웨이브 대상 디바이스를 커서 이후에서 조회하여 아웃박스에 저장하고 rollout 상태를 갱신한다.
+     * 웨이브마다 새 서명 URL과 만료 시각을 사용하며, 배포의 만료 시각도 함께 늘린다.
+     *
+     * @param rollout    rollout 엔티티
+     * @param deployment 배포 엔티티
+     */
+    private void releaseWave(DeploymentRollout rollout, FirmwareDeployment deployment) {
+        int wave = rollout.getReleasedWaves();
+        List<Long> deviceIds = firmwareDeploymentDeviceJdbcRepository.findDeviceIdsAfter(
+                deployment.getId(),
+                rollout.getLastReleasedDeviceId(),
+                rollout.nextWaveSize()
+        );
+        OffsetDateTime now = OffsetDateTime.now();
+        if (deviceIds.isEmpty()) {
+            rollout.recordWave(0, rollout.getLastReleasedDeviceId(), now);
+            deploymentRolloutRepository.save(rollout);
+            return;
+        }
+
+        rollout.recordWave(deviceIds.size(), deviceIds.get(deviceIds.size() - 1), now);
+        deploymentRolloutRepository.save(rollout);
+
+        Date expiresAt = Date.from(Instant.now().plus(Duration.ofMinutes(DeploymentService.TIMEOUT)));
+        deployment.extendExpiresAt(expiresAt.toInstant().atOffset(ZoneOffset.UTC));
+        firmwareDeploymentRepository.save(deployment);
+
+        FirmwareMetadata firmware = deployment.getFirmwareMetadata();
+        DeploymentContent content = new DeploymentContent(
+                new SignedUrlInfo(cloudFrontSignedUrlService.generateSignedUrl(firmware.getS3Path(), expiresAt), DeploymentService.TIMEOUT),
+                new FileInfo(firmware.getId(), firmware.getFileHash(), firmware.getFileSize())
+        );
+        List<DeployTargetDeviceInfo> deviceInfos = deviceIds.stream()
+                .map(DeployTargetDeviceInfo::new)
+                .toList();
+
+        deploymentDispatchService.enqueue(
+                deployment,
+                wave,
+                DeploymentDispatchService.FIRMWARE_DEPLOYMENT_ROUTE,
+                deviceInfos,
+                targets -> new FirmwareDeploymentDto(deployment.getCommandId(), content, targets, now)
+        );
+        meterRegistry.counter("deploy.rollout.waves", "result", "released").increment();
+        log.info(
+                "[ROLLOUT] Released commandId={}, wave={}, devices={}, released={}/{}",
+                deployment.getCommandId(),
+                wave,
+                deviceIds.size(),
+                rollout.getReleasedDevices(),
+                rollout.getTotalDevices()
+        );
+    }
+
+    /**
+     * 게이트를 통과하지 못한 rollout을 중단한다.
+     * 아직 배포되지 않은 대상 디바이스를 CANCELLED로 기록하고, 배포된 디바이스가 모두 끝났다면 배포를 완료 처리한다.
+     *
+     * @param rollout     rollout 엔티티
+     * @param deployment  배포 엔티티
+     * @param successRate 중단 시점의 성공률
+     */
+    private void halt(DeploymentRollout rollout, FirmwareDeployment deployment, double successRate) {
+        rollout.halt();
+        deploymentRolloutRepository.save(rollout);
+
+        long afterDeviceId = rollout.getLastReleasedDeviceId();
+        int cancelled = 0;
+        while (true) {
+            List<Long> deviceIds = firmwareDeploymentDeviceJdbcRepository.findDeviceIdsAfter(deployment.getId(), afterDeviceId, CANCEL_PAGE_SIZE);
+            if (deviceIds.isEmpty()) {
+                break;
+            }
+
+            deploymentProgressService.recordTransitions(
+                    deployment.getId(),
+                    deviceIds.stream()
+                            .map(deviceId -> new DeviceStatusTransition(deviceId, DeploymentStatus.CANCELLED))
+                            .toList()
+            );
+            cancelled += deviceIds.size();
+            afterDeviceId = deviceIds.get(deviceIds.size() - 1);
+        }
+
+        if (deploymentRedisService.countDevices(deployment.getCommandId()) == 0) {
+            overallDeploymentStatusRepository.save(new OverallDeploymentStatus(deployment, OverallStatus.COMPLETED));
+            deployJudgeScheduler.stopScheduler(deployment.getCommandId());
+        }
+
+        meterRegistry.counter("deploy.rollout.waves", "result", "halted").increment();
+        log.warn(
+                "[ROLLOUT] Halted commandId={}, successRate={}, threshold={}, cancelled={}",
+                deployment.getCommandId(),
+                successRate,
+                rollout.getSuccessRate(),
+                cancelled
+        );
+    }
+
+    private void validate(RolloutPlanRequestDto plan) {
+        boolean invalid = plan.canaryPercent() < 1 || plan.canaryPercent() > 100
+                          || (plan.waveSize() != null && plan.waveSize() < 1)
+                          || plan.waveIntervalSeconds() < 0
+                          || plan.successRate() < 0 || plan.successRate() > 1;
+        if (invalid) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 배포 계획입니다.");
+        }
+    }
+}
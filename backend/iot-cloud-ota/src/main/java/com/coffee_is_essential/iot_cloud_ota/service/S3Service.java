@@ -4,6 +4,8 @@ import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
 import com.coffee_is_essential.iot_cloud_ota.dto.AdsUploadPresignedUrlResponseDto;
@@ -13,9 +15,12 @@ import com.coffee_is_essential.iot_cloud_ota.entity.AdsMetadata;
 import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareMetadata;
 import com.coffee_is_essential.iot_cloud_ota.repository.AdsMetadataJpaRepository;
 import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareMetadataJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -24,9 +29,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * S3Service 클래스는 AWS S3 Presigned URL 발급 기능을 제공합니다.
@@ -38,9 +47,29 @@ public class S3Service {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${s3.hash.part-size-mb:8}")
+    private long hashPartSizeMb;
+
+    @Value("${s3.hash.parallelism:4}")
+    private int hashParallelism;
+
     private final AmazonS3 amazonS3;
     private final FirmwareMetadataJpaRepository firmwareMetadataJpaRepository;
     private final AdsMetadataJpaRepository adsMetadataJpaRepository;
+    private final ThreadPoolTaskExecutor hashReaders = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    public void init() {
+        hashReaders.setCorePoolSize(hashParallelism);
+        hashReaders.setMaxPoolSize(hashParallelism);
+        hashReaders.setThreadNamePrefix("s3-hash-");
+        hashReaders.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashReaders.shutdown();
+    }
 
     /**
      * 지정한 버전과 파일 이름을 기반으로 S3에 업로드할 수 있는 Presigned URL을 생성합니다.
@@ -185,24 +214,33 @@ public class S3Service {
 
     /**
      * 지정된 S3 객체의 SHA-256 해시값과 파일 크기를 계산합니다.
+     * 객체를 part-size 단위의 Range GET으로 나누어 최대 parallelism개까지 미리 병렬로 읽고,
+     * 읽어온 조각은 순서대로 다이제스트에 누적하므로 메모리 사용량은 part-size * parallelism으로 제한됩니다.
+     * 모든 Range GET에 처음 조회한 ETag 일치 조건을 걸어, 읽는 도중 객체가 덮어써지면 서로 다른 버전의 조각이 섞이지 않고 실패합니다.
      *
      * @param path S3 버킷 내 객체의 경로 (예: "folder/file.txt")
      * @return {@link S3FileHashResult} 객체 (파일 크기와 SHA-256 해시값 포함)
-     * @throws ResponseStatusException S3 접근 실패 또는 해시 계산 실패 시 발생
+     * @throws ResponseStatusException S3 접근 실패, 읽는 도중 객체 변경 또는 해시 계산 실패 시 발생
      */
     public S3FileHashResult calculateS3FileHash(String path) {
+        Deque<Future<byte[]>> inFlight = new ArrayDeque<>();
 
-        try (S3Object s3Object = amazonS3.getObject(bucketName, path);
-             InputStream inputStream = s3Object.getObjectContent()) {
-
-            long fileSize = s3Object.getObjectMetadata().getContentLength();
-
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, path);
+            long fileSize = metadata.getContentLength();
+            String eTag = metadata.getETag();
+            long partSize = hashPartSizeMb * 1024 * 1024;
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                digest.update(buffer, 0, bytesRead);
+            long nextOffset = 0;
+
+            while (nextOffset < fileSize || !inFlight.isEmpty()) {
+                while (nextOffset < fileSize && inFlight.size() < hashParallelism) {
+                    long start = nextOffset;
+                    long end = Math.min(start + partSize, fileSize) - 1;
+                    inFlight.add(hashReaders.submit(() -> readRange(path, eTag, start, end)));
+                    nextOffset = end + 1;
+                }
+                digest.update(inFlight.poll().get());
             }
 
             byte[] hashBytes = digest.digest();
@@ -210,8 +248,54 @@ public class S3Service {
             return new S3FileHashResult(fileSize, bytesToHex(hashBytes));
         } catch (AmazonS3Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 접근 오류: " + e.getMessage());
-        } catch (IOException | NoSuchAlgorithmException e) {
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AmazonS3Exception s3Exception) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 접근 오류: " + s3Exception.getMessage());
+            }
+            if (e.getCause() instanceof ResponseStatusException statusException) {
+                throw statusException;
+            }
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "해시 계산 실패");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "해시 계산 실패");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "해시 계산 실패");
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * S3 객체의 지정된 바이트 범위를 ETag가 일치할 때만 읽어 반환합니다.
+     * 일치 조건이 맞지 않으면 AmazonS3.getObject가 null을 반환하므로 객체가 변경된 것으로 보고 실패합니다.
+     *
+     * @param path  S3 버킷 내 객체의 경로
+     * @param eTag  해시 계산을 시작할 때 조회한 객체의 ETag
+     * @param start 시작 오프셋 (포함)
+     * @param end   끝 오프셋 (포함)
+     * @return 읽어온 바이트 배열
+     * @throws IOException             객체 스트림 읽기 실패 또는 범위보다 적게 읽힌 경우
+     * @throws ResponseStatusException 읽는 도중 객체가 변경된 경우 (409 CONFLICT)
+     */
+    private byte[] readRange(String path, String eTag, long start, long end) throws IOException {
+        GetObjectRequest request = new GetObjectRequest(bucketName, path)
+                .withRange(start, end)
+                .withMatchingETagConstraint(eTag);
+        int length = (int) (end - start + 1);
+
+        S3Object object = amazonS3.getObject(request);
+        if (object == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "해시 계산 중 S3 객체가 변경되었습니다: " + path);
+        }
+
+        try (S3Object s3Object = object;
+             InputStream inputStream = s3Object.getObjectContent()) {
+            byte[] bytes = inputStream.readNBytes(length);
+            if (bytes.length != length) {
+                throw new IOException("S3 객체 범위 읽기 실패: " + path + " [" + start + "-" + end + "]");
+            }
+            return bytes;
         }
     }
 
@@ -0,0 +1,173 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.component.DeploymentTargetResolver;
+import com.coffee_is_essential.iot_cloud_ota.component.TelemetryHistoryCache;
+import com.coffee_is_essential.iot_cloud_ota.domain.TelemetryPoint;
+import com.coffee_is_essential.iot_cloud_ota.enums.TelemetryBucket;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceStatusJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.DivisionJpaRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 디바이스 또는 그룹의 system_status 이력을 차트용으로 다운샘플링하여 조회하는 서비스입니다.
+ * 조회 구간 길이에 맞춰 버킷 크기를 고르므로 구간이 몇 시간이든 며칠이든 응답은 약 target-points개의 버킷으로 유지됩니다.
+ * 응답은 QuestDB에서 읽는 즉시 JSON으로 써 내려가며, 최근 구간의 닫힌 버킷은 TelemetryHistoryCache에 보관해
+ * 같은 차트를 다시 그릴 때는 캐시 이후의 버킷만 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TelemetryHistoryService {
+    private final DeviceStatusJdbcRepository deviceStatusJdbcRepository;
+    private final DeviceJpaRepository deviceJpaRepository;
+    private final DivisionJpaRepository divisionJpaRepository;
+    private final DeploymentTargetResolver deploymentTargetResolver;
+    private final TelemetryHistoryCache telemetryHistoryCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${telemetry.history.target-points:500}")
+    private int targetPoints;
+
+    @Value("${telemetry.history.default-range-ms:3600000}")
+    private long defaultRangeMs;
+
+    @Value("${telemetry.history.max-range-days:90}")
+    private long maxRangeDays;
+
+    @Value("${telemetry.history.max-devices:10000}")
+    private int maxDevices;
+
+    @Value("${telemetry.history.cache.recent-ms:3600000}")
+    private long cacheRecentMs;
+
+    /**
+     * 디바이스 한 대의 텔레메트리 이력을 스트리밍 응답으로 반환합니다.
+     *
+     * @param deviceId 디바이스 ID
+     * @param from     (선택 사항) 조회 시작 시각, 없으면 to 기준 기본 구간 이전
+     * @param to       (선택 사항) 조회 종료 시각, 없으면 현재 시각
+     * @return 버킷별 평균을 JSON으로 써 내려가는 응답 본문
+     */
+    public StreamingResponseBody streamDeviceHistory(Long deviceId, OffsetDateTime from, OffsetDateTime to) {
+        deviceJpaRepository.findByIdOrElseThrow(deviceId);
+
+        return stream("device", deviceId, new long[]{deviceId}, from, to);
+    }
+
+    /**
+     * 그룹에 속한 전체 디바이스의 텔레메트리 이력을 버킷별 평균으로 합쳐 스트리밍 응답으로 반환합니다.
+     *
+     * @param divisionId 그룹 ID
+     * @param from       (선택 사항) 조회 시작 시각, 없으면 to 기준 기본 구간 이전
+     * @param to         (선택 사항) 조회 종료 시각, 없으면 현재 시각
+     * @return 버킷별 평균을 JSON으로 써 내려가는 응답 본문
+     */
+    public StreamingResponseBody streamDivisionHistory(Long divisionId, OffsetDateTime from, OffsetDateTime to) {
+        divisionJpaRepository.findByIdOrElseThrow(divisionId);
+        long[] deviceIds = deploymentTargetResolver.resolve(List.of(), List.of(divisionId), List.of());
+        if (deviceIds.length > maxDevices) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "그룹의 디바이스 수가 이력 조회 한도(" + maxDevices + "대)를 초과합니다.");
+        }
+
+        return stream("division", divisionId, deviceIds, from, to);
+    }
+
+    /**
+     * 조회 구간을 검증하고 버킷 크기를 정한 뒤, 캐시된 버킷과 QuestDB 조회 결과를 이어서 쓰는 응답 본문을 만듭니다.
+     * 구간 끝이 현재 시각에서 cache.recent-ms 이내인 경우에만 캐시를 사용하며,
+     * 종료 시각이나 현재 시각이 걸쳐 있는 마지막 버킷은 값이 바뀔 수 있으므로 캐시하지 않습니다.
+     */
+    private StreamingResponseBody stream(String scope, Long id, long[] deviceIds, OffsetDateTime from, OffsetDateTime to) {
+        long nowMs = System.currentTimeMillis();
+        long toMs = to == null ? nowMs : to.toInstant().toEpochMilli();
+        long requestedFromMs = from == null ? toMs - defaultRangeMs : from.toInstant().toEpochMilli();
+
+        if (requestedFromMs >= toMs) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (toMs - requestedFromMs > Duration.ofDays(maxRangeDays).toMillis()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 구간은 최대 " + maxRangeDays + "일까지 가능합니다.");
+        }
+
+        TelemetryBucket bucket = TelemetryBucket.fit(toMs - requestedFromMs, targetPoints);
+        long fromMs = bucket.floor(requestedFromMs);
+        long closedUntilMs = Math.min(bucket.floor(toMs), bucket.floor(nowMs));
+        boolean cacheable = deviceIds.length > 0 && nowMs - toMs <= cacheRecentMs;
+        String cacheKey = scope + ":" + id + ":" + bucket.sampleBy();
+
+        return outputStream -> {
+            try (JsonGenerator json = objectMapper.createGenerator(outputStream)) {
+                json.writeStartObject();
+                json.writeStringField("scope", scope);
+                json.writeNumberField("id", id);
+                json.writeObjectField("from", toOffsetDateTime(fromMs));
+                json.writeObjectField("to", toOffsetDateTime(toMs));
+                json.writeStringField("bucket", bucket.sampleBy());
+                json.writeNumberField("deviceCount", deviceIds.length);
+                json.writeArrayFieldStart("points");
+
+                long resumeAt = fromMs;
+                if (cacheable) {
+                    TelemetryHistoryCache.CachedRange cached = telemetryHistoryCache.find(cacheKey, fromMs, toMs);
+                    for (TelemetryPoint point : cached.points()) {
+                        json.writeObject(point);
+                    }
+                    resumeAt = cached.resumeAt();
+                    meterRegistry.counter("telemetry.history.cache", "result", resumeAt > fromMs ? "hit" : "miss").increment();
+                }
+
+                List<TelemetryPoint> closedPoints = new ArrayList<>();
+                if (deviceIds.length > 0 && resumeAt < toMs) {
+                    deviceStatusJdbcRepository.streamSampledHistory(
+                            deviceIds,
+                            toOffsetDateTime(resumeAt),
+                            toOffsetDateTime(toMs),
+                            bucket,
+                            point -> {
+                                write(json, point);
+                                if (cacheable && point.epochMillis() < closedUntilMs) {
+                                    closedPoints.add(point);
+                                }
+                            }
+                    );
+                }
+                if (cacheable) {
+                    telemetryHistoryCache.store(cacheKey, resumeAt, closedUntilMs, closedPoints);
+                }
+
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        };
+    }
+
+    private void write(JsonGenerator json, TelemetryPoint point) {
+        try {
+            json.writeObject(point);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private OffsetDateTime toOffsetDateTime(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,115 @@
+package com.coffee_is_essential.iot_cloud_ota.client;
+
+import com.coffee_is_essential.iot_cloud_ota.config.RestClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MqttHandlerClientTest {
+    private static final String ROUTE = "/api/firmwares/deployment";
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final Queue<String> idempotencyKeys = new ConcurrentLinkedQueue<>();
+    private SimpleMeterRegistry meterRegistry;
+    private MqttHandlerClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(ROUTE, exchange -> {
+            hits.incrementAndGet();
+            idempotencyKeys.add(exchange.getRequestHeaders().getFirst(MqttHandlerClient.IDEMPOTENCY_KEY_HEADER));
+            exchange.getRequestBody().readAllBytes();
+            Integer status = statuses.poll();
+            byte[] body = "{}".getBytes();
+            exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        RestClientConfig config = new RestClientConfig();
+        ReflectionTestUtils.setField(config, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(config, "readTimeoutMs", 2000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new MqttHandlerClient(config.restClient(config.mqttHandlerHttpClient()), meterRegistry);
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(client, "acquireTimeoutMs", 100L);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(client, "failureThreshold", 3);
+        ReflectionTestUtils.setField(client, "openMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void postRecordsTimerAndSendsIdempotencyKey() {
+        client.post(ROUTE, "cmd-1", "{}");
+
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(idempotencyKeys).containsExactly("cmd-1");
+        assertThat(meterRegistry.get("mqtt.handler.requests")
+                .tag("route", ROUTE)
+                .tag("outcome", "success")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesServerErrorsUntilSuccess() {
+        statuses.add(500);
+        statuses.add(503);
+
+        client.post(ROUTE, "cmd-1", "{}");
+
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(client.circuitState(ROUTE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        statuses.add(400);
+
+        assertThatThrownBy(() -> client.post(ROUTE, "cmd-1", "{}"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(client.circuitState(ROUTE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensCircuitAndFailsFastAfterConsecutiveFailures() {
+        for (int i = 0; i < 3; i++) {
+            statuses.add(500);
+        }
+
+        assertThatThrownBy(() -> client.post(ROUTE, "cmd-1", "{}"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThat(client.circuitState(ROUTE)).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.post(ROUTE, "cmd-2", "{}"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(hits.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,170 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.client.MqttHandlerClient;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentType;
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeploymentOutboxRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentDeviceJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentRepository;
+import com.coffee_is_essential.iot_cloud_ota.service.DeployJudgeScheduler;
+import com.coffee_is_essential.iot_cloud_ota.service.DeploymentRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DeploymentOutboxRelayTest {
+    private static final Long OUTBOX_ID = 5L;
+    private static final Long DEPLOYMENT_ID = 7L;
+    private static final String COMMAND_ID = "FW-test";
+
+    private final DeploymentOutboxRepository deploymentOutboxRepository = mock(DeploymentOutboxRepository.class);
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository = mock(FirmwareDeploymentRepository.class);
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository = mock(FirmwareDeploymentDeviceJdbcRepository.class);
+    private final DeploymentRedisService deploymentRedisService = mock(DeploymentRedisService.class);
+    private final DeployJudgeScheduler deployJudgeScheduler = mock(DeployJudgeScheduler.class);
+    private final MqttHandlerClient mqttHandlerClient = mock(MqttHandlerClient.class);
+    private final DeploymentOutboxRelay relay = new DeploymentOutboxRelay(
+            deploymentOutboxRepository,
+            firmwareDeploymentRepository,
+            firmwareDeploymentDeviceJdbcRepository,
+            mock(DeploymentStreamDispatcher.class),
+            deploymentRedisService,
+            deployJudgeScheduler,
+            mqttHandlerClient,
+            new SimpleMeterRegistry()
+    );
+
+    private final OffsetDateTime expiresAt = OffsetDateTime.now().plusHours(1);
+    private DeploymentOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "maxAttempts", 8);
+        ReflectionTestUtils.setField(relay, "backoffMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxBackoffMs", 60000L);
+        ReflectionTestUtils.setField(relay, "claimLeaseMs", 300000L);
+
+        outbox = new DeploymentOutbox(COMMAND_ID, DEPLOYMENT_ID, 0, 10L, 30L, "/api/firmwares/deployment", DispatchMode.INLINE, "{}");
+        ReflectionTestUtils.setField(outbox, "id", OUTBOX_ID);
+        when(deploymentOutboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(firmwareDeploymentRepository.findByIdOrElseThrow(DEPLOYMENT_ID))
+                .thenReturn(new FirmwareDeployment(COMMAND_ID, DeploymentType.DEVICE, OffsetDateTime.now(), expiresAt));
+        when(firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(eq(DEPLOYMENT_ID), eq(9L), eq(30L), anyInt()))
+                .thenReturn(List.of(10L, 20L, 30L));
+        when(firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(DEPLOYMENT_ID, List.of(10L, 20L, 30L)))
+                .thenReturn(Set.of(10L, 20L, 30L));
+    }
+
+    @Test
+    void skipsEntryClaimedByAnotherInstance() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(0);
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        verify(deploymentOutboxRepository, never()).findById(anyLong());
+        verifyNoInteractions(deploymentRedisService, deployJudgeScheduler, mqttHandlerClient);
+    }
+
+    @Test
+    void registersTargetsAndStartsJudgeBeforeSending() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        var order = inOrder(deploymentRedisService, deployJudgeScheduler, mqttHandlerClient);
+        order.verify(deploymentRedisService).addDevices(COMMAND_ID, List.of(10L, 20L, 30L), expiresAt);
+        order.verify(deployJudgeScheduler).startScheduler(COMMAND_ID);
+        order.verify(mqttHandlerClient).post(anyString(), eq(COMMAND_ID), eq("{}"));
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.SENT);
+        verify(deploymentOutboxRepository).save(outbox);
+    }
+
+    @Test
+    void retryRegistersOnlyDevicesStillInProgress() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+        when(firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(DEPLOYMENT_ID, List.of(10L, 20L, 30L)))
+                .thenReturn(Set.of(10L, 30L));
+        ReflectionTestUtils.setField(outbox, "attempts", 1);
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        verify(deploymentRedisService).addDevices(COMMAND_ID, List.of(10L, 30L), expiresAt);
+    }
+
+    @Test
+    void backsOffAfterServerError() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+        doThrow(new ResponseStatusException(HttpStatus.BAD_GATEWAY, "mqtt handler unavailable"))
+                .when(mqttHandlerClient).post(anyString(), eq(COMMAND_ID), eq("{}"));
+        OffsetDateTime before = OffsetDateTime.now();
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plusNanos(500 * 1_000_000L))
+                .isBeforeOrEqualTo(OffsetDateTime.now().plusNanos(1000 * 1_000_000L));
+        verify(deploymentOutboxRepository).save(outbox);
+    }
+
+    @Test
+    void failsImmediatelyOnClientError() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+        doThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid payload"))
+                .when(mqttHandlerClient).post(anyString(), eq(COMMAND_ID), eq("{}"));
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void failsAfterMaxAttempts() {
+        when(deploymentOutboxRepository.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+        doThrow(new IllegalStateException("connection reset"))
+                .when(mqttHandlerClient).post(anyString(), eq(COMMAND_ID), eq("{}"));
+        ReflectionTestUtils.setField(outbox, "attempts", 7);
+
+        ReflectionTestUtils.invokeMethod(relay, "deliver", OUTBOX_ID);
+
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(8);
+    }
+
+    @Test
+    void backoffGrowsExponentiallyUpToMaximum() {
+        for (int attempts = 0; attempts < 30; attempts++) {
+            long expected = Math.min(60000L, 1000L << Math.min(attempts, 20));
+            long delay = ReflectionTestUtils.invokeMethod(relay, "backoffDelay", attempts);
+
+            assertThat(delay).isBetween(expected / 2, expected);
+        }
+    }
+}
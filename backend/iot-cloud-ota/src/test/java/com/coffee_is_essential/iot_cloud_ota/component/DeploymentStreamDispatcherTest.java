@@ -0,0 +1,123 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.client.MqttHandlerClient;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareDeploymentDeviceJdbcRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeploymentStreamDispatcherTest {
+    private static final Long DEPLOYMENT_ID = 7L;
+    private static final String HEADER = "{\"commandId\":\"FW-stream\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MqttHandlerClient mqttHandlerClient = mock(MqttHandlerClient.class);
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository = mock(FirmwareDeploymentDeviceJdbcRepository.class);
+    private final DeploymentStreamDispatcher dispatcher = new DeploymentStreamDispatcher(
+            mqttHandlerClient,
+            objectMapper,
+            firmwareDeploymentDeviceJdbcRepository,
+            new SimpleMeterRegistry()
+    );
+
+    private final List<List<String>> sentBodies = new ArrayList<>();
+    private DeploymentOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "chunkSize", 2);
+        outbox = new DeploymentOutbox("FW-stream", DEPLOYMENT_ID, 0, 1L, 5L, "/api/firmwares/deployment", DispatchMode.STREAM, HEADER);
+
+        when(firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(DEPLOYMENT_ID, 0L, 5L, 2)).thenReturn(List.of(1L, 2L));
+        when(firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(DEPLOYMENT_ID, 2L, 5L, 2)).thenReturn(List.of(3L, 4L));
+        when(firmwareDeploymentDeviceJdbcRepository.findDeviceIdsBetween(DEPLOYMENT_ID, 4L, 5L, 2)).thenReturn(List.of(5L));
+    }
+
+    @Test
+    void writesHeaderAndChunksAsGzipNdjson() throws IOException {
+        respondWithAcks(0, 1, 2);
+
+        dispatcher.dispatch(outbox);
+
+        List<String> lines = sentBodies.get(0);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).isEqualTo(HEADER);
+        JsonNode lastChunk = objectMapper.readTree(lines.get(3));
+        assertThat(lastChunk.get("chunk").asInt()).isEqualTo(2);
+        assertThat(lastChunk.get("devices").get(0).get("deviceId").asLong()).isEqualTo(5L);
+        assertThat(outbox.getStreamedChunks()).isEqualTo(3);
+    }
+
+    @Test
+    void resumesFromLastAckedChunk() throws IOException {
+        respondWithAcks(0, 1);
+        assertThatThrownBy(() -> dispatcher.dispatch(outbox)).isInstanceOf(IllegalStateException.class);
+        assertThat(outbox.getStreamedChunks()).isEqualTo(2);
+        assertThat(outbox.getStreamedDeviceId()).isEqualTo(4L);
+
+        respondWithAcks(2);
+        dispatcher.dispatch(outbox);
+
+        List<String> resumed = sentBodies.get(1);
+        assertThat(resumed).hasSize(2);
+        assertThat(resumed.get(0)).isEqualTo(HEADER);
+        JsonNode chunk = objectMapper.readTree(resumed.get(1));
+        assertThat(chunk.get("chunk").asInt()).isEqualTo(2);
+        assertThat(chunk.get("devices")).hasSize(1);
+        assertThat(outbox.getStreamedChunks()).isEqualTo(3);
+        assertThat(outbox.getStreamedDeviceId()).isEqualTo(5L);
+    }
+
+    /**
+     * 스트림 본문을 기록해 보관하고, 주어진 청크 번호들에 대한 확인 응답을 돌려주도록 MQTT Handler 호출을 대체합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void respondWithAcks(int... chunks) throws IOException {
+        StringBuilder acks = new StringBuilder();
+        for (int chunk : chunks) {
+            acks.append("{\"chunk\":").append(chunk).append(",\"accepted\":2}\n");
+        }
+
+        RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse response = mock(RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(acks.toString().getBytes(StandardCharsets.UTF_8)));
+
+        doAnswer(invocation -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ((StreamingHttpOutputMessage.Body) invocation.getArgument(4)).writeTo(out);
+            sentBodies.add(decode(out.toByteArray()));
+            return ((RestClient.RequestHeadersSpec.ExchangeFunction<Object>) invocation.getArgument(5)).exchange(null, response);
+        }).when(mqttHandlerClient).stream(anyString(), eq("FW-stream"), any(), eq("gzip"), any(), any());
+    }
+
+    private static List<String> decode(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
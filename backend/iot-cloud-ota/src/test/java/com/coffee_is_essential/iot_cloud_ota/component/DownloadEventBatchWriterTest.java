@@ -0,0 +1,72 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.TimeoutEvent;
+import com.coffee_is_essential.iot_cloud_ota.repository.DownloadEventsJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DownloadEventBatchWriterTest {
+    private static final String COMMAND_ID = "FW-timeout";
+
+    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository = mock(DownloadEventsJdbcRepository.class);
+    private final DownloadEventBatchWriter writer = new DownloadEventBatchWriter(downloadEventsJdbcRepository, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 10);
+        writer.init();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesTimeoutsInBatchesBeforeReturning() {
+        List<List<Long>> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            written.add(((List<TimeoutEvent>) invocation.getArgument(0)).stream().map(TimeoutEvent::deviceId).toList());
+            return null;
+        }).when(downloadEventsJdbcRepository).saveTimeoutEvents(anyList());
+
+        writer.writeTimeouts(COMMAND_ID, List.of(1L, 2L, 3L));
+
+        assertThat(written).containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    @Test
+    void failedWriteThrowsAndKeepsEventsForRetry() {
+        doThrow(new IllegalStateException("questdb down"))
+                .doNothing()
+                .when(downloadEventsJdbcRepository).saveTimeoutEvents(anyList());
+
+        assertThatThrownBy(() -> writer.writeTimeouts(COMMAND_ID, List.of(1L)))
+                .isInstanceOf(IllegalStateException.class);
+
+        writer.flush();
+
+        verify(downloadEventsJdbcRepository, times(2)).saveTimeoutEvents(anyList());
+    }
+
+    @Test
+    void fullQueueThrows() {
+        ReflectionTestUtils.setField(writer, "queueCapacity", 1);
+        writer.init();
+
+        assertThatThrownBy(() -> writer.writeTimeouts(COMMAND_ID, List.of(1L, 2L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("full");
+    }
+}
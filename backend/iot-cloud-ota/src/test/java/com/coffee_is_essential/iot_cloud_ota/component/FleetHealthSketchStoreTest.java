@@ -0,0 +1,103 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceMembership;
+import com.coffee_is_essential.iot_cloud_ota.enums.FleetHealthMetric;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceStatusJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceTargetJdbcRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.NetworkStatusJdbcRepository;
+import com.datadoghq.sketch.ddsketch.DDSketch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FleetHealthSketchStoreTest {
+    private static final long REGION_ID = 1L;
+    private static final long DIVISION_ID = 10L;
+    private static final int DEVICES_PER_BUCKET = 100;
+
+    private final DeviceStatusJdbcRepository deviceStatusJdbcRepository = mock(DeviceStatusJdbcRepository.class);
+    private final NetworkStatusJdbcRepository networkStatusJdbcRepository = mock(NetworkStatusJdbcRepository.class);
+    private final FleetTopologyIndex fleetTopologyIndex = mock(FleetTopologyIndex.class);
+    private FleetHealthSketchStore store;
+
+    @BeforeEach
+    void setUp() {
+        Long2LongOpenHashMap regions = new Long2LongOpenHashMap();
+        Long2LongOpenHashMap divisions = new Long2LongOpenHashMap();
+        for (long deviceId = 1; deviceId <= DEVICES_PER_BUCKET * 2; deviceId++) {
+            regions.put(deviceId, REGION_ID);
+            divisions.put(deviceId, DIVISION_ID);
+        }
+        when(fleetTopologyIndex.isReady()).thenReturn(true);
+        when(fleetTopologyIndex.membership()).thenReturn(new DeviceMembership(regions, divisions));
+
+        // 첫 번째 버킷은 디바이스 1~100이 1~100, 두 번째 버킷은 디바이스 101~200이 101~200을 보고합니다.
+        AtomicInteger bucketIndex = new AtomicInteger();
+        doAnswer(invocation -> {
+            DeviceStatusJdbcRepository.SystemMetricsConsumer consumer = invocation.getArgument(2);
+            int offset = bucketIndex.getAndIncrement() * DEVICES_PER_BUCKET;
+            for (int i = 1; i <= DEVICES_PER_BUCKET; i++) {
+                double value = offset + i;
+                consumer.accept(offset + i, value, value, value, value);
+            }
+            return null;
+        }).when(deviceStatusJdbcRepository).streamDeviceAverages(any(), any(), any());
+
+        store = new FleetHealthSketchStore(
+                deviceStatusJdbcRepository,
+                networkStatusJdbcRepository,
+                mock(DeviceTargetJdbcRepository.class),
+                fleetTopologyIndex,
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(store, "bucketMs", Duration.ofMinutes(30).toMillis());
+        ReflectionTestUtils.setField(store, "settleMs", 0L);
+        ReflectionTestUtils.setField(store, "retentionHours", 1L);
+        ReflectionTestUtils.setField(store, "relativeAccuracy", 0.01);
+    }
+
+    @Test
+    void mergesBucketSketchesIntoWindowQuantiles() {
+        store.refresh();
+
+        FleetHealthSketchStore.Window window = store.window(Duration.ofHours(1).toMillis());
+        DDSketch[] region = window.byRegion().get(REGION_ID);
+        DDSketch[] division = window.byDivision().get(DIVISION_ID);
+
+        assertThat(Duration.between(window.from(), window.to())).isEqualTo(Duration.ofHours(1));
+        assertQuantiles(region[FleetHealthMetric.CPU_CORE_0.ordinal()]);
+        assertQuantiles(region[FleetHealthMetric.STORAGE_USAGE.ordinal()]);
+        assertQuantiles(division[FleetHealthMetric.MEMORY_USAGE.ordinal()]);
+        assertThat(region[FleetHealthMetric.SIGNAL_STRENGTH.ordinal()]).isNull();
+    }
+
+    @Test
+    void windowCoversOnlyLatestBucket() {
+        store.refresh();
+
+        DDSketch sketch = store.window(Duration.ofMinutes(30).toMillis())
+                .byRegion().get(REGION_ID)[FleetHealthMetric.CPU_CORE_0.ordinal()];
+
+        assertThat(sketch.getCount()).isEqualTo(DEVICES_PER_BUCKET);
+        assertThat(sketch.getMinValue()).isCloseTo(101.0, within(101.0 * 0.01));
+    }
+
+    private void assertQuantiles(DDSketch sketch) {
+        assertThat(sketch.getCount()).isEqualTo(DEVICES_PER_BUCKET * 2);
+        assertThat(sketch.getValueAtQuantile(0.5)).isCloseTo(100.0, within(100.0 * 0.02));
+        assertThat(sketch.getValueAtQuantile(0.95)).isCloseTo(190.0, within(190.0 * 0.02));
+        assertThat(sketch.getValueAtQuantile(0.99)).isCloseTo(198.0, within(198.0 * 0.02));
+    }
+}
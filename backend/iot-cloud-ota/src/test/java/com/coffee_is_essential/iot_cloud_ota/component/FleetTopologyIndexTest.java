@@ -0,0 +1,38 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import com.coffee_is_essential.iot_cloud_ota.repository.DeviceTargetJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class FleetTopologyIndexTest {
+    private final DeviceTargetJdbcRepository deviceTargetJdbcRepository = mock(DeviceTargetJdbcRepository.class);
+    private final FleetTopologyIndex index = new FleetTopologyIndex(deviceTargetJdbcRepository, new SimpleMeterRegistry());
+
+    @Test
+    void keepsDevicesSavedWhileRebuilding() {
+        doAnswer(invocation -> {
+            DeviceTargetJdbcRepository.TopologyConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1L, 10L, 100L);
+            // 스캔이 끝난 행이 이동하고, 스캔에 포함되지 않은 새 디바이스가 등록됨
+            index.onDeviceSaved(1L, 20L, 200L);
+            index.onDeviceSaved(2L, 10L, 100L);
+            consumer.accept(3L, 10L, 100L);
+            return null;
+        }).when(deviceTargetJdbcRepository).streamTopology(any());
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.resolve(List.of(), List.of(), List.of(10L))).containsExactly(2L, 3L);
+        assertThat(index.resolve(List.of(), List.of(), List.of(20L))).containsExactly(1L);
+        assertThat(index.countByDivision(100L)).isEqualTo(2L);
+        assertThat(index.countByDivision(200L)).isEqualTo(1L);
+    }
+}
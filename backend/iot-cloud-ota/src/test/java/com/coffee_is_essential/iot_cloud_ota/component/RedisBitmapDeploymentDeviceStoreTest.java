@@ -0,0 +1,93 @@
+package com.coffee_is_essential.iot_cloud_ota.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisSetCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisBitmapDeploymentDeviceStoreTest {
+    private static final String COMMAND_ID = "FW-bitmap";
+    private static final byte[] KEY = "deploy:devices:FW-bitmap".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OVERFLOW_KEY = "deploy:devices:FW-bitmap:overflow".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate srt = mock(StringRedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+    private final RedisSetCommands setCommands = mock(RedisSetCommands.class);
+    private final RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final RedisBitmapDeploymentDeviceStore store = new RedisBitmapDeploymentDeviceStore(srt);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(store, "maxDeviceId", 1000L);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.setCommands()).thenReturn(setCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(srt.opsForSet()).thenReturn(setOperations);
+        doAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of(true);
+        }).when(srt).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void routesOutOfRangeDeviceIdsToOverflowSet() {
+        store.add(COMMAND_ID, List.of(7L, 1001L, -1L), Duration.ofMinutes(10));
+
+        verify(stringCommands).setBit(KEY, 7L, true);
+        verify(stringCommands, never()).setBit(any(), eq(1001L), eq(true));
+        verify(setCommands).sAdd(OVERFLOW_KEY, "1001".getBytes(StandardCharsets.UTF_8));
+        verify(setCommands).sAdd(OVERFLOW_KEY, "-1".getBytes(StandardCharsets.UTF_8));
+        verify(keyCommands).expire(OVERFLOW_KEY, 600L);
+    }
+
+    @Test
+    void inRangeDeviceIdsDoNotTouchOverflowSet() {
+        store.add(COMMAND_ID, List.of(0L, 1000L), Duration.ofMinutes(10));
+
+        verify(stringCommands).setBit(KEY, 0L, true);
+        verify(stringCommands).setBit(KEY, 1000L, true);
+        verify(setCommands, never()).sAdd(any(), any());
+        verify(keyCommands, never()).expire(eq(OVERFLOW_KEY), anyLong());
+    }
+
+    @Test
+    void findsMembersInBitmapAndOverflowSet() {
+        when(setOperations.isMember("deploy:devices:FW-bitmap:overflow", new Object[]{"5000"})).thenReturn(Map.of("5000", true));
+
+        assertThat(store.findMembers(COMMAND_ID, List.of(7L, 5000L))).containsExactly(7L, 5000L);
+        verify(stringCommands, never()).getBit(any(), eq(5000L));
+    }
+
+    @Test
+    void rejectsMaxDeviceIdBeyondSetBitOffsetLimit() {
+        ReflectionTestUtils.setField(store, "maxDeviceId", 1L << 32);
+
+        assertThatThrownBy(store::init).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.SystemStatus;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DeviceStatusJdbcRepositoryTest {
+    private final NamedParameterJdbcTemplate namedJdbc = mock(NamedParameterJdbcTemplate.class);
+    private final DeviceStatusJdbcRepository repository = new DeviceStatusJdbcRepository(mock(JdbcTemplate.class), namedJdbc);
+
+    @Test
+    void queriesLatestStatusInChunksOfOneThousandIds() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+        long[] currentDeviceId = new long[1];
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("device_id")).thenAnswer(invocation -> currentDeviceId[0]);
+
+        doAnswer(invocation -> {
+            List<?> chunk = (List<?>) invocation.<Map<String, ?>>getArgument(1).get("ids");
+            chunkSizes.add(chunk.size());
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (Object id : chunk) {
+                currentDeviceId[0] = (Long) id;
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(namedJdbc).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+
+        List<Long> deviceIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+        Long2ObjectMap<SystemStatus> result = repository.findLatestByDeviceIds(deviceIds);
+
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(result).hasSize(2500);
+        assertThat(result.get(2500L).getDeviceId()).isEqualTo(2500L);
+    }
+
+    @Test
+    void emptyDeviceIdsSkipQuery() {
+        assertThat(repository.findLatestByDeviceIds(List.of())).isEmpty();
+
+        verifyNoInteractions(namedJdbc);
+    }
+}
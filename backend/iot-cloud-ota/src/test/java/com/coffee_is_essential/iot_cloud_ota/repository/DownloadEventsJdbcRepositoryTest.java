@@ -0,0 +1,47 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDownloadEvents;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DownloadEventsJdbcRepositoryTest {
+    private final NamedParameterJdbcTemplate namedJdbc = mock(NamedParameterJdbcTemplate.class);
+    private final DownloadEventsJdbcRepository repository = new DownloadEventsJdbcRepository(mock(JdbcTemplate.class), namedJdbc, mock(JdbcTemplate.class));
+
+    @Test
+    void readsEventTimestampAsUtcInstant() throws Exception {
+        OffsetDateTime occurredAt = OffsetDateTime.of(2026, 10, 18, 3, 0, 0, 123_456_000, ZoneOffset.UTC);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("command_id")).thenReturn("FW-tail");
+        when(rs.getString("status")).thenReturn("SUCCESS");
+        when(rs.getLong("device_id")).thenReturn(1L);
+        when(rs.getObject("timestamp", OffsetDateTime.class)).thenReturn(occurredAt);
+
+        doAnswer(invocation -> List.of(invocation.<RowMapper<FirmwareDownloadEvents>>getArgument(2).mapRow(rs, 1)))
+                .when(namedJdbc).query(anyString(), anyMap(), any(RowMapper.class));
+
+        List<FirmwareDownloadEvents> events = repository.findTerminalEventsSince(Set.of("FW-tail"), List.of("SUCCESS"), occurredAt.minusSeconds(10));
+
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getTimestamp().toInstant()).isEqualTo(occurredAt.toInstant()));
+        verify(rs, never()).getTimestamp(anyString());
+    }
+}
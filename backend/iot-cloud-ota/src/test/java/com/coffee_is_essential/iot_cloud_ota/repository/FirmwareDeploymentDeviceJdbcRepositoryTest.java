@@ -0,0 +1,75 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FirmwareDeploymentDeviceJdbcRepositoryTest {
+    private static final Long DEPLOYMENT_ID = 7L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final FirmwareDeploymentDeviceJdbcRepository repository =
+            new FirmwareDeploymentDeviceJdbcRepository(jdbcTemplate, mock(NamedParameterJdbcTemplate.class));
+
+    @Test
+    void thousandRowsFitInOneStatement() {
+        repository.saveAll(DEPLOYMENT_ID, transitions(1000));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+
+        assertThat(rowCount(sql.getValue())).isEqualTo(1000);
+        assertThat(args.getValue()).hasSize(5000);
+    }
+
+    @Test
+    void rowPastChunkBoundaryStartsNewStatement() {
+        repository.saveAll(DEPLOYMENT_ID, transitions(1001));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), args.capture());
+
+        List<String> statements = sql.getAllValues();
+        assertThat(rowCount(statements.get(0))).isEqualTo(1000);
+        assertThat(statements.get(1)).isEqualTo(
+                "INSERT INTO firmware_deployment_device (device_id, deployment_id, deployment_status, created_at, modified_at) VALUES (?, ?, ?, ?, ?)");
+
+        Object[] lastChunk = args.getAllValues().get(1);
+        assertThat(lastChunk).hasSize(5);
+        assertThat(lastChunk[0]).isEqualTo(1001L);
+        assertThat(lastChunk[1]).isEqualTo(DEPLOYMENT_ID);
+        assertThat(lastChunk[2]).isEqualTo("IN_PROGRESS");
+        assertThat(lastChunk[3]).isEqualTo(lastChunk[4]);
+    }
+
+    @Test
+    void emptyTransitionsSkipInsert() {
+        repository.saveAll(DEPLOYMENT_ID, List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static List<DeviceStatusTransition> transitions(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(deviceId -> new DeviceStatusTransition(deviceId, DeploymentStatus.IN_PROGRESS))
+                .toList();
+    }
+
+    private static int rowCount(String sql) {
+        return sql.split("\\(\\?, \\?, \\?, \\?, \\?\\)", -1).length - 1;
+    }
+}
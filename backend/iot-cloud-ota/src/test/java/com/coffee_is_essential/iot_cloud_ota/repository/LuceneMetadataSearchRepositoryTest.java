@@ -0,0 +1,68 @@
+package com.coffee_is_essential.iot_cloud_ota.repository;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchDocument;
+import com.coffee_is_essential.iot_cloud_ota.domain.SearchHits;
+import com.coffee_is_essential.iot_cloud_ota.enums.SearchDocumentType;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.SearcherManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LuceneMetadataSearchRepositoryTest {
+    private final LuceneMetadataSearchRepository repository = new LuceneMetadataSearchRepository();
+
+    @BeforeEach
+    void setUp() {
+        repository.rebuild(sink -> {
+            sink.accept(new SearchDocument(SearchDocumentType.FIRMWARE, 1L, Map.of("version", "1.0.0", "releaseNote", "battery fix")));
+            sink.accept(new SearchDocument(SearchDocumentType.FIRMWARE, 2L, Map.of("version", "1.1.0", "releaseNote", "display update")));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void keywordWithoutTokensMatchesNothing() {
+        SearchHits hits = repository.search(SearchDocumentType.FIRMWARE, "-", 0, 10);
+
+        assertThat(hits.ids()).isEmpty();
+        assertThat(hits.totalHits()).isZero();
+    }
+
+    @Test
+    void keywordMatchesAnalyzedTokens() {
+        SearchHits hits = repository.search(SearchDocumentType.FIRMWARE, "battery", 0, 10);
+
+        assertThat(hits.ids()).containsExactly(1L);
+    }
+
+    @Test
+    void replacedIndexStaysOpenUntilInFlightSearchReleasesIt() throws IOException {
+        Object inFlight = ReflectionTestUtils.invokeMethod(repository, "acquireIndex");
+        SearcherManager searcherManager = (SearcherManager) ReflectionTestUtils.getField(inFlight, "searcherManager");
+
+        repository.rebuild(sink -> sink.accept(new SearchDocument(SearchDocumentType.FIRMWARE, 3L, Map.of("version", "2.0.0"))));
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            assertThat(searcher.count(new MatchAllDocsQuery())).isEqualTo(2);
+        } finally {
+            searcherManager.release(searcher);
+        }
+        ReflectionTestUtils.invokeMethod(inFlight, "decRef");
+
+        assertThat((boolean) ReflectionTestUtils.invokeMethod(inFlight, "tryIncRef")).isFalse();
+        assertThat(repository.search(SearchDocumentType.FIRMWARE, "2.0.0", 0, 10).ids()).containsExactly(3L);
+    }
+}
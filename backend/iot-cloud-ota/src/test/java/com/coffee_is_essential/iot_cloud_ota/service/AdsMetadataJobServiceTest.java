@@ -0,0 +1,115 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.dto.AdsMetadataJobResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.AdsMetadataRequestDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.SaveAdvertisementMetadataResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.enums.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdsMetadataJobServiceTest {
+    private static final String JOB_ID = "job-1";
+    private static final AdsMetadataRequestDto REQUEST = new AdsMetadataRequestDto("title", "description", "original-path", "binary-path");
+    private static final S3FileHashResult HASH = new S3FileHashResult(1024L, "aa11");
+
+    private final AdsService adsService = mock(AdsService.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final MultipartUploadService multipartUploadService = mock(MultipartUploadService.class);
+    private final AdsMetadataJobService service = new AdsMetadataJobService(adsService, s3Service, multipartUploadService);
+
+    @Test
+    void completesWithHashFromS3WhenNoMultipartRecordExists() {
+        SaveAdvertisementMetadataResponseDto saved = saved();
+        jobs().put(JOB_ID, AdsMetadataJobResponseDto.pending(JOB_ID));
+        when(multipartUploadService.findCompletedUpload("binary-path")).thenReturn(Optional.empty());
+        when(s3Service.calculateS3FileHash("binary-path")).thenAnswer(invocation -> {
+            assertThat(service.findJob(JOB_ID).status()).isEqualTo(JobStatus.RUNNING);
+            return HASH;
+        });
+        when(adsService.saveAdvertisementMetadata(REQUEST, HASH)).thenReturn(saved);
+
+        run();
+
+        AdsMetadataJobResponseDto job = service.findJob(JOB_ID);
+        assertThat(job.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.result()).isEqualTo(saved);
+        assertThat(job.error()).isNull();
+    }
+
+    @Test
+    void usesVerifiedMultipartHashWithoutReadingS3() {
+        jobs().put(JOB_ID, AdsMetadataJobResponseDto.pending(JOB_ID));
+        when(multipartUploadService.findCompletedUpload("binary-path")).thenReturn(Optional.of(HASH));
+        when(adsService.saveAdvertisementMetadata(REQUEST, HASH)).thenReturn(saved());
+
+        run();
+
+        assertThat(service.findJob(JOB_ID).status()).isEqualTo(JobStatus.COMPLETED);
+        verify(s3Service, never()).calculateS3FileHash("binary-path");
+    }
+
+    @Test
+    void failsWithReasonOfRejectedRequest() {
+        jobs().put(JOB_ID, AdsMetadataJobResponseDto.pending(JOB_ID));
+        when(multipartUploadService.findCompletedUpload("binary-path")).thenReturn(Optional.empty());
+        when(s3Service.calculateS3FileHash("binary-path")).thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "S3 접근 오류"));
+
+        run();
+
+        AdsMetadataJobResponseDto job = service.findJob(JOB_ID);
+        assertThat(job.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.error()).isEqualTo("S3 접근 오류");
+        assertThat(job.result()).isNull();
+    }
+
+    @Test
+    void failsWithGenericReasonOnUnexpectedError() {
+        jobs().put(JOB_ID, AdsMetadataJobResponseDto.pending(JOB_ID));
+        when(multipartUploadService.findCompletedUpload("binary-path")).thenReturn(Optional.of(HASH));
+        when(adsService.saveAdvertisementMetadata(REQUEST, HASH)).thenThrow(new IllegalStateException("db down"));
+
+        run();
+
+        AdsMetadataJobResponseDto job = service.findJob(JOB_ID);
+        assertThat(job.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.error()).isEqualTo("광고 메타데이터 등록 실패");
+    }
+
+    @Test
+    void evictsOnlyOldFinishedJobs() {
+        OffsetDateTime old = OffsetDateTime.now().minusHours(2);
+        jobs().put("old-completed", new AdsMetadataJobResponseDto("old-completed", JobStatus.COMPLETED, null, null, old));
+        jobs().put("old-running", new AdsMetadataJobResponseDto("old-running", JobStatus.RUNNING, null, null, old));
+        jobs().put("recent-failed", AdsMetadataJobResponseDto.pending("recent-failed").failed("error"));
+
+        service.evictFinishedJobs();
+
+        assertThat(jobs()).containsOnlyKeys("old-running", "recent-failed");
+    }
+
+    private void run() {
+        ReflectionTestUtils.invokeMethod(service, "run", JOB_ID, REQUEST);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, AdsMetadataJobResponseDto> jobs() {
+        return (Map<String, AdsMetadataJobResponseDto>) ReflectionTestUtils.getField(service, "jobs");
+    }
+
+    private static SaveAdvertisementMetadataResponseDto saved() {
+        return new SaveAdvertisementMetadataResponseDto(1L, "title", "description", null, null);
+    }
+}
@@ -0,0 +1,174 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDownloadEvents;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentType;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeployJudgeSchedulerTest {
+    private static final Long DEPLOYMENT_ID = 7L;
+    private static final String COMMAND_ID = "FW-judge";
+
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository = mock(FirmwareDeploymentRepository.class);
+    private final DeploymentProgressService deploymentProgressService = mock(DeploymentProgressService.class);
+    private final DeploymentRedisService deploymentRedisService = mock(DeploymentRedisService.class);
+    private final DeviceService deviceService = mock(DeviceService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final DeployJudgeScheduler scheduler = new DeployJudgeScheduler(
+            firmwareDeploymentRepository,
+            deploymentProgressService,
+            mock(OverallDeploymentStatusRepository.class),
+            deploymentRedisService,
+            mock(DownloadEventsJdbcRepository.class),
+            deviceService,
+            mock(DeploymentRolloutRepository.class),
+            transactionTemplate,
+            new SimpleMeterRegistry()
+    );
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "intervalSeconds", 60L);
+
+        FirmwareDeployment deployment = new FirmwareDeployment(COMMAND_ID, DeploymentType.DEVICE, OffsetDateTime.now(), OffsetDateTime.now().plusHours(1));
+        ReflectionTestUtils.setField(deployment, "id", DEPLOYMENT_ID);
+        when(firmwareDeploymentRepository.findByCommandIdOrElseThrow(COMMAND_ID)).thenReturn(deployment);
+        when(deploymentRedisService.findRemainingDeviceIds(eq(COMMAND_ID), any())).thenReturn(List.of(1L));
+        when(deploymentRedisService.countDevices(COMMAND_ID)).thenReturn(1L);
+
+        scheduler.startScheduler(COMMAND_ID);
+    }
+
+    @Test
+    void removesDevicesFromRedisOnlyAfterTransactionCommits() {
+        runTransactionsInline();
+        when(deploymentProgressService.recordTransitions(eq(DEPLOYMENT_ID), anyList())).thenReturn(Set.of(1L));
+
+        scheduler.judgeEvents(COMMAND_ID, List.of(event(1L, "SUCCESS")));
+
+        var order = inOrder(deploymentProgressService, deviceService, transactionTemplate, deploymentRedisService);
+        order.verify(transactionTemplate).executeWithoutResult(any());
+        order.verify(deploymentRedisService).deleteDevices(eq(COMMAND_ID), anyList());
+        verify(deploymentProgressService).recordTransitions(eq(DEPLOYMENT_ID), anyList());
+        verify(deviceService).updateDeviceFirmware(eq(COMMAND_ID), anyList());
+    }
+
+    @Test
+    void updatesDeviceFirmwareOnlyForAppliedTransitions() {
+        runTransactionsInline();
+        when(deploymentRedisService.findRemainingDeviceIds(eq(COMMAND_ID), any())).thenReturn(List.of(1L, 2L));
+        when(deploymentProgressService.recordTransitions(eq(DEPLOYMENT_ID), anyList())).thenReturn(Set.of(2L));
+
+        scheduler.judgeEvents(COMMAND_ID, List.of(event(1L, "SUCCESS"), event(2L, "SUCCESS")));
+
+        verify(deviceService).updateDeviceFirmware(eq(COMMAND_ID), argThat(events ->
+                events.size() == 1 && events.get(0).getDeviceId() == 2L));
+    }
+
+    @Test
+    void skipsDeviceUpdateWhenTransitionsWereAlreadyRecorded() {
+        runTransactionsInline();
+        when(deploymentProgressService.recordTransitions(eq(DEPLOYMENT_ID), anyList())).thenReturn(Set.of());
+
+        scheduler.judgeEvents(COMMAND_ID, List.of(event(1L, "SUCCESS")));
+
+        verify(deviceService, never()).updateDeviceFirmware(anyString(), anyList());
+        verify(deploymentRedisService).deleteDevices(eq(COMMAND_ID), anyList());
+    }
+
+    @Test
+    void keepsDevicesInRedisWhenTransactionFails() {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("commit failed");
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        scheduler.judgeEvents(COMMAND_ID, List.of(event(1L, "SUCCESS")));
+
+        verify(deploymentRedisService, never()).deleteDevices(anyString(), anyList());
+    }
+
+    @Test
+    void keepsExpiredDeploymentInRedisWhenTimeoutEventsAreNotWritten() {
+        FirmwareDeployment expired = new FirmwareDeployment(COMMAND_ID, DeploymentType.DEVICE, OffsetDateTime.now().minusHours(2), OffsetDateTime.now().minusHours(1));
+        ReflectionTestUtils.setField(expired, "id", DEPLOYMENT_ID);
+        when(deploymentRedisService.getAllDeviceIdsFromRedisById(COMMAND_ID)).thenReturn(List.of(1L));
+        doThrow(new IllegalStateException("questdb down")).when(deploymentRedisService).saveTimeoutDevices(COMMAND_ID, List.of(1L));
+
+        ReflectionTestUtils.invokeMethod(scheduler, "withJudgeLock", COMMAND_ID,
+                (Runnable) () -> ReflectionTestUtils.invokeMethod(scheduler, "judge", expired, List.of(1L), List.of()));
+
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(deploymentRedisService, never()).deleteDeployment(anyString());
+        assertThat(scheduler.getActiveCommandIds()).contains(COMMAND_ID);
+    }
+
+    @Test
+    void judgeLoopRunsOnItsOwnSchedulerThread() {
+        ReflectionTestUtils.setField(scheduler, "tickMs", 10L);
+        ReflectionTestUtils.setField(scheduler, "workerCount", 1);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 100);
+        ReflectionTestUtils.setField(scheduler, "intervalSeconds", 0L);
+        scheduler.stopScheduler(COMMAND_ID);
+        scheduler.startScheduler(COMMAND_ID);
+
+        scheduler.init();
+        try {
+            verify(firmwareDeploymentRepository, timeout(2000).atLeastOnce()).findAllByCommandIdIn(Set.of(COMMAND_ID));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void releasesJudgeLockAfterStop() {
+        scheduler.stopScheduler(COMMAND_ID);
+        ReflectionTestUtils.invokeMethod(scheduler, "withJudgeLock", COMMAND_ID, (Runnable) () -> {
+        });
+
+        Map<?, ?> judgeLocks = (Map<?, ?>) ReflectionTestUtils.getField(scheduler, "judgeLocks");
+        assertThat(judgeLocks).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static FirmwareDownloadEvents event(Long deviceId, String status) {
+        FirmwareDownloadEvents event = new FirmwareDownloadEvents();
+        event.setCommand_id(COMMAND_ID);
+        event.setDeviceId(deviceId);
+        event.setStatus(status);
+        return event;
+    }
+}
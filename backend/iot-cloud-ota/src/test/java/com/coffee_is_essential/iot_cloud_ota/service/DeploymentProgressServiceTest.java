@@ -0,0 +1,75 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.domain.DeviceStatusTransition;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeploymentProgressServiceTest {
+    private static final Long DEPLOYMENT_ID = 7L;
+
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository = mock(FirmwareDeploymentDeviceJdbcRepository.class);
+    private final DeploymentProgressJdbcRepository deploymentProgressJdbcRepository = mock(DeploymentProgressJdbcRepository.class);
+    private final DeploymentProgressService service = new DeploymentProgressService(
+            firmwareDeploymentDeviceJdbcRepository,
+            mock(FirmwareDeploymentDeviceRepository.class),
+            mock(FirmwareDeploymentRepository.class),
+            mock(DeploymentProgressRepository.class),
+            deploymentProgressJdbcRepository,
+            mock(OverallDeploymentStatusRepository.class),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    void recordsOnlyDevicesStillInProgress() {
+        when(firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(eq(DEPLOYMENT_ID), any()))
+                .thenReturn(new HashSet<>(Set.of(1L, 3L)));
+
+        Set<Long> recorded = service.recordTransitions(DEPLOYMENT_ID, List.of(
+                new DeviceStatusTransition(1L, DeploymentStatus.SUCCESS),
+                new DeviceStatusTransition(2L, DeploymentStatus.SUCCESS),
+                new DeviceStatusTransition(3L, DeploymentStatus.FAILED)
+        ));
+
+        assertThat(recorded).containsExactlyInAnyOrder(1L, 3L);
+        verify(deploymentProgressJdbcRepository).lockDeployment(DEPLOYMENT_ID);
+        verify(firmwareDeploymentDeviceJdbcRepository).saveAll(DEPLOYMENT_ID, List.of(
+                new DeviceStatusTransition(1L, DeploymentStatus.SUCCESS),
+                new DeviceStatusTransition(3L, DeploymentStatus.FAILED)
+        ));
+        verify(deploymentProgressJdbcRepository).increment(DEPLOYMENT_ID, Map.of(
+                DeploymentStatus.SUCCESS, 1L,
+                DeploymentStatus.FAILED, 1L,
+                DeploymentStatus.IN_PROGRESS, -2L
+        ));
+    }
+
+    @Test
+    void replayedTransitionsDoNotChangeCounters() {
+        when(firmwareDeploymentDeviceJdbcRepository.findInProgressDeviceIds(eq(DEPLOYMENT_ID), any()))
+                .thenReturn(new HashSet<>());
+
+        Set<Long> recorded = service.recordTransitions(DEPLOYMENT_ID, List.of(
+                new DeviceStatusTransition(1L, DeploymentStatus.SUCCESS)
+        ));
+
+        assertThat(recorded).isEmpty();
+        verify(firmwareDeploymentDeviceJdbcRepository, never()).saveAll(anyLong(), any());
+        verify(deploymentProgressJdbcRepository, never()).increment(any(), any());
+    }
+}
@@ -0,0 +1,130 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.component.DeploymentTargetResolver;
+import com.coffee_is_essential.iot_cloud_ota.component.ListCountCache;
+import com.coffee_is_essential.iot_cloud_ota.domain.*;
+import com.coffee_is_essential.iot_cloud_ota.dto.AdsDeploymentListDto;
+import com.coffee_is_essential.iot_cloud_ota.dto.CursorListResponseDto;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentType;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class DeploymentServiceTest {
+    private static final DeploymentType[] TYPES = {DeploymentType.DEVICE, DeploymentType.DIVISION, DeploymentType.REGION};
+
+    private final FirmwareDeploymentRepository firmwareDeploymentRepository = mock(FirmwareDeploymentRepository.class);
+    private final FirmwareDeploymentDeviceRepository firmwareDeploymentDeviceRepository = mock(FirmwareDeploymentDeviceRepository.class);
+    private final DeploymentProgressService deploymentProgressService = mock(DeploymentProgressService.class);
+    private final OverallDeploymentStatusRepository overallDeploymentStatusRepository = mock(OverallDeploymentStatusRepository.class);
+    private final DeploymentService service = new DeploymentService(
+            mock(FirmwareMetadataJpaRepository.class),
+            firmwareDeploymentRepository,
+            firmwareDeploymentDeviceRepository,
+            deploymentProgressService,
+            mock(AdsDeploymentJpaRepository.class),
+            mock(AdsMetadataJpaRepository.class),
+            mock(DeploymentTargetResolver.class),
+            overallDeploymentStatusRepository,
+            mock(DeploymentDispatchService.class),
+            mock(RolloutService.class),
+            mock(DownloadEventsJdbcRepository.class),
+            mock(CloudFrontSignedUrlService.class),
+            mock(ListCountCache.class)
+    );
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void pagedListRunsFixedNumberOfQueries(int pageSize) {
+        List<FirmwareDeployment> deployments = stubListQueries(pageSize);
+        when(firmwareDeploymentRepository.findAllByFirmwareMetadataIsNull(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(deployments, PageRequest.of(0, pageSize), pageSize));
+
+        AdsDeploymentListDto result = service.getAdsDeploymentList(new PaginationInfo(1, pageSize, null));
+
+        assertThat(result).isNotNull();
+        verify(firmwareDeploymentRepository).findAllByFirmwareMetadataIsNull(any(Pageable.class));
+        verifyListQueriesRanOnce();
+        verifyNoMoreInteractions(firmwareDeploymentRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void cursorListRunsFixedNumberOfQueries(int pageSize) {
+        List<FirmwareDeployment> deployments = stubListQueries(pageSize);
+        when(firmwareDeploymentRepository.findAdsDeploymentsBefore(any(), any(), any(Pageable.class))).thenReturn(deployments);
+
+        CursorListResponseDto<AdsDeploymentMetadata> result = service.getAdsDeploymentListByCursor(CursorInfo.of(null, pageSize, false));
+
+        assertThat(result.items()).hasSize(pageSize);
+        verify(firmwareDeploymentRepository).findAdsDeploymentsBefore(any(), any(), any(Pageable.class));
+        verifyListQueriesRanOnce();
+        verifyNoMoreInteractions(firmwareDeploymentRepository);
+    }
+
+    /**
+     * 배포 타입을 돌아가며 섞은 배포 목록을 만들고, 목록 조합에 필요한 일괄 조회를 대체합니다.
+     */
+    private List<FirmwareDeployment> stubListQueries(int count) {
+        List<FirmwareDeployment> deployments = LongStream.rangeClosed(1, count)
+                .mapToObj(id -> {
+                    FirmwareDeployment deployment = new FirmwareDeployment("AD-" + id, TYPES[(int) (id % TYPES.length)], OffsetDateTime.now(), OffsetDateTime.now().plusHours(1));
+                    ReflectionTestUtils.setField(deployment, "id", id);
+                    ReflectionTestUtils.setField(deployment, "createdAt", OffsetDateTime.now());
+                    return deployment;
+                })
+                .toList();
+        Map<Long, ProgressCount> progressCounts = deployments.stream()
+                .collect(Collectors.toMap(FirmwareDeployment::getId, deployment -> new ProgressCount(1, 1, 0, 0, 0)));
+        List<DeploymentOverallStatus> overallStatuses = deployments.stream()
+                .map(deployment -> new DeploymentOverallStatus(deployment.getId(), "IN_PROGRESS"))
+                .toList();
+
+        when(deploymentProgressService.getProgressCounts(anyCollection())).thenReturn(progressCounts);
+        when(overallDeploymentStatusRepository.findLatestByDeploymentIds(anyCollection())).thenReturn(overallStatuses);
+        when(firmwareDeploymentDeviceRepository.findDeviceInfoByDeploymentIds(anyCollection())).thenAnswer(invocation -> targets(invocation.getArgument(0)));
+        when(firmwareDeploymentDeviceRepository.findDivisionInfoByDeploymentIds(anyCollection())).thenAnswer(invocation -> targets(invocation.getArgument(0)));
+        when(firmwareDeploymentDeviceRepository.findRegionInfoByDeploymentIds(anyCollection())).thenAnswer(invocation -> targets(invocation.getArgument(0)));
+
+        return deployments;
+    }
+
+    /**
+     * 페이지 크기와 관계없이 상태 카운트 1회, 전체 상태 1회, 배포 타입별 대상 조회 최대 1회씩만 수행했는지 확인합니다.
+     */
+    private void verifyListQueriesRanOnce() {
+        verify(deploymentProgressService).getProgressCounts(anyCollection());
+        verify(overallDeploymentStatusRepository).findLatestByDeploymentIds(anyCollection());
+        verify(firmwareDeploymentDeviceRepository, atMostOnce()).findDeviceInfoByDeploymentIds(anyCollection());
+        verify(firmwareDeploymentDeviceRepository, atMostOnce()).findDivisionInfoByDeploymentIds(anyCollection());
+        verify(firmwareDeploymentDeviceRepository, atMostOnce()).findRegionInfoByDeploymentIds(anyCollection());
+        verifyNoMoreInteractions(deploymentProgressService, overallDeploymentStatusRepository, firmwareDeploymentDeviceRepository);
+    }
+
+    private static List<DeploymentTarget> targets(Collection<Long> deploymentIds) {
+        return deploymentIds.stream()
+                .map(id -> new DeploymentTarget(id, id, "target-" + id))
+                .collect(Collectors.toList());
+    }
+}
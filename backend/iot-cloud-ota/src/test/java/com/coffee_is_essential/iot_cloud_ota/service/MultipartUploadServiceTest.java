@@ -0,0 +1,78 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultipartUploadServiceTest {
+    private static final String PATH = "upload-path";
+    private static final String COMPLETED_KEY = "upload:completed:" + PATH;
+    private static final String CLAIMED_HASH = "aa11";
+
+    private final StringRedisTemplate srt = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final MultipartUploadService service = new MultipartUploadService(mock(AmazonS3.class), srt, s3Service);
+
+    @BeforeEach
+    void setUp() {
+        when(srt.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    void unverifiedHashIsNotUsed() {
+        when(hashOperations.entries(COMPLETED_KEY)).thenReturn(completed("PENDING"));
+
+        assertThat(service.findCompletedUpload(PATH)).isEmpty();
+    }
+
+    @Test
+    void verifiedHashIsUsed() {
+        when(hashOperations.entries(COMPLETED_KEY)).thenReturn(completed("VERIFIED"));
+
+        assertThat(service.findCompletedUpload(PATH)).contains(new S3FileHashResult(1024L, CLAIMED_HASH));
+    }
+
+    @Test
+    void mismatchedHashIsRejected() {
+        when(hashOperations.entries(COMPLETED_KEY)).thenReturn(completed("MISMATCH"));
+
+        assertThatThrownBy(() -> service.findCompletedUpload(PATH)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void verificationRecordsMismatch() {
+        when(s3Service.calculateS3FileHash(PATH)).thenReturn(new S3FileHashResult(1024L, "bb22"));
+
+        ReflectionTestUtils.invokeMethod(service, "verifyHash", PATH, CLAIMED_HASH);
+
+        verify(hashOperations).put(COMPLETED_KEY, "verification", "MISMATCH");
+    }
+
+    @Test
+    void verificationRecordsMatch() {
+        when(s3Service.calculateS3FileHash(PATH)).thenReturn(new S3FileHashResult(1024L, CLAIMED_HASH));
+
+        ReflectionTestUtils.invokeMethod(service, "verifyHash", PATH, CLAIMED_HASH);
+
+        verify(hashOperations).put(COMPLETED_KEY, "verification", "VERIFIED");
+    }
+
+    private static Map<Object, Object> completed(String verification) {
+        return Map.of("fileSize", "1024", "fileHash", CLAIMED_HASH, "verification", verification);
+    }
+}
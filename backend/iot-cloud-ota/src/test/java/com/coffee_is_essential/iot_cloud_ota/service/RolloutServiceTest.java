@@ -0,0 +1,126 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentOutbox;
+import com.coffee_is_essential.iot_cloud_ota.entity.DeploymentRollout;
+import com.coffee_is_essential.iot_cloud_ota.entity.FirmwareDeployment;
+import com.coffee_is_essential.iot_cloud_ota.enums.DeploymentType;
+import com.coffee_is_essential.iot_cloud_ota.enums.DispatchMode;
+import com.coffee_is_essential.iot_cloud_ota.enums.OutboxStatus;
+import com.coffee_is_essential.iot_cloud_ota.enums.RolloutStatus;
+import com.coffee_is_essential.iot_cloud_ota.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RolloutServiceTest {
+    private static final Long ROLLOUT_ID = 3L;
+    private static final Long DEPLOYMENT_ID = 7L;
+    private static final String COMMAND_ID = "FW-rollout";
+
+    private final DeploymentRolloutRepository deploymentRolloutRepository = mock(DeploymentRolloutRepository.class);
+    private final FirmwareDeploymentDeviceJdbcRepository firmwareDeploymentDeviceJdbcRepository = mock(FirmwareDeploymentDeviceJdbcRepository.class);
+    private final DownloadEventsJdbcRepository downloadEventsJdbcRepository = mock(DownloadEventsJdbcRepository.class);
+    private final DeploymentOutboxRepository deploymentOutboxRepository = mock(DeploymentOutboxRepository.class);
+    private final DeploymentDispatchService deploymentDispatchService = mock(DeploymentDispatchService.class);
+    private final RolloutService service = new RolloutService(
+            deploymentRolloutRepository,
+            mock(FirmwareDeploymentRepository.class),
+            firmwareDeploymentDeviceJdbcRepository,
+            downloadEventsJdbcRepository,
+            deploymentOutboxRepository,
+            mock(OverallDeploymentStatusRepository.class),
+            deploymentDispatchService,
+            mock(DeploymentProgressService.class),
+            mock(DeploymentRedisService.class),
+            mock(DeployJudgeScheduler.class),
+            mock(CloudFrontSignedUrlService.class),
+            mock(TransactionTemplate.class),
+            new SimpleMeterRegistry()
+    );
+
+    private DeploymentRollout rollout;
+
+    @BeforeEach
+    void setUp() {
+        FirmwareDeployment deployment = new FirmwareDeployment(COMMAND_ID, DeploymentType.GROUP, OffsetDateTime.now(), OffsetDateTime.now().plusHours(1));
+        ReflectionTestUtils.setField(deployment, "id", DEPLOYMENT_ID);
+
+        // 카나리 50대(1~50) 이후 두 번째 웨이브 10대(51~60)가 배포된 상태
+        rollout = new DeploymentRollout(deployment, 50, 10, 0, 0.9, 100);
+        ReflectionTestUtils.setField(rollout, "id", ROLLOUT_ID);
+        rollout.recordWave(50, 50L, OffsetDateTime.now());
+        rollout.recordWave(10, 60L, OffsetDateTime.now());
+
+        when(deploymentRolloutRepository.findById(ROLLOUT_ID)).thenReturn(Optional.of(rollout));
+        when(deploymentOutboxRepository.findByCommandIdAndWave(COMMAND_ID, 1)).thenReturn(Optional.of(
+                new DeploymentOutbox(COMMAND_ID, DEPLOYMENT_ID, 1, 51L, 60L, DeploymentDispatchService.FIRMWARE_DEPLOYMENT_ROUTE, DispatchMode.INLINE, "{}")
+        ));
+    }
+
+    @Test
+    void gateUsesOnlyTheLastWave() {
+        // 카나리가 모두 성공했다면 누적 성공률은 57/60(95%)이지만 직전 웨이브는 10대 중 7대만 성공
+        when(downloadEventsJdbcRepository.countLatestStatusByDeviceRange(COMMAND_ID, 51L, 60L))
+                .thenReturn(Map.of("SUCCESS", 7L, "FAILED", 3L));
+
+        ReflectionTestUtils.invokeMethod(service, "evaluate", ROLLOUT_ID);
+
+        assertThat(rollout.getReleasedWaves()).isEqualTo(2);
+        assertThat(rollout.getStatus()).isEqualTo(RolloutStatus.IN_PROGRESS);
+        verify(firmwareDeploymentDeviceJdbcRepository, never()).findDeviceIdsAfter(anyLong(), anyLong(), anyInt());
+        verify(deploymentDispatchService, never()).enqueue(any(), anyInt(), anyString(), any(), any());
+    }
+
+    @Test
+    void releasesNextWaveWhenLastWavePassesGate() {
+        when(downloadEventsJdbcRepository.countLatestStatusByDeviceRange(COMMAND_ID, 51L, 60L))
+                .thenReturn(Map.of("SUCCESS", 9L, "FAILED", 1L));
+        when(firmwareDeploymentDeviceJdbcRepository.findDeviceIdsAfter(eq(DEPLOYMENT_ID), eq(60L), eq(10)))
+                .thenReturn(List.of());
+
+        ReflectionTestUtils.invokeMethod(service, "evaluate", ROLLOUT_ID);
+
+        verify(firmwareDeploymentDeviceJdbcRepository).findDeviceIdsAfter(DEPLOYMENT_ID, 60L, 10);
+        assertThat(rollout.getReleasedWaves()).isEqualTo(3);
+        assertThat(rollout.getStatus()).isEqualTo(RolloutStatus.IN_PROGRESS);
+        assertThat(rollout.isFullyReleased()).isTrue();
+    }
+
+    @Test
+    void fullyReleasedRolloutCompletesOnlyAfterLastWaveIsSent() {
+        rollout.recordWave(40, 100L, OffsetDateTime.now());
+        when(deploymentOutboxRepository.existsByCommandIdAndStatus(COMMAND_ID, OutboxStatus.PENDING)).thenReturn(true, false);
+
+        ReflectionTestUtils.invokeMethod(service, "completeIfSent", ROLLOUT_ID);
+        assertThat(rollout.getStatus()).isEqualTo(RolloutStatus.IN_PROGRESS);
+
+        ReflectionTestUtils.invokeMethod(service, "completeIfSent", ROLLOUT_ID);
+        assertThat(rollout.getStatus()).isEqualTo(RolloutStatus.COMPLETED);
+    }
+
+    @Test
+    void firstWaveStartsBeforeNonPositiveDeviceIds() {
+        FirmwareDeployment deployment = rollout.getFirmwareDeployment();
+        DeploymentRollout fresh = new DeploymentRollout(deployment, 100, null, 0, 0.9, 2);
+
+        assertThat(fresh.getLastReleasedDeviceId()).isEqualTo(Long.MIN_VALUE);
+    }
+}
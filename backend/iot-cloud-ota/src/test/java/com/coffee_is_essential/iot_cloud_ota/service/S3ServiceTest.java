@@ -0,0 +1,144 @@
+package com.coffee_is_essential.iot_cloud_ota.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.coffee_is_essential.iot_cloud_ota.domain.S3FileHashResult;
+import com.coffee_is_essential.iot_cloud_ota.repository.AdsMetadataJpaRepository;
+import com.coffee_is_essential.iot_cloud_ota.repository.FirmwareMetadataJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3ServiceTest {
+    private static final String BUCKET = "ota-bucket";
+    private static final String PATH = "firmware-path";
+    private static final int MB = 1024 * 1024;
+    private static final String ETAG = "\"0123456789abcdef\"";
+
+    private final AmazonS3 amazonS3 = mock(AmazonS3.class);
+    private final S3Service service = new S3Service(amazonS3, mock(FirmwareMetadataJpaRepository.class), mock(AdsMetadataJpaRepository.class));
+    private final List<long[]> requestedRanges = new CopyOnWriteArrayList<>();
+    private final List<String> requestedETags = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(service, "hashPartSizeMb", 1L);
+        ReflectionTestUtils.setField(service, "hashParallelism", 2);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void digestsRangedReadsInObjectOrder() throws NoSuchAlgorithmException {
+        byte[] content = new byte[5 * MB / 2];
+        new Random(42).nextBytes(content);
+        storeObject(content);
+
+        S3FileHashResult result = service.calculateS3FileHash(PATH);
+
+        assertThat(result.fileSize()).isEqualTo(content.length);
+        assertThat(result.fileHash()).isEqualTo(sha256(content));
+        assertThat(requestedRanges)
+                .extracting(range -> range[0])
+                .containsExactlyInAnyOrder(0L, (long) MB, 2L * MB);
+        assertThat(requestedRanges)
+                .filteredOn(range -> range[0] == 2L * MB)
+                .singleElement()
+                .satisfies(range -> assertThat(range[1]).isEqualTo(content.length - 1L));
+    }
+
+    @Test
+    void emptyObjectHasEmptyDigest() throws NoSuchAlgorithmException {
+        storeObject(new byte[0]);
+
+        S3FileHashResult result = service.calculateS3FileHash(PATH);
+
+        assertThat(result.fileSize()).isZero();
+        assertThat(result.fileHash()).isEqualTo(sha256(new byte[0]));
+        assertThat(requestedRanges).isEmpty();
+    }
+
+    @Test
+    void failedRangeReadIsReportedAsBadRequest() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(3L * MB);
+        metadata.setHeader(Headers.ETAG, ETAG);
+        when(amazonS3.getObjectMetadata(BUCKET, PATH)).thenReturn(metadata);
+        when(amazonS3.getObject(any(GetObjectRequest.class))).thenThrow(new AmazonS3Exception("NoSuchKey"));
+
+        assertThatThrownBy(() -> service.calculateS3FileHash(PATH))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void everyRangedReadRequiresTheInitialETag() {
+        storeObject(new byte[3 * MB]);
+
+        service.calculateS3FileHash(PATH);
+
+        assertThat(requestedETags).hasSize(3).containsOnly(ETAG);
+    }
+
+    @Test
+    void objectChangedDuringHashIsReportedAsConflict() {
+        storeObject(new byte[3 * MB]);
+        when(amazonS3.getObject(any(GetObjectRequest.class))).thenReturn(null);
+
+        assertThatThrownBy(() -> service.calculateS3FileHash(PATH))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    /**
+     * 주어진 바이트 배열을 S3 객체처럼 돌려주도록 메타데이터 조회와 Range GET을 대체합니다.
+     */
+    private void storeObject(byte[] content) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setHeader(Headers.ETAG, ETAG);
+        when(amazonS3.getObjectMetadata(BUCKET, PATH)).thenReturn(metadata);
+
+        when(amazonS3.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            long[] range = request.getRange();
+            requestedRanges.add(range);
+            requestedETags.addAll(request.getMatchingETagConstraints());
+
+            S3Object s3Object = new S3Object();
+            s3Object.setObjectContent(new ByteArrayInputStream(Arrays.copyOfRange(content, (int) range[0], (int) range[1] + 1)));
+            return s3Object;
+        });
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
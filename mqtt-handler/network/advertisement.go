@@ -29,12 +29,14 @@ func newAdsRouter(router *Network) *advertisementRouter {
 			mqttClient: mqttclient.NewMqttClient(),
 		}
 		router.adsDeployPOST("/api/advertisements/deployment", advertisementRouterInstance.sendAdvertisement)
+		router.adsDeployPOST("/api/advertisements/deployment/stream", advertisementRouterInstance.sendAdvertisementStream)
 	})
 
 	return advertisementRouterInstance
 }
 
 // 광고 배포 요청을 처리하는 핸들러 함수
+// 같은 Idempotency-Key로 재전송된 요청은 다시 발행하지 않고 성공 응답만 보냅니다.
 func (f *advertisementRouter) sendAdvertisement(w http.ResponseWriter, r *http.Request) {
 	var req types.AdsDeployRequest
 
@@ -54,13 +56,28 @@ func (f *advertisementRouter) sendAdvertisement(w http.ResponseWriter, r *http.R
 
 	//PrintDownloadAdsRequestLog(&req)
 
-	f.mqttClient.PublishAdsDownloadRequest(&req)
+	if !isDuplicateRequest(r) {
+		f.mqttClient.PublishAdsDownloadRequest(&req)
+	}
 	f.router.okResponse(w, types.AdsDeployResponse{
 		ApiResponse: types.NewApiResponse("광고 배포 요청 성공"),
 	})
 
 }
 
+// 대상 디바이스 목록을 청크 단위 스트림으로 받는 광고 배포 요청 핸들러 함수
+func (f *advertisementRouter) sendAdvertisementStream(w http.ResponseWriter, r *http.Request) {
+	var req types.AdsDeployRequest
+	f.router.handleDeployStream(w, r, &req,
+		func() bool { return req.CommandId != "" && len(req.Contents) > 0 },
+		func(devices []types.DeviceIds) {
+			chunkReq := req
+			chunkReq.Devices = devices
+			f.mqttClient.PublishAdsDownloadRequest(&chunkReq)
+		},
+	)
+}
+
 // 광고 배포 요청을 처리하는 POST 전용 라우팅 핸들러 등록 함수
 func (n *Network) adsDeployPOST(path string, handler http.HandlerFunc) {
 	postOnlyHandler := func(w http.ResponseWriter, r *http.Request) {
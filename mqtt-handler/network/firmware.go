@@ -30,6 +30,7 @@ func newFirmwareRouter(router *Network) *firmwareRouter {
 			mqttClient: mqttclient.NewMqttClient(),
 		}
 		router.firmwareDeployPOST("/api/firmwares/deployment", firmwareRouterInstance.firmwareDeploy)
+		router.firmwareDeployPOST("/api/firmwares/deployment/stream", firmwareRouterInstance.firmwareDeployStream)
 		router.firmwareDeployPOST("/api/firmwares/deployment/cancel", firmwareRouterInstance.cancelFirmwareDeploy)
 
 	})
@@ -38,6 +39,7 @@ func newFirmwareRouter(router *Network) *firmwareRouter {
 }
 
 // 클라이언트의 펌웨어 배포 요청을 처리하는 엔드포인트입니다.
+// 같은 Idempotency-Key로 재전송된 요청은 다시 발행하지 않고 성공 응답만 보냅니다.
 func (f *firmwareRouter) firmwareDeploy(w http.ResponseWriter, r *http.Request) {
 	var req types.FirmwareDeployRequest
 	if err := json.NewDecoder(r.Body).Decode(&req); err != nil {
@@ -56,12 +58,27 @@ func (f *firmwareRouter) firmwareDeploy(w http.ResponseWriter, r *http.Request)
 
 	//PrintDownloadLog(&req)
 
-	f.mqttClient.PublishDownloadRequest(&req)
+	if !isDuplicateRequest(r) {
+		f.mqttClient.PublishDownloadRequest(&req)
+	}
 	f.router.okResponse(w, types.FirmwareDeployResponse{
 		ApiResponse: types.NewApiResponse("배포 요청 성공"),
 	})
 }
 
+// 대상 디바이스 목록을 청크 단위 스트림으로 받는 펌웨어 배포 요청 엔드포인트입니다.
+func (f *firmwareRouter) firmwareDeployStream(w http.ResponseWriter, r *http.Request) {
+	var req types.FirmwareDeployRequest
+	f.router.handleDeployStream(w, r, &req,
+		func() bool { return req.CommandId != "" },
+		func(devices []types.DeviceIds) {
+			chunkReq := req
+			chunkReq.Devices = devices
+			f.mqttClient.PublishDownloadRequest(&chunkReq)
+		},
+	)
+}
+
 // 클라이언트의 펌웨어 배포 취소 요청을 처리하는 엔드포인트입니다.
 func (f *firmwareRouter) cancelFirmwareDeploy(w http.ResponseWriter, r *http.Request) {
 	var req types.DeployCancelRequest
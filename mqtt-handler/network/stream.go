@@ -0,0 +1,141 @@
+package network
+
+import (
+	"compress/gzip"
+	"encoding/json"
+	"errors"
+	"io"
+	"log"
+	"mqtt-handler/types"
+	"net/http"
+	"strconv"
+	"sync"
+	"time"
+)
+
+// 처리한 청크 기록을 보관하는 기간과 만료된 기록을 정리하는 주기입니다.
+const (
+	processedChunkTTL   = 24 * time.Hour
+	processedChunkPrune = time.Minute
+)
+
+// 배포 요청에서 이미 처리한 Idempotency-Key 기록입니다.
+// 스트리밍 요청은 (Idempotency-Key, 청크 번호) 단위로, 단건 요청은 Idempotency-Key 단위로 기록합니다.
+// 확인 응답이 유실되어 같은 요청이나 청크가 다시 전달되어도 디바이스에 배포 요청을 중복 발행하지 않습니다.
+type chunkDeduper struct {
+	mu        sync.Mutex
+	seen      map[string]time.Time
+	lastPrune time.Time
+}
+
+var processedChunks = &chunkDeduper{seen: make(map[string]time.Time)}
+
+// 처음 처리하는 청크이면 기록하고 true를 반환합니다.
+func (d *chunkDeduper) firstSeen(key string, chunk int) bool {
+	return d.record(key + "#" + strconv.Itoa(chunk))
+}
+
+// 처음 처리하는 단건 요청이면 기록하고 true를 반환합니다.
+func (d *chunkDeduper) firstSeenRequest(key string) bool {
+	return d.record(key)
+}
+
+// 처음 보는 id이면 기록하고 true를 반환합니다.
+// 정리 주기가 지났으면 보관 기간이 지난 기록을 함께 정리합니다.
+func (d *chunkDeduper) record(id string) bool {
+	now := time.Now()
+
+	d.mu.Lock()
+	defer d.mu.Unlock()
+
+	if now.Sub(d.lastPrune) > processedChunkPrune {
+		for k, at := range d.seen {
+			if now.Sub(at) > processedChunkTTL {
+				delete(d.seen, k)
+			}
+		}
+		d.lastPrune = now
+	}
+
+	if _, ok := d.seen[id]; ok {
+		return false
+	}
+	d.seen[id] = now
+	return true
+}
+
+// Idempotency-Key 헤더가 있고 같은 키로 이미 처리한 단건 배포 요청이면 true를 반환합니다.
+// 헤더가 없는 요청은 중복 여부를 판단할 수 없으므로 항상 처리합니다.
+func isDuplicateRequest(r *http.Request) bool {
+	key := r.Header.Get("Idempotency-Key")
+	if key == "" || processedChunks.firstSeenRequest(key) {
+		return false
+	}
+
+	log.Printf("[DEPLOY] 중복 요청 무시: key=%s", key)
+	return true
+}
+
+// gzip 압축된 NDJSON 배포 요청 스트림을 처리합니다.
+// 첫 줄은 대상 목록을 제외한 배포 요청 헤더이고, 이후 각 줄은 대상 디바이스 청크입니다.
+// 청크를 처리할 때마다 확인 응답(ChunkAck)을 한 줄씩 기록하고 바로 flush 합니다.
+// Idempotency-Key 헤더가 있으면 같은 키로 이미 처리한 청크는 다시 발행하지 않고 확인 응답만 보냅니다.
+func (n *Network) handleDeployStream(
+	w http.ResponseWriter,
+	r *http.Request,
+	header interface{},
+	validate func() bool,
+	onChunk func(devices []types.DeviceIds),
+) {
+	body := io.Reader(r.Body)
+	if r.Header.Get("Content-Encoding") == "gzip" {
+		gz, err := gzip.NewReader(r.Body)
+		if err != nil {
+			n.failedResponse(w, types.FirmwareDeployResponse{
+				ApiResponse: types.NewApiResponse("파싱 오류"),
+			})
+			return
+		}
+		defer gz.Close()
+		body = gz
+	}
+
+	dec := json.NewDecoder(body)
+	if err := dec.Decode(header); err != nil {
+		n.failedResponse(w, types.FirmwareDeployResponse{
+			ApiResponse: types.NewApiResponse("파싱 오류"),
+		})
+		return
+	}
+	if !validate() {
+		n.failedResponse(w, types.FirmwareDeployResponse{
+			ApiResponse: types.NewApiResponse("필수 필드 누락"),
+		})
+		return
+	}
+
+	rc := http.NewResponseController(w)
+	_ = rc.EnableFullDuplex()
+	w.Header().Set("Content-Type", "application/x-ndjson")
+	w.WriteHeader(http.StatusOK)
+
+	idempotencyKey := r.Header.Get("Idempotency-Key")
+	enc := json.NewEncoder(w)
+	for {
+		var chunk types.DeviceChunk
+		if err := dec.Decode(&chunk); err != nil {
+			if !errors.Is(err, io.EOF) {
+				log.Printf("[ERROR] 배포 스트림 파싱 실패: %v", err)
+			}
+			return
+		}
+
+		if idempotencyKey == "" || processedChunks.firstSeen(idempotencyKey, chunk.Chunk) {
+			onChunk(chunk.Devices)
+		} else {
+			log.Printf("[STREAM] 중복 청크 무시: key=%s, chunk=%d", idempotencyKey, chunk.Chunk)
+		}
+		_ = enc.Encode(types.ChunkAck{Chunk: chunk.Chunk, Accepted: len(chunk.Devices)})
+		_ = rc.Flush()
+	}
+}
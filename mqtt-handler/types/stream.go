@@ -0,0 +1,13 @@
+package types
+
+// 스트리밍 배포 요청에서 대상 디바이스를 나누어 전달하는 청크입니다.
+type DeviceChunk struct {
+	Chunk   int         `json:"chunk"`
+	Devices []DeviceIds `json:"devices"`
+}
+
+// 스트리밍 배포 요청의 청크를 처리한 뒤 응답하는 확인 메시지입니다.
+type ChunkAck struct {
+	Chunk    int `json:"chunk"`
+	Accepted int `json:"accepted"`
+}